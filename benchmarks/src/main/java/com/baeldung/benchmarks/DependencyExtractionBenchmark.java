@@ -0,0 +1,48 @@
+package com.baeldung.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.baeldung.common.dto.DependencyDto;
+import com.baeldung.common.dto.DependencyVersionDto;
+import com.baeldung.jsoup.ArticleDependencyVersionExtractor;
+
+/**
+ * Parsing the Maven snippets of an article to find the version of a dependency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DependencyExtractionBenchmark {
+
+    private static final DependencyDto GUAVA = new DependencyDto("com.google.guava", "guava");
+
+    private final ArticleDependencyVersionExtractor extractor = new ArticleDependencyVersionExtractor();
+    private Document article;
+
+    @Setup
+    public void setUp() {
+        article = Fixtures.article();
+    }
+
+    @Benchmark
+    public List<DependencyVersionDto> extractDependencyVersion() {
+        return extractor.extractDependencyVersion(GUAVA, article);
+    }
+
+}
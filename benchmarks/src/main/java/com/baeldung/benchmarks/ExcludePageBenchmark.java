@@ -0,0 +1,77 @@
+package com.baeldung.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.baeldung.common.GlobalConstants;
+import com.baeldung.common.Utils;
+
+/**
+ * The exclusion lookups done for every url and every test: 200 article urls against an exception list of 1 in 40
+ * articles, and the page tags against the skip tags of a test.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExcludePageBenchmark {
+
+    private static final Set<String> PAGE_TAGS = Set.of("java", "java-collections", "java-streams", "no-sidebar-optins");
+    private static final Set<String> SKIP_TAGS = Set.of("no-optins", "no-bottom-optins");
+
+    private List<String> urls;
+    private List<String> exceptions;
+
+    @Setup
+    public void setUp() {
+        final List<String> articles = Fixtures.articleUrls();
+        urls = new ArrayList<>();
+        exceptions = new ArrayList<>();
+        for (int i = 0; i < articles.size(); i++) {
+            if (i % 40 == 0) {
+                exceptions.add(articles.get(i));
+            }
+            if (i % 30 == 0 && urls.size() < 200) {
+                urls.add(GlobalConstants.BAELDUNG_HOME_PAGE_URL + articles.get(i));
+            }
+        }
+    }
+
+    @Benchmark
+    public void excludePageWithTrailingSlash(Blackhole blackhole) {
+        for (String url : urls) {
+            blackhole.consume(Utils.excludePage(url, exceptions, true));
+        }
+    }
+
+    @Benchmark
+    public void excludePageWithPredicate(Blackhole blackhole) {
+        for (String url : urls) {
+            blackhole.consume(Utils.excludePage(url, exceptions, (theCurrentUrl, anEntryIntheList) -> theCurrentUrl.endsWith(anEntryIntheList)));
+        }
+    }
+
+    @Benchmark
+    public void excludePageByTags(Blackhole blackhole) {
+        for (int i = 0; i < urls.size(); i++) {
+            blackhole.consume(Utils.excludePage(PAGE_TAGS, SKIP_TAGS));
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.baeldung.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+
+/**
+ * Loads the benchmark inputs: the fixtures of this module, taken from a real article and its titles, and the url
+ * lists shipped with blogwatch.
+ */
+final class Fixtures {
+
+    static final String ARTICLE_URL = "https://www.baeldung.com/java-8-collectors";
+
+    private Fixtures() {
+    }
+
+    static Document article() {
+        return Jsoup.parse(read("/fixtures/article.html"), ARTICLE_URL);
+    }
+
+    /**
+     * @return the titles of the article sections, each as its text and its inner HTML
+     */
+    static List<String[]> titles() {
+        return lines("/fixtures/titles.tsv").stream()
+            .map(line -> line.split("\t", 2))
+            .toList();
+    }
+
+    static List<String> gitHubLinks() {
+        return lines("/fixtures/github-links.txt");
+    }
+
+    static List<String> articleUrls() {
+        return lines("/blog-url-list/all-articles.txt");
+    }
+
+    static List<String> lines(String resource) {
+        return Arrays.stream(read(resource).split("\\R"))
+            .map(String::trim)
+            .filter(line -> !line.isEmpty())
+            .toList();
+    }
+
+    private static String read(String resource) {
+        try (InputStream in = Fixtures.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing fixture " + resource);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.baeldung.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.baeldung.common.GlobalConstants;
+import com.baeldung.common.vo.GitHubRepoVO;
+
+/**
+ * Matching the GitHub links of an article against the tutorials repositories, as done for every link of every
+ * article by the GitHub module checks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GitHubRepoBenchmark {
+
+    private List<String> links;
+
+    @Setup
+    public void setUp() {
+        links = Fixtures.gitHubLinks();
+    }
+
+    @Benchmark
+    public void canHandle(Blackhole blackhole) {
+        for (String link : links) {
+            for (GitHubRepoVO repo : GlobalConstants.tutorialsRepos) {
+                blackhole.consume(repo.canHandle(link));
+            }
+        }
+    }
+
+    @Benchmark
+    public void getLocalPathByUrl(Blackhole blackhole) {
+        for (String link : links) {
+            for (GitHubRepoVO repo : GlobalConstants.tutorialsRepos) {
+                blackhole.consume(repo.getLocalPathByUrl(link));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.baeldung.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.baeldung.common.JavaConstructExtractor;
+import com.baeldung.common.Utils;
+import com.baeldung.common.vo.JavaConstruct;
+
+/**
+ * Extracting the Java constructs of the code blocks of an article, parsing every block, and answered from the parse
+ * cache as for an article seen before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JavaConstructExtractionBenchmark {
+
+    private List<String> javaCode;
+    private JavaConstructExtractor uncachedExtractor;
+    private JavaConstructExtractor cachedExtractor;
+
+    @Setup
+    public void setUp() {
+        javaCode = Utils.getJavaCodeFromPreTagsInTheJSoupDocument(Fixtures.article());
+        uncachedExtractor = new JavaConstructExtractor(1, 0);
+        cachedExtractor = new JavaConstructExtractor(1, 100);
+        cachedExtractor.extract(javaCode);
+    }
+
+    @Benchmark
+    public List<JavaConstruct> extractParsing() {
+        return uncachedExtractor.extract(javaCode);
+    }
+
+    @Benchmark
+    public List<JavaConstruct> extractCached() {
+        return cachedExtractor.extract(javaCode);
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.baeldung.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.baeldung.common.Utils;
+import com.baeldung.site.strategy.ITitleAnalyzerStrategy;
+
+/**
+ * The title capitalization check, run on every h2 and h3 of every article: tokenizing, finding the emphasized words
+ * and running the strategies on the titles of an article.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TitleAnalysisBenchmark {
+
+    private static final List<String> TOKEN_EXCEPTIONS = List.of("jOOQ", "IDEs", "O(n)", "O(n^2)", "O(log n)", "O(n log n)");
+
+    private List<String> titles;
+    private List<String> innerHtmls;
+    private List<List<String>> tokens;
+    private List<List<String>> emphasizedTokens;
+
+    @Setup
+    public void setUp() {
+        titles = Fixtures.titles()
+            .stream()
+            .map(title -> title[0])
+            .toList();
+        innerHtmls = Fixtures.titles()
+            .stream()
+            .map(title -> title[1])
+            .toList();
+        tokens = titles.stream()
+            .map(Utils::titleTokenizer)
+            .toList();
+        emphasizedTokens = innerHtmls.stream()
+            .map(Utils::getEMAndItalicTagValues)
+            .toList();
+    }
+
+    @Benchmark
+    public void titleTokenizer(Blackhole blackhole) {
+        for (String title : titles) {
+            blackhole.consume(Utils.titleTokenizer(title));
+        }
+    }
+
+    @Benchmark
+    public void emAndItalicTagValues(Blackhole blackhole) {
+        for (String innerHtml : innerHtmls) {
+            blackhole.consume(Utils.getEMAndItalicTagValues(innerHtml));
+        }
+    }
+
+    @Benchmark
+    public void titleAnalyzerStrategies(Blackhole blackhole) {
+        for (int i = 0; i < titles.size(); i++) {
+            for (ITitleAnalyzerStrategy strategy : ITitleAnalyzerStrategy.titleAnalyzerStrategies) {
+                blackhole.consume(strategy.isTitleValid(titles.get(i), tokens.get(i), emphasizedTokens.get(i), TOKEN_EXCEPTIONS));
+            }
+        }
+    }
+
+}
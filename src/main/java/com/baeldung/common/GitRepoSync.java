@@ -0,0 +1,307 @@
+package com.baeldung.common;
+
+import static com.baeldung.common.ConsoleColors.magentaColordMessage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.ResetCommand.ResetType;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.diff.DiffEntry;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.treewalk.CanonicalTreeParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.baeldung.common.vo.GitHubRepoVO;
+import com.baeldung.filevisitor.RepositoryIndex;
+
+/**
+ * Keeps local checkouts of git repositories up to date.
+ * <br/>
+ * An existing checkout is updated with a fetch followed by a hard reset and a clean, a repository is only cloned again
+ * when it is missing or broken. Repositories are synced in parallel and at most once per JVM, later callers just wait
+ * for the first sync to finish. Only a reclone runs again, once the syncs of the repository in flight are done.
+ * <br/>
+ * Shallow and blobless clones need the git command line, without it the repositories are fully cloned with jgit.
+ * The clone mode and the parallelism can be set with the {@code git.clone.mode} and {@code git.sync.parallelism}
+ * system properties.
+ */
+@ThreadSafe
+public class GitRepoSync {
+
+    private static final Logger logger = LoggerFactory.getLogger(GitRepoSync.class);
+
+    private static final String BRANCH = "master";
+    private static final long GIT_COMMAND_TIMEOUT_MINUTES = 30;
+
+    private static final GitRepoSync SHARED = new GitRepoSync(
+        CloneMode.valueOf(System.getProperty("git.clone.mode", CloneMode.BLOBLESS.name()).toUpperCase(Locale.ROOT)),
+        Integer.getInteger("git.sync.parallelism", 4));
+
+    public enum CloneMode {
+        FULL, SHALLOW, BLOBLESS
+    }
+
+    private final CloneMode cloneMode;
+    private final boolean gitCommandAvailable;
+    private final ExecutorService executor;
+    private final ConcurrentMap<Path, CompletableFuture<Void>> syncs = new ConcurrentHashMap<>();
+
+    public GitRepoSync(CloneMode cloneMode, int parallelism) {
+        this.cloneMode = cloneMode;
+        this.gitCommandAvailable = isGitCommandAvailable();
+        final AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "git-repo-sync-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (cloneMode != CloneMode.FULL && !gitCommandAvailable) {
+            logger.warn("git command not found, repositories will be fully cloned with jgit");
+        }
+    }
+
+    public static GitRepoSync shared() {
+        return SHARED;
+    }
+
+    /**
+     * Syncs the repository, unless it was already synced in this JVM.
+     */
+    public void sync(Path repoDirectoryPath, String repoGitUrl) throws IOException {
+        sync(repoDirectoryPath, repoGitUrl, false);
+    }
+
+    /**
+     * Like {@link #sync(Path, String)}, cloning the repository again when {@code reclone} is set, even if the checkout
+     * could be updated or was already synced in this JVM.
+     */
+    public void sync(Path repoDirectoryPath, String repoGitUrl, boolean reclone) throws IOException {
+        join(repoDirectoryPath, start(repoDirectoryPath, repoGitUrl, reclone));
+    }
+
+    /**
+     * Syncs all the repositories in parallel and waits for them. Fails once all syncs are done if any of them failed.
+     */
+    public void syncAll(Collection<GitHubRepoVO> repos) throws IOException {
+        final List<Path> paths = new ArrayList<>();
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (GitHubRepoVO repo : repos) {
+            paths.add(Path.of(repo.repoLocalPath()));
+            futures.add(start(Path.of(repo.repoLocalPath()), repo.repoUrl(), false));
+        }
+
+        IOException failure = null;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                join(paths.get(i), futures.get(i));
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * @return the commit id of the HEAD of the checkout, empty when it isn't a git checkout
+     */
+    public static Optional<String> resolveHead(Path repoDirectoryPath) {
+        if (!Files.isDirectory(repoDirectoryPath.resolve(Constants.DOT_GIT))) {
+            return Optional.empty();
+        }
+        try (Git git = Git.open(repoDirectoryPath.toFile())) {
+            return Optional.ofNullable(git.getRepository().resolve(Constants.HEAD)).map(ObjectId::name);
+        } catch (IOException e) {
+            logger.warn("Couldn't resolve the HEAD of {}: {}", repoDirectoryPath, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return paths, relative to the repository root, of the files added, modified or deleted between the two commits.
+     * Empty when the diff can't be computed, e.g. a commit isn't in a shallow checkout anymore.
+     */
+    public static Optional<Set<String>> changedPaths(Path repoDirectoryPath, String fromCommit, String toCommit) {
+        try (Git git = Git.open(repoDirectoryPath.toFile()); ObjectReader reader = git.getRepository().newObjectReader()) {
+            final Repository repository = git.getRepository();
+            final ObjectId fromTree = repository.resolve(fromCommit + "^{tree}");
+            final ObjectId toTree = repository.resolve(toCommit + "^{tree}");
+            if (fromTree == null || toTree == null) {
+                return Optional.empty();
+            }
+            final List<DiffEntry> diffs = git.diff()
+                .setOldTree(new CanonicalTreeParser(null, reader, fromTree))
+                .setNewTree(new CanonicalTreeParser(null, reader, toTree))
+                .setShowNameAndStatusOnly(true)
+                .call();
+            final Set<String> paths = new HashSet<>();
+            for (DiffEntry diff : diffs) {
+                if (!DiffEntry.DEV_NULL.equals(diff.getOldPath())) {
+                    paths.add(diff.getOldPath());
+                }
+                if (!DiffEntry.DEV_NULL.equals(diff.getNewPath())) {
+                    paths.add(diff.getNewPath());
+                }
+            }
+            return Optional.of(paths);
+        } catch (IOException | GitAPIException e) {
+            logger.warn("Couldn't diff {} from {} to {}: {}", repoDirectoryPath, fromCommit, toCommit, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private CompletableFuture<Void> start(Path repoDirectoryPath, String repoGitUrl, boolean reclone) {
+        final Path key = repoDirectoryPath.toAbsolutePath().normalize();
+        final CompletableFuture<Void> sync = syncs.compute(key, (path, previous) -> {
+            if (previous != null && !reclone) {
+                return previous;
+            }
+            // a reclone replaces the memoized sync, after the one in flight if any
+            final CompletableFuture<Void> before = previous == null ? CompletableFuture.completedFuture(null) : previous.exceptionally(error -> null);
+            return before.thenRunAsync(() -> {
+                try {
+                    doSync(path, repoGitUrl, reclone);
+                    RepositoryIndex.invalidate(path);
+                } catch (IOException | GitAPIException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor);
+        });
+        // a failed sync can be retried by a later caller
+        sync.whenComplete((result, error) -> {
+            if (error != null) {
+                syncs.remove(key, sync);
+            }
+        });
+        return sync;
+    }
+
+    private static void join(Path repoDirectoryPath, CompletableFuture<Void> sync) throws IOException {
+        try {
+            sync.join();
+        } catch (CompletionException e) {
+            throw new IOException("Couldn't sync the repository at " + repoDirectoryPath, e.getCause());
+        }
+    }
+
+    private void doSync(Path repoDirectoryPath, String repoGitUrl, boolean reclone) throws IOException, GitAPIException {
+        if (!reclone && Files.isDirectory(repoDirectoryPath.resolve(".git"))) {
+            try {
+                logger.info(magentaColordMessage("Updating {}"), repoDirectoryPath);
+                update(repoDirectoryPath);
+                logger.info(magentaColordMessage("{} is up to date"), repoDirectoryPath);
+                return;
+            } catch (IOException | GitAPIException e) {
+                logger.error("Error while updating {}: {}. Will clone the repository again", repoDirectoryPath, e.getMessage());
+            }
+        }
+        FileUtils.deleteDirectory(repoDirectoryPath.toFile());
+        Files.createDirectories(repoDirectoryPath.getParent());
+
+        logger.info(magentaColordMessage("Cloning {} ({} clone). This may take a few minutes"), repoGitUrl, useGitCommand() ? cloneMode : CloneMode.FULL);
+        clone(repoDirectoryPath, repoGitUrl);
+        logger.info(magentaColordMessage("{} cloned"), repoGitUrl);
+    }
+
+    private void update(Path repoDirectoryPath) throws IOException, GitAPIException {
+        if (useGitCommand()) {
+            if (cloneMode == CloneMode.SHALLOW) {
+                git(repoDirectoryPath, "fetch", "--depth", "1", "origin", BRANCH);
+            } else {
+                git(repoDirectoryPath, "fetch", "origin", BRANCH);
+            }
+            git(repoDirectoryPath, "reset", "--hard", "FETCH_HEAD");
+            git(repoDirectoryPath, "clean", "-fdx");
+            return;
+        }
+        try (Git git = Git.open(repoDirectoryPath.toFile())) {
+            git.fetch().setRemote("origin").setRemoveDeletedRefs(true).call();
+            git.reset().setMode(ResetType.HARD).setRef("origin/" + BRANCH).call();
+            git.clean().setForce(true).setIgnore(false).setCleanDirectories(true).call();
+        }
+    }
+
+    private void clone(Path repoDirectoryPath, String repoGitUrl) throws IOException, GitAPIException {
+        if (useGitCommand()) {
+            final String directory = repoDirectoryPath.toString();
+            switch (cloneMode) {
+                case SHALLOW -> git(null, "clone", "--depth", "1", "--branch", BRANCH, repoGitUrl, directory);
+                case BLOBLESS -> git(null, "clone", "--filter=blob:none", "--branch", BRANCH, repoGitUrl, directory);
+                default -> git(null, "clone", "--branch", BRANCH, repoGitUrl, directory);
+            }
+            return;
+        }
+        Git.cloneRepository().setURI(repoGitUrl).setDirectory(repoDirectoryPath.toFile()).call().close();
+    }
+
+    private boolean useGitCommand() {
+        return gitCommandAvailable && cloneMode != CloneMode.FULL;
+    }
+
+    private static void git(Path workingDirectory, String... args) throws IOException {
+        final List<String> command = new ArrayList<>();
+        command.add("git");
+        if (workingDirectory != null) {
+            command.add("-C");
+            command.add(workingDirectory.toString());
+        }
+        command.addAll(List.of(args));
+
+        final Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        final String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        try {
+            if (!process.waitFor(GIT_COMMAND_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+                process.destroyForcibly();
+                throw new IOException("Timed out: " + String.join(" ", command));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            process.destroyForcibly();
+            throw new IOException("Interrupted: " + String.join(" ", command), e);
+        }
+        if (process.exitValue() != 0) {
+            throw new IOException(String.join(" ", command) + " exited with " + process.exitValue() + ": " + output.trim());
+        }
+    }
+
+    private static boolean isGitCommandAvailable() {
+        try {
+            git(null, "--version");
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+}
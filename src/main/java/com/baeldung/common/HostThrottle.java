@@ -0,0 +1,210 @@
+package com.baeldung.common;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+/**
+ * Throttles requests per host, each host having its own token bucket.
+ * <br/>
+ * The rate of a host adapts to its responses: every successful response adds {@code additiveIncrease / rate}, i.e.
+ * about {@code additiveIncrease} requests per second for each second of traffic, up to the max rate of the host. A 429
+ * or 503 multiplies the rate by {@code decreaseFactor}, at most once per second so a burst of rejected requests counts
+ * once, and its Retry-After header pauses the host.
+ * <br/>
+ * Defaults can be overridden with the {@code host-throttle.*} system properties, and the max rate of a single host
+ * with {@code host-throttle.max-rate.<host>}, e.g. {@code host-throttle.max-rate.github.com}.
+ */
+@ThreadSafe
+public class HostThrottle {
+
+    private static final Logger logger = LoggerFactory.getLogger(HostThrottle.class);
+
+    private static final long DECREASE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final Duration MAX_RETRY_AFTER = Duration.ofMinutes(5);
+
+    // @formatter:off
+    private static final HostThrottle SHARED = new HostThrottle(
+            Double.parseDouble(System.getProperty("host-throttle.initial-rate", "1")),
+            Double.parseDouble(System.getProperty("host-throttle.min-rate", "0.2")),
+            Double.parseDouble(System.getProperty("host-throttle.max-rate", "10")),
+            Double.parseDouble(System.getProperty("host-throttle.additive-increase", "0.5")),
+            Double.parseDouble(System.getProperty("host-throttle.decrease-factor", "0.5")));
+    // @formatter:on
+
+    public record HostMetrics(double rate, long requests, long throttledResponses, long waitedMillis) {
+    }
+
+    private final double initialRate;
+    private final double minRate;
+    private final double maxRate;
+    private final double additiveIncrease;
+    private final double decreaseFactor;
+    private final ConcurrentMap<String, Host> hosts = new ConcurrentHashMap<>();
+
+    public HostThrottle(double initialRate, double minRate, double maxRate, double additiveIncrease, double decreaseFactor) {
+        this.initialRate = initialRate;
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.additiveIncrease = additiveIncrease;
+        this.decreaseFactor = decreaseFactor;
+    }
+
+    public static HostThrottle shared() {
+        return SHARED;
+    }
+
+    /**
+     * Waits until the host of the URL can take one more request. URLs without a host aren't throttled.
+     */
+    public void acquire(String url) {
+        final Host host = hostOf(url);
+        if (host == null) {
+            return;
+        }
+        final long start = System.nanoTime();
+        final long pausedForNanos = host.pausedUntilNanos - start;
+        if (pausedForNanos > 0) {
+            Utils.sleep((int) TimeUnit.NANOSECONDS.toMillis(pausedForNanos));
+        }
+        host.rateLimiter.acquire();
+        host.requests.increment();
+        host.waitedNanos.add(System.nanoTime() - start);
+    }
+
+    /**
+     * Adapts the rate of the host of the URL to the status of its response.
+     *
+     * @param retryAfter the Retry-After header of the response, in seconds or as an HTTP date, null when missing
+     */
+    public void onResponse(String url, int statusCode, String retryAfter) {
+        final Host host = hostOf(url);
+        if (host == null) {
+            return;
+        }
+        if (isThrottled(statusCode)) {
+            host.throttled(parseRetryAfter(retryAfter));
+        } else {
+            host.succeeded();
+        }
+    }
+
+    public static boolean isThrottled(int statusCode) {
+        return statusCode == 429 || statusCode == 503;
+    }
+
+    public double getRate(String url) {
+        final Host host = hostOf(url);
+        return host == null ? Double.POSITIVE_INFINITY : host.rateLimiter.getRate();
+    }
+
+    /**
+     * @return the metrics of each host, by host name
+     */
+    public Map<String, HostMetrics> getMetrics() {
+        final Map<String, HostMetrics> metrics = new TreeMap<>();
+        hosts.forEach((name, host) -> metrics.put(name, new HostMetrics(host.rateLimiter.getRate(), host.requests.sum(), host.throttledResponses.sum(),
+            TimeUnit.NANOSECONDS.toMillis(host.waitedNanos.sum()))));
+        return metrics;
+    }
+
+    public void logMetrics() {
+        getMetrics().forEach((name, metrics) -> logger.info("{}: {} requests, {} throttled, {} ms waited, {} requests/s", name, metrics.requests(), metrics.throttledResponses(),
+            metrics.waitedMillis(), String.format(Locale.ROOT, "%.2f", metrics.rate())));
+    }
+
+    static Duration parseRetryAfter(String retryAfter) {
+        if (StringUtils.isBlank(retryAfter)) {
+            return Duration.ZERO;
+        }
+        Duration delay;
+        try {
+            delay = Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                delay = Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+            } catch (DateTimeParseException dateTimeParseException) {
+                logger.debug("Ignoring unparsable Retry-After: {}", retryAfter);
+                return Duration.ZERO;
+            }
+        }
+        if (delay.isNegative()) {
+            return Duration.ZERO;
+        }
+        return delay.compareTo(MAX_RETRY_AFTER) > 0 ? MAX_RETRY_AFTER : delay;
+    }
+
+    private Host hostOf(String url) {
+        final String name;
+        try {
+            name = StringUtils.lowerCase(URI.create(url.trim()).getHost(), Locale.ROOT);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (name == null) {
+            return null;
+        }
+        return hosts.computeIfAbsent(name, newName -> {
+            final double hostMaxRate = Double.parseDouble(System.getProperty("host-throttle.max-rate." + newName, String.valueOf(maxRate)));
+            return new Host(newName, Math.min(initialRate, hostMaxRate), hostMaxRate);
+        });
+    }
+
+    private final class Host {
+
+        private final String name;
+        private final double hostMaxRate;
+        private final RateLimiter rateLimiter;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder throttledResponses = new LongAdder();
+        private final LongAdder waitedNanos = new LongAdder();
+        private volatile long pausedUntilNanos = System.nanoTime();
+        private long lastDecreaseNanos = System.nanoTime() - DECREASE_INTERVAL_NANOS;
+
+        private Host(String name, double rate, double hostMaxRate) {
+            this.name = name;
+            this.hostMaxRate = hostMaxRate;
+            this.rateLimiter = RateLimiter.create(rate);
+        }
+
+        private synchronized void succeeded() {
+            final double rate = rateLimiter.getRate();
+            if (rate < hostMaxRate) {
+                rateLimiter.setRate(Math.min(hostMaxRate, rate + additiveIncrease / rate));
+            }
+        }
+
+        private synchronized void throttled(Duration retryAfter) {
+            throttledResponses.increment();
+            final long now = System.nanoTime();
+            if (now - lastDecreaseNanos >= DECREASE_INTERVAL_NANOS) {
+                lastDecreaseNanos = now;
+                final double rate = Math.max(minRate, rateLimiter.getRate() * decreaseFactor);
+                rateLimiter.setRate(rate);
+                logger.info("{} is throttling, slowing down to {} requests/s", name, String.format(Locale.ROOT, "%.2f", rate));
+            }
+            if (!retryAfter.isZero()) {
+                pausedUntilNanos = Math.max(pausedUntilNanos, now + retryAfter.toNanos());
+                logger.info("{} asked to retry after {} s", name, retryAfter.toSeconds());
+            }
+        }
+    }
+
+}
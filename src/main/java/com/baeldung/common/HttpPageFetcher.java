@@ -0,0 +1,88 @@
+package com.baeldung.common;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Fetches the server-rendered HTML of pages with plain HTTP requests, for the checks which don't need a browser.
+ * <br/>
+ * All requests share one {@link HttpClient}, so connections to a host are reused, and are throttled per host by a
+ * {@link HostThrottle}. Throttled responses are retried a few times, following the host's Retry-After, and a page still
+ * throttled after the retries is a failed fetch: its body is the host's throttle page, not the page.
+ * <br/>
+ * The timeout can be set with the {@code http-page-fetcher.timeout-millis} system property.
+ */
+@ThreadSafe
+public class HttpPageFetcher {
+
+    private static final int MAX_RETRIES = 2;
+    private static final String USER_AGENT = "Mozilla/5.0 (compatible; blogwatch)";
+
+    private static final HttpPageFetcher SHARED = new HttpPageFetcher(HostThrottle.shared(), Duration.ofMillis(Long.getLong("http-page-fetcher.timeout-millis", 30000L)));
+
+    /**
+     * @param url the url of the final response, after redirects
+     */
+    public record FetchedPage(String url, int statusCode, String body) {
+    }
+
+    private final HostThrottle hostThrottle;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+
+    public HttpPageFetcher(HostThrottle hostThrottle, Duration timeout) {
+        this.hostThrottle = hostThrottle;
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(timeout)
+            .build();
+    }
+
+    public static HttpPageFetcher shared() {
+        return SHARED;
+    }
+
+    /**
+     * Fetches the page whatever its status, like a browser would render an error page.
+     *
+     * @throws IOException if the page couldn't be fetched, or the host kept throttling the requests
+     */
+    public FetchedPage fetch(String url) throws IOException {
+        final HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+            .header("User-Agent", USER_AGENT)
+            .header("Accept", "text/html,application/xhtml+xml")
+            .timeout(timeout)
+            .GET()
+            .build();
+        try {
+            for (int attempt = 0;; attempt++) {
+                hostThrottle.acquire(url);
+                final long start = System.nanoTime();
+                final HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                MetricsRegistry.shared().recordHttpFetch(url, start);
+                hostThrottle.onResponse(url, response.statusCode(), response.headers()
+                    .firstValue("Retry-After")
+                    .orElse(null));
+                if (!HostThrottle.isThrottled(response.statusCode())) {
+                    return new FetchedPage(response.uri()
+                        .toString(), response.statusCode(), response.body());
+                }
+                if (attempt >= MAX_RETRIES) {
+                    throw new IOException("Still throttled with " + response.statusCode() + " after " + MAX_RETRIES + " retries: " + url);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while fetching " + url);
+        }
+    }
+
+}
@@ -0,0 +1,175 @@
+package com.baeldung.common;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.baeldung.common.JavaConstructSet.Key;
+import com.baeldung.common.JavaConstructSet.TypeAndName;
+import com.baeldung.common.vo.JavaConstruct;
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * Extracts the classes, interfaces and methods declared in Java code.
+ * <br/>
+ * Each thread reuses its own {@link JavaParser}, and the constructs of a piece of code are cached by the hash of the
+ * code, so snippets repeated across posts and files are parsed once. Code that doesn't parse as a compilation unit,
+ * e.g. a snippet holding only methods, is parsed again wrapped into {@link GlobalConstants#CONSTRUCT_DUMMY_CLASS_NAME}.
+ * <br/>
+ * The parallelism of {@link #extractAll(Collection, CodeSource)} and the cache size can be set with the
+ * {@code java-constructs.parallelism} and {@code java-constructs.cache-size} system properties.
+ */
+@ThreadSafe
+public class JavaConstructExtractor {
+
+    private static final Logger logger = LoggerFactory.getLogger(JavaConstructExtractor.class);
+
+    private static final JavaConstructExtractor SHARED = new JavaConstructExtractor(
+        Integer.getInteger("java-constructs.parallelism", Runtime.getRuntime().availableProcessors()),
+        Long.getLong("java-constructs.cache-size", 20000L));
+
+    private static final ThreadLocal<JavaParser> PARSERS = ThreadLocal.withInitial(JavaParser::new);
+
+    /**
+     * Gives the pieces of Java code of a source, e.g. the code snippets of a post or the content of a Java file.
+     */
+    @FunctionalInterface
+    public interface CodeSource<T> {
+        Collection<String> codeOf(T source) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface SourceTask<T, R> {
+        R run(T source) throws IOException;
+    }
+
+    private final ForkJoinPool pool;
+    private final Cache<String, List<Key>> parsedCode;
+
+    public JavaConstructExtractor(int parallelism, long maxCachedCode) {
+        this.pool = new ForkJoinPool(parallelism);
+        this.parsedCode = CacheBuilder.newBuilder()
+            .maximumSize(maxCachedCode)
+            .build();
+    }
+
+    public static JavaConstructExtractor shared() {
+        return SHARED;
+    }
+
+    /**
+     * @return the constructs declared in the given pieces of code, a construct being listed once per type and name
+     */
+    public List<JavaConstruct> extract(Collection<String> code) {
+        final Set<TypeAndName> typesAndNames = new HashSet<>();
+        final List<JavaConstruct> javaConstructs = new ArrayList<>();
+        for (String piece : code) {
+            for (Key key : keysOf(piece)) {
+                if (typesAndNames.add(key.typeAndName())) {
+                    javaConstructs.add(new JavaConstruct(key.type(), key.parentTypeName(), key.name()));
+                }
+            }
+        }
+        return javaConstructs;
+    }
+
+    /**
+     * Fetches and extracts the constructs of all sources in parallel. Sources failing with an exception are logged
+     * and left out of the results.
+     *
+     * @return the constructs of each source, in the order of the sources
+     */
+    public <T> Map<T, List<JavaConstruct>> extractAll(Collection<T> sources, CodeSource<T> codeSource) {
+        return runAll(sources, source -> extract(codeSource.codeOf(source)));
+    }
+
+    /**
+     * Same as {@link #extractAll(Collection, CodeSource)}, but gives all the declarations of each source, without
+     * merging methods of the same name declared in different types.
+     */
+    public <T> Map<T, Set<Key>> extractKeysAll(Collection<T> sources, CodeSource<T> codeSource) {
+        return runAll(sources, source -> {
+            final Set<Key> keys = new LinkedHashSet<>();
+            codeSource.codeOf(source).forEach(code -> keys.addAll(keysOf(code)));
+            return keys;
+        });
+    }
+
+    private <T, R> Map<T, R> runAll(Collection<T> sources, SourceTask<T, R> task) {
+        // @formatter:off
+        return pool.submit(() -> sources.parallelStream()
+                .map(source -> Map.entry(source, runQuietly(source, task)))
+                .filter(entry -> entry.getValue().isPresent())
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().get(), (first, second) -> first, LinkedHashMap::new)))
+            .join();
+        // @formatter:on
+    }
+
+    private static <T, R> Optional<R> runQuietly(T source, SourceTask<T, R> task) {
+        try {
+            return Optional.of(task.run(source));
+        } catch (Exception e) {
+            logger.error("Error occurened while process:" + source + " .Error message:" + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return the declarations in the code, in the order they appear
+     */
+    public List<Key> keysOf(String code) {
+        try {
+            return parsedCode.get(Hashing.sha256().hashString(code, StandardCharsets.UTF_8).toString(), () -> parseUncached(code));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            logger.error("Error occured while processing Java code: " + e.getCause() + "\n" + code);
+            return List.of();
+        }
+    }
+
+    private static List<Key> parseUncached(String code) {
+        final JavaParser parser = PARSERS.get();
+        ParseResult<CompilationUnit> compilationUnit = parser.parse(code);
+        if (!compilationUnit.getProblems().isEmpty()) {
+            compilationUnit = parser.parse(GlobalConstants.CONSTRUCT_DUMMY_CLASS_START + code + GlobalConstants.CONSTRUCT_DUMMY_CLASS_END);
+        }
+        if (!compilationUnit.getProblems().isEmpty()) {
+            logger.error("Error occured while processing Java code: " + StringUtils.left(compilationUnit.getProblems().get(0).getMessage(), 100) + "\n" + code);
+            return List.of();
+        }
+
+        final List<Key> keys = new ArrayList<>();
+        compilationUnit.getResult()
+            .ifPresent(result -> result.findAll(ClassOrInterfaceDeclaration.class)
+                .forEach(c -> {
+                    keys.add(new Key(GlobalConstants.CONSTRUCT_TYPE_CLASS_OR_INTERFACE, null, c.getNameAsString()));
+                    c.getMethods()
+                        .forEach(m -> keys.add(new Key(GlobalConstants.CONSTRUCT_TYPE_METHOD, c.getNameAsString(), m.getNameAsString())));
+                }));
+        return List.copyOf(keys);
+    }
+
+}
@@ -0,0 +1,234 @@
+package com.baeldung.common;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.baeldung.common.JavaConstructSet.Key;
+import com.baeldung.common.vo.GitHubRepoVO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The classes, interfaces and methods declared in every Java file of the local checkouts of the given repositories.
+ * <br/>
+ * Strings are dictionary encoded: a declaration is stored as a single long holding its type and the dictionary ids of
+ * its parent type name and name, so each name is held once however many files declare it. The index is stored in a
+ * file along with the HEAD commit of each repository, and brought up to date by parsing again only the Java files
+ * changed since the stored commits.
+ * <br/>
+ * The constructs of a module, i.e. of all the Java files under the module directory, are gathered on the first lookup
+ * of the module. Later lookups of the module are answered in constant time.
+ */
+@ThreadSafe
+public class JavaConstructIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(JavaConstructIndex.class);
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String JAVA_FILE_EXTENSION = ".java";
+    private static final List<String> TYPES = List.of(GlobalConstants.CONSTRUCT_TYPE_CLASS_OR_INTERFACE, GlobalConstants.CONSTRUCT_TYPE_METHOD);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    record StoredIndex(int version, List<String> dictionary, Map<String, StoredRepo> repos) {
+    }
+
+    record StoredRepo(String headCommit, Map<String, long[]> files) {
+    }
+
+    private final Path indexFile;
+    private final Collection<GitHubRepoVO> repos;
+    private final JavaConstructExtractor extractor;
+
+    private final List<String> dictionary = new ArrayList<>();
+    private final Map<String, Integer> dictionaryIds = new HashMap<>();
+    private final Map<String, String> headCommits = new HashMap<>();
+    // repo name -> path of the file in the repo -> encoded constructs of the file
+    private final Map<String, NavigableMap<String, long[]>> files = new HashMap<>();
+    private final Map<Path, JavaConstructSet> modules = new ConcurrentHashMap<>();
+
+    private JavaConstructIndex(Path indexFile, Collection<GitHubRepoVO> repos, JavaConstructExtractor extractor) {
+        this.indexFile = indexFile;
+        this.repos = repos;
+        this.extractor = extractor;
+    }
+
+    /**
+     * Loads the index stored in the file and brings it up to date with the checkouts of the repositories, which are
+     * expected to be synced. The updated index is stored back in the file.
+     */
+    public static JavaConstructIndex load(Path indexFile, Collection<GitHubRepoVO> repos, JavaConstructExtractor extractor) throws IOException {
+        final JavaConstructIndex index = new JavaConstructIndex(indexFile, repos, extractor);
+        final StoredIndex stored = read(indexFile);
+        for (GitHubRepoVO repo : repos) {
+            index.update(repo, stored);
+        }
+        index.write();
+        return index;
+    }
+
+    /**
+     * @return the constructs of the module, empty when none of the repositories has it
+     */
+    public Optional<JavaConstructSet> getModuleConstructs(String gitHubModuleUrl) {
+        for (GitHubRepoVO repo : repos) {
+            final Path moduleDirectory = repo.getLocalPathByUrl(gitHubModuleUrl);
+            if (moduleDirectory != null && Files.isDirectory(moduleDirectory)) {
+                return Optional.of(modules.computeIfAbsent(moduleDirectory, directory -> collectModule(repo, directory)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public int getFileCount() {
+        return files.values().stream().mapToInt(Map::size).sum();
+    }
+
+    public int getDictionarySize() {
+        return dictionary.size();
+    }
+
+    private JavaConstructSet collectModule(GitHubRepoVO repo, Path moduleDirectory) {
+        final String modulePath = relativize(repo, moduleDirectory);
+        final NavigableMap<String, long[]> repoFiles = files.getOrDefault(repo.repoName(), new TreeMap<>());
+        final Map<String, long[]> moduleFiles = modulePath.isEmpty() ? repoFiles : repoFiles.subMap(modulePath + "/", true, modulePath + "0", false);
+
+        final JavaConstructSet javaConstructs = new JavaConstructSet();
+        moduleFiles.values().forEach(constructs -> {
+            for (long construct : constructs) {
+                javaConstructs.add(decode(construct));
+            }
+        });
+        logger.info("{} constructs in {} Java files of {}", javaConstructs.size(), moduleFiles.size(), moduleDirectory);
+        return javaConstructs;
+    }
+
+    private void update(GitHubRepoVO repo, StoredIndex stored) throws IOException {
+        final Path root = Path.of(repo.repoLocalPath());
+        final Optional<String> head = GitRepoSync.resolveHead(root);
+        final StoredRepo storedRepo = stored == null ? null : stored.repos().get(repo.repoName());
+        final NavigableMap<String, long[]> repoFiles = new TreeMap<>();
+        files.put(repo.repoName(), repoFiles);
+        head.ifPresent(commit -> headCommits.put(repo.repoName(), commit));
+
+        if (storedRepo != null && head.isPresent() && storedRepo.headCommit() != null) {
+            storedRepo.files().forEach((path, constructs) -> repoFiles.put(path, recode(constructs, stored.dictionary())));
+            if (head.get().equals(storedRepo.headCommit())) {
+                logger.info("Java construct index of {} is up to date at {}", repo.repoName(), head.get());
+                return;
+            }
+            final Optional<Set<String>> changedPaths = GitRepoSync.changedPaths(root, storedRepo.headCommit(), head.get());
+            if (changedPaths.isPresent()) {
+                final List<Path> changedJavaFiles = new ArrayList<>();
+                for (String changedPath : changedPaths.get()) {
+                    if (changedPath.endsWith(JAVA_FILE_EXTENSION)) {
+                        repoFiles.remove(changedPath);
+                        changedJavaFiles.add(root.resolve(changedPath));
+                    }
+                }
+                logger.info("Updating the Java construct index of {} from {} to {}, {} Java files changed", repo.repoName(), storedRepo.headCommit(), head.get(),
+                    changedJavaFiles.size());
+                parse(repo, changedJavaFiles.stream().filter(Files::isRegularFile).toList(), repoFiles);
+                return;
+            }
+            repoFiles.clear();
+        }
+
+        logger.info("Indexing the Java constructs of {}", root);
+        final List<Path> javaFiles;
+        try (Stream<Path> walk = Files.walk(root)) {
+            javaFiles = walk.filter(file -> !file.startsWith(root.resolve(".git")))
+                .filter(file -> file.getFileName().toString().endsWith(JAVA_FILE_EXTENSION))
+                .filter(Files::isRegularFile)
+                .toList();
+        }
+        parse(repo, javaFiles, repoFiles);
+    }
+
+    private void parse(GitHubRepoVO repo, List<Path> javaFiles, NavigableMap<String, long[]> repoFiles) {
+        // malformed input is replaced rather than failing the file, a few sources aren't UTF-8
+        extractor.extractKeysAll(javaFiles, file -> List.of(new String(Files.readAllBytes(file), StandardCharsets.UTF_8)))
+            .forEach((file, keys) -> repoFiles.put(relativize(repo, file), keys.stream().mapToLong(this::encode).toArray()));
+    }
+
+    /**
+     * type in the 2 highest bits, parent type name id + 1 (0 when there is no parent) in the next 31, name id in the lowest 31
+     */
+    private long encode(Key key) {
+        final long parentId = key.parentTypeName() == null ? 0 : idOf(key.parentTypeName()) + 1L;
+        return ((long) TYPES.indexOf(key.type()) << 62) | (parentId << 31) | idOf(key.name());
+    }
+
+    private Key decode(long construct) {
+        final int parentId = (int) ((construct >>> 31) & Integer.MAX_VALUE);
+        return new Key(TYPES.get((int) (construct >>> 62)), parentId == 0 ? null : dictionary.get(parentId - 1), dictionary.get((int) (construct & Integer.MAX_VALUE)));
+    }
+
+    private long[] recode(long[] constructs, List<String> storedDictionary) {
+        final long[] recoded = new long[constructs.length];
+        for (int i = 0; i < constructs.length; i++) {
+            final long construct = constructs[i];
+            final int parentId = (int) ((construct >>> 31) & Integer.MAX_VALUE);
+            recoded[i] = encode(new Key(TYPES.get((int) (construct >>> 62)), parentId == 0 ? null : storedDictionary.get(parentId - 1),
+                storedDictionary.get((int) (construct & Integer.MAX_VALUE))));
+        }
+        return recoded;
+    }
+
+    private int idOf(String value) {
+        return dictionaryIds.computeIfAbsent(value, newValue -> {
+            dictionary.add(newValue);
+            return dictionary.size() - 1;
+        });
+    }
+
+    private static String relativize(GitHubRepoVO repo, Path file) {
+        return Path.of(repo.repoLocalPath()).relativize(file).toString().replace(File.separatorChar, '/');
+    }
+
+    private static StoredIndex read(Path indexFile) {
+        if (!Files.isRegularFile(indexFile)) {
+            return null;
+        }
+        try {
+            final StoredIndex stored = objectMapper.readValue(indexFile.toFile(), StoredIndex.class);
+            return stored.version() == FORMAT_VERSION ? stored : null;
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable Java construct index {}: {}", indexFile, e.getMessage());
+            return null;
+        }
+    }
+
+    private void write() {
+        final Map<String, StoredRepo> storedRepos = new LinkedHashMap<>();
+        files.forEach((repoName, repoFiles) -> storedRepos.put(repoName, new StoredRepo(headCommits.get(repoName), repoFiles)));
+        try {
+            Files.createDirectories(indexFile.toAbsolutePath().getParent());
+            final Path temp = Files.createTempFile(indexFile.toAbsolutePath().getParent(), "java-constructs", ".tmp");
+            objectMapper.writeValue(temp.toFile(), new StoredIndex(FORMAT_VERSION, dictionary, storedRepos));
+            Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Couldn't store the Java construct index in {}: {}", indexFile, e.getMessage());
+        }
+    }
+
+}
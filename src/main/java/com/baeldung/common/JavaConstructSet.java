@@ -0,0 +1,65 @@
+package com.baeldung.common;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.baeldung.common.vo.JavaConstruct;
+
+/**
+ * Java constructs hashed by type, parent type and name, for constant time lookups.
+ * <br/>
+ * {@link #contains(JavaConstruct)} matches like {@link JavaConstruct#equalsTo(Object)}: a construct whose parent is
+ * {@link GlobalConstants#CONSTRUCT_DUMMY_CLASS_NAME} matches a construct of the same type and name in any parent.
+ */
+public class JavaConstructSet {
+
+    /**
+     * The identity of a construct. The parent type name is null for classes and interfaces.
+     */
+    public record Key(String type, String parentTypeName, String name) {
+
+        public static Key of(JavaConstruct javaConstruct) {
+            return new Key(javaConstruct.getConstructType(), javaConstruct.getConstructParentTypeName(), javaConstruct.getConstructName());
+        }
+
+        public TypeAndName typeAndName() {
+            return new TypeAndName(type, name);
+        }
+    }
+
+    public record TypeAndName(String type, String name) {
+    }
+
+    private final Set<Key> keys = new HashSet<>();
+    private final Set<TypeAndName> typesAndNames = new HashSet<>();
+
+    public JavaConstructSet() {
+    }
+
+    public JavaConstructSet(Collection<JavaConstruct> javaConstructs) {
+        javaConstructs.forEach(this::add);
+    }
+
+    public void add(JavaConstruct javaConstruct) {
+        add(Key.of(javaConstruct));
+    }
+
+    public void add(Key key) {
+        keys.add(key);
+        typesAndNames.add(key.typeAndName());
+    }
+
+    public boolean contains(JavaConstruct javaConstruct) {
+        final Key key = Key.of(javaConstruct);
+        if (GlobalConstants.CONSTRUCT_DUMMY_CLASS_NAME.equals(key.parentTypeName())) {
+            return typesAndNames.contains(key.typeAndName());
+        }
+        return keys.contains(key);
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.baeldung.common;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Verifies that links, e.g. the hrefs and srcs found on pages, resolve, following redirects.
+ * <br/>
+ * Links are checked with HEAD requests, and with a GET when the server rejects HEAD. Requests are sent in parallel on
+ * one {@link HttpClient}, so connections to a host are reused, and are throttled per host by a {@link HostThrottle}.
+ * The verdict of a link is kept for the run: a link found on many pages is requested once, even while its first
+ * request is still in flight.
+ * <br/>
+ * A link still answered with 429 Too Many Requests once the retries are exhausted is unknown rather than broken: the
+ * host refused to tell, so it isn't reported by {@link #findBrokenLinks(Collection)}.
+ * <br/>
+ * The parallelism and the timeout can be set with the {@code link-verifier.parallelism} and
+ * {@code link-verifier.timeout-millis} system properties.
+ */
+@ThreadSafe
+public class LinkVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(LinkVerifier.class);
+
+    private static final Set<Integer> HEAD_REJECTED_STATUSES = Set.of(403, 405, 501);
+    private static final int MAX_RETRIES = 2;
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private static final LinkVerifier SHARED = new LinkVerifier(HostThrottle.shared(), Integer.getInteger("link-verifier.parallelism", 16),
+        Duration.ofMillis(Long.getLong("link-verifier.timeout-millis", 20000L)));
+
+    /**
+     * @param statusCode the status of the final response, -1 when no response was received
+     */
+    public record LinkVerdict(String url, int statusCode, String error) {
+
+        public boolean isOk() {
+            return statusCode >= 200 && statusCode < 400;
+        }
+
+        /**
+         * @return whether the host kept throttling the requests, so the link couldn't be verified
+         */
+        public boolean isUnknown() {
+            return statusCode == TOO_MANY_REQUESTS;
+        }
+    }
+
+    private final HostThrottle hostThrottle;
+    private final Duration timeout;
+    private final ExecutorService executor;
+    private final HttpClient httpClient;
+    private final ConcurrentMap<String, CompletableFuture<LinkVerdict>> verdicts = new ConcurrentHashMap<>();
+
+    public LinkVerifier(HostThrottle hostThrottle, int parallelism, Duration timeout) {
+        this.hostThrottle = hostThrottle;
+        this.timeout = timeout;
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            final Thread thread = new Thread(runnable, "link-verifier-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(timeout)
+            .build();
+    }
+
+    public static LinkVerifier shared() {
+        return SHARED;
+    }
+
+    /**
+     * @return the verdict of the link, computed once per run
+     */
+    public CompletableFuture<LinkVerdict> verify(String url) {
+        return verdicts.computeIfAbsent(StringUtils.substringBefore(url.trim(), "#"), link -> CompletableFuture.supplyAsync(() -> request(link), executor));
+    }
+
+    /**
+     * Verifies the links in parallel and waits for all the verdicts.
+     *
+     * @return the verdict of each distinct link, in the order of the links
+     */
+    public Map<String, LinkVerdict> verifyAll(Collection<String> urls) {
+        final Map<String, CompletableFuture<LinkVerdict>> pending = new LinkedHashMap<>();
+        urls.stream()
+            .filter(StringUtils::isNotBlank)
+            .forEach(url -> pending.computeIfAbsent(url, this::verify));
+
+        final Map<String, LinkVerdict> results = new LinkedHashMap<>();
+        pending.forEach((url, verdict) -> results.put(url, verdict.join()));
+        return results;
+    }
+
+    /**
+     * @return the verdicts of the links which don't resolve, the unknown ones are only logged
+     */
+    public Map<String, LinkVerdict> findBrokenLinks(Collection<String> urls) {
+        final Map<String, LinkVerdict> brokenLinks = new LinkedHashMap<>();
+        verifyAll(urls).forEach((url, verdict) -> {
+            if (verdict.isUnknown()) {
+                logger.warn("Couldn't verify {}, still throttled after {} retries", url, MAX_RETRIES);
+            } else if (!verdict.isOk()) {
+                brokenLinks.put(url, verdict);
+            }
+        });
+        return brokenLinks;
+    }
+
+    private LinkVerdict request(String url) {
+        try {
+            final URI uri = URI.create(url);
+            final int headStatus = send(uri, "HEAD");
+            if (!HEAD_REJECTED_STATUSES.contains(headStatus)) {
+                return new LinkVerdict(url, headStatus, null);
+            }
+            logger.debug("HEAD rejected with {} by {}, trying GET", headStatus, url);
+            return new LinkVerdict(url, send(uri, "GET"), null);
+        } catch (IOException | IllegalArgumentException e) {
+            return new LinkVerdict(url, -1, e.getClass().getSimpleName() + ": " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new LinkVerdict(url, -1, "interrupted");
+        }
+    }
+
+    private int send(URI uri, String method) throws IOException, InterruptedException {
+        final HttpRequest request = HttpRequest.newBuilder(uri)
+            .method(method, HttpRequest.BodyPublishers.noBody())
+            .timeout(timeout)
+            .build();
+        for (int attempt = 0;; attempt++) {
+            hostThrottle.acquire(uri.toString());
+            final long start = System.nanoTime();
+            final HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            MetricsRegistry.shared().recordHttpFetch(uri.toString(), start);
+            hostThrottle.onResponse(uri.toString(), response.statusCode(), response.headers()
+                .firstValue("Retry-After")
+                .orElse(null));
+            if (!HostThrottle.isThrottled(response.statusCode()) || attempt >= MAX_RETRIES) {
+                return response.statusCode();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,402 @@
+package com.baeldung.common;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Counters, gauges and latency histograms of a run, e.g. the executions of each test, the depth of the check queues,
+ * the time spent in each check and the time of the HTTP fetches per host.
+ * <br/>
+ * A metric has a name and a label: the test, the check or the host it is about. Counters and histograms only use
+ * {@link LongAdder}s, so recording doesn't contend between threads. Gauges keep their highest value along the current
+ * one. The metrics are exported as a Prometheus text
+ * file and as a JSON report with the labels of each histogram sorted by total time.
+ */
+@ThreadSafe
+public class MetricsRegistry {
+
+    public static final String TESTS_EXECUTED = "tests_executed";
+    public static final String TESTS_FAILED = "tests_failed";
+    public static final String FAILURES = "failures";
+    public static final String URLS_SKIPPED = "urls_skipped";
+
+    public static final String TEST_DURATION = "test_duration";
+    public static final String CHECK_DURATION = "check_duration";
+    public static final String PAGE_LOAD = "page_load";
+    public static final String HTTP_FETCH = "http_fetch";
+    public static final String CHECK_QUEUE_WAIT = "check_queue_wait";
+    public static final String CHECK_QUEUE_BACKPRESSURE = "check_queue_backpressure";
+
+    public static final String CHECK_QUEUE_DEPTH = "check_queue_depth";
+
+    private static final String PROMETHEUS_PREFIX = "blogwatch_";
+    private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final MetricsRegistry SHARED = new MetricsRegistry();
+
+    /**
+     * The upper bounds of the histogram buckets, in milliseconds.
+     */
+    private static final long[] BUCKET_BOUNDS_MILLIS = { 1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000, 60000 };
+
+    public record HistogramSummary(String label, long count, double totalMillis, double meanMillis, double p50Millis, double p95Millis, double p99Millis,
+        double maxMillis) {
+    }
+
+    public record GaugeValue(long value, long max) {
+    }
+
+    /**
+     * An addition to a counter, as captured between {@link #startCapturingCounts()} and {@link #stopCapturingCounts()}.
+     */
+    public record Count(String name, String label, long count) {
+    }
+
+    record Report(Map<String, Map<String, Long>> counters, Map<String, Map<String, GaugeValue>> gauges, Map<String, List<HistogramSummary>> histograms) {
+    }
+
+    private record MetricKey(String name, String label) {
+    }
+
+    private final ConcurrentMap<MetricKey, LongAdder> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MetricKey, Gauge> gauges = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MetricKey, Histogram> histograms = new ConcurrentHashMap<>();
+    private final ThreadLocal<List<Count>> capturedCounts = new ThreadLocal<>();
+
+    public static MetricsRegistry shared() {
+        return SHARED;
+    }
+
+    public void increment(String name, String label) {
+        add(name, label, 1);
+    }
+
+    public void add(String name, String label, long count) {
+        counters.computeIfAbsent(new MetricKey(name, label), key -> new LongAdder())
+            .add(count);
+        final List<Count> captured = capturedCounts.get();
+        if (captured != null) {
+            captured.add(new Count(name, label, count));
+        }
+    }
+
+    /**
+     * Starts capturing the additions the current thread makes to counters, e.g. while a check runs.
+     */
+    public void startCapturingCounts() {
+        capturedCounts.set(new ArrayList<>());
+    }
+
+    /**
+     * @return the additions the current thread made to counters since {@link #startCapturingCounts()}
+     */
+    public List<Count> stopCapturingCounts() {
+        final List<Count> captured = capturedCounts.get();
+        capturedCounts.remove();
+        return captured == null ? List.of() : captured;
+    }
+
+    public long getCount(String name, String label) {
+        final LongAdder counter = counters.get(new MetricKey(name, label));
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * @return the value of the counter for each of its labels
+     */
+    public Map<String, Long> getCounts(String name) {
+        final Map<String, Long> counts = new TreeMap<>();
+        counters.forEach((key, counter) -> {
+            if (key.name()
+                .equals(name)) {
+                counts.put(key.label(), counter.sum());
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Adds to the gauge, e.g. one when a page is queued and minus one when it is taken off the queue.
+     */
+    public void addToGauge(String name, String label, long delta) {
+        gauges.computeIfAbsent(new MetricKey(name, label), key -> new Gauge())
+            .add(delta);
+    }
+
+    /**
+     * @return the current and the highest value of the gauge for each of its labels
+     */
+    public Map<String, GaugeValue> getGauges(String name) {
+        final Map<String, GaugeValue> values = new TreeMap<>();
+        gauges.forEach((key, gauge) -> {
+            if (key.name()
+                .equals(name)) {
+                values.put(key.label(), gauge.value());
+            }
+        });
+        return values;
+    }
+
+    public void recordNanos(String name, String label, long nanos) {
+        histograms.computeIfAbsent(new MetricKey(name, label), key -> new Histogram())
+            .record(nanos);
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos}, a {@link System#nanoTime()}.
+     */
+    public void recordSince(String name, String label, long startNanos) {
+        recordNanos(name, label, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Records the time of an HTTP fetch under the host of the URL.
+     */
+    public void recordHttpFetch(String url, long startNanos) {
+        recordSince(HTTP_FETCH, hostOf(url), startNanos);
+    }
+
+    /**
+     * @return the summary of each label of the histogram, the label with the most total time first
+     */
+    public List<HistogramSummary> getHistogramSummaries(String name) {
+        return histograms.entrySet()
+            .stream()
+            .filter(entry -> entry.getKey()
+                .name()
+                .equals(name))
+            .map(entry -> entry.getValue()
+                .summarize(entry.getKey()
+                    .label()))
+            .sorted(Comparator.comparingDouble(HistogramSummary::totalMillis)
+                .reversed())
+            .toList();
+    }
+
+    public String toPrometheusText() {
+        final StringBuilder text = new StringBuilder();
+        new TreeMap<>(groupByName(counters)).forEach((name, byLabel) -> {
+            final String metric = PROMETHEUS_PREFIX + name + "_total";
+            text.append("# TYPE ")
+                .append(metric)
+                .append(" counter\n");
+            byLabel.forEach((label, counter) -> text.append(metric)
+                .append(labels(label, null))
+                .append(' ')
+                .append(counter.sum())
+                .append('\n'));
+        });
+        new TreeMap<>(groupByName(gauges)).forEach((name, byLabel) -> {
+            appendGauge(text, PROMETHEUS_PREFIX + name, byLabel, GaugeValue::value);
+            appendGauge(text, PROMETHEUS_PREFIX + name + "_max", byLabel, GaugeValue::max);
+        });
+        new TreeMap<>(groupByName(histograms)).forEach((name, byLabel) -> {
+            final String metric = PROMETHEUS_PREFIX + name + "_seconds";
+            text.append("# TYPE ")
+                .append(metric)
+                .append(" histogram\n");
+            byLabel.forEach((label, histogram) -> {
+                long cumulativeCount = 0;
+                for (int i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+                    cumulativeCount += histogram.buckets[i].sum();
+                    text.append(metric)
+                        .append("_bucket")
+                        .append(labels(label, String.valueOf(BUCKET_BOUNDS_MILLIS[i] / 1000.0)))
+                        .append(' ')
+                        .append(cumulativeCount)
+                        .append('\n');
+                }
+                final long count = histogram.count.sum();
+                text.append(metric)
+                    .append("_bucket")
+                    .append(labels(label, "+Inf"))
+                    .append(' ')
+                    .append(count)
+                    .append('\n');
+                text.append(metric)
+                    .append("_sum")
+                    .append(labels(label, null))
+                    .append(' ')
+                    .append(histogram.totalNanos.sum() / 1e9)
+                    .append('\n');
+                text.append(metric)
+                    .append("_count")
+                    .append(labels(label, null))
+                    .append(' ')
+                    .append(count)
+                    .append('\n');
+            });
+        });
+        return text.toString();
+    }
+
+    private static void appendGauge(StringBuilder text, String metric, Map<String, Gauge> byLabel, ToLongFunction<GaugeValue> value) {
+        text.append("# TYPE ")
+            .append(metric)
+            .append(" gauge\n");
+        byLabel.forEach((label, gauge) -> text.append(metric)
+            .append(labels(label, null))
+            .append(' ')
+            .append(value.applyAsLong(gauge.value()))
+            .append('\n'));
+    }
+
+    public String toJson() throws IOException {
+        final Map<String, Map<String, Long>> counterReport = new TreeMap<>();
+        groupByName(counters).keySet()
+            .forEach(name -> counterReport.put(name, getCounts(name)));
+        final Map<String, Map<String, GaugeValue>> gaugeReport = new TreeMap<>();
+        groupByName(gauges).keySet()
+            .forEach(name -> gaugeReport.put(name, getGauges(name)));
+        final Map<String, List<HistogramSummary>> histogramReport = new TreeMap<>();
+        groupByName(histograms).keySet()
+            .forEach(name -> histogramReport.put(name, getHistogramSummaries(name)));
+        return objectMapper.writeValueAsString(new Report(counterReport, gaugeReport, histogramReport));
+    }
+
+    /**
+     * Writes the Prometheus text file and the JSON report, either can be null to skip it.
+     */
+    public void writeReports(Path prometheusFile, Path jsonFile) throws IOException {
+        if (prometheusFile != null) {
+            writeAtomically(prometheusFile, toPrometheusText());
+        }
+        if (jsonFile != null) {
+            writeAtomically(jsonFile, toJson());
+        }
+    }
+
+    private static void writeAtomically(Path file, String content) throws IOException {
+        Files.createDirectories(file.toAbsolutePath()
+            .getParent());
+        final Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(temp, content, StandardCharsets.UTF_8);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static <V> Map<String, Map<String, V>> groupByName(Map<MetricKey, V> metrics) {
+        final Map<String, Map<String, V>> byName = new LinkedHashMap<>();
+        metrics.forEach((key, value) -> byName.computeIfAbsent(key.name(), name -> new TreeMap<>())
+            .put(key.label(), value));
+        return byName;
+    }
+
+    private static String labels(String label, String le) {
+        final StringBuilder labels = new StringBuilder();
+        if (StringUtils.isNotEmpty(label)) {
+            labels.append("name=\"")
+                .append(label.replace("\\", "\\\\")
+                    .replace("\"", "\\\"")
+                    .replace("\n", "\\n"))
+                .append('"');
+        }
+        if (le != null) {
+            if (labels.length() > 0) {
+                labels.append(',');
+            }
+            labels.append("le=\"")
+                .append(le)
+                .append('"');
+        }
+        return labels.length() == 0 ? "" : "{" + labels + "}";
+    }
+
+    private static String hostOf(String url) {
+        try {
+            return StringUtils.defaultString(StringUtils.lowerCase(URI.create(url.trim())
+                .getHost(), Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+
+    private static final class Gauge {
+
+        private final AtomicLong value = new AtomicLong();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        private void add(long delta) {
+            max.accumulate(value.addAndGet(delta));
+        }
+
+        private GaugeValue value() {
+            return new GaugeValue(value.get(), max.get());
+        }
+    }
+
+    /**
+     * A latency histogram with fixed buckets. Percentiles are the upper bound of the bucket they fall in, capped by
+     * the max.
+     */
+    private static final class Histogram {
+
+        private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MILLIS.length + 1];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private Histogram() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        private void record(long nanos) {
+            final long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_MILLIS.length && millis >= BUCKET_BOUNDS_MILLIS[bucket]) {
+                bucket++;
+            }
+            buckets[bucket].increment();
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        private HistogramSummary summarize(String label) {
+            final long total = count.sum();
+            final double totalMillis = totalNanos.sum() / 1e6;
+            final double maxMillis = maxNanos.get() / 1e6;
+            return new HistogramSummary(label, total, totalMillis, total == 0 ? 0 : totalMillis / total, percentile(0.5, total, maxMillis),
+                percentile(0.95, total, maxMillis), percentile(0.99, total, maxMillis), maxMillis);
+        }
+
+        private double percentile(double quantile, long total, double maxMillis) {
+            final long rank = (long) Math.ceil(quantile * total);
+            long cumulativeCount = 0;
+            for (int i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+                cumulativeCount += buckets[i].sum();
+                if (cumulativeCount >= rank) {
+                    return Math.min(BUCKET_BOUNDS_MILLIS[i], maxMillis);
+                }
+            }
+            return maxMillis;
+        }
+    }
+
+}
@@ -39,11 +39,8 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringEscapeUtils;
-import org.eclipse.jgit.api.Git;
-import org.eclipse.jgit.api.PullResult;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.api.errors.InvalidRemoteException;
 import org.eclipse.jgit.api.errors.TransportException;
@@ -64,19 +61,14 @@ import com.baeldung.common.vo.GitHubRepoVO;
 import com.baeldung.common.vo.JavaConstruct;
 import com.baeldung.common.vo.LinkVO;
 import com.baeldung.common.vo.MavenProjectVO;
-import com.baeldung.filevisitor.ModuleAlignmentValidatorFileVisitor;
-import com.baeldung.filevisitor.ReadmeFileVisitor;
-import com.baeldung.filevisitor.TutorialsParentModuleFinderFileVisitor;
+import com.baeldung.filevisitor.RepositoryIndex;
+import com.baeldung.jsoup.JsoupResponseCache;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.javaparser.JavaParser;
-import com.github.javaparser.ParseResult;
-import com.github.javaparser.ast.CompilationUnit;
-import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.rholder.retry.Retryer;
 import com.github.rholder.retry.RetryerBuilder;
 import com.github.rholder.retry.StopStrategies;
@@ -84,7 +76,6 @@ import com.google.common.base.Predicates;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Multimap;
-import com.google.common.util.concurrent.RateLimiter;
 
 public class Utils {
 
@@ -403,7 +394,7 @@ public class Utils {
     }
 
     public static Document getJSoupDocument(String url) throws IOException {
-        return Jsoup.connect(url).get();
+        return JsoupResponseCache.shared().get(url);
     }
 
     public static String getHost(String url) throws URISyntaxException {
@@ -412,67 +403,19 @@ public class Utils {
     }
 
     public static List<JavaConstruct> getJavaConstructsFromPreTagsInTheJSoupDocument(Document doc) throws IOException {
-        List<JavaConstruct> javaConstructs = new ArrayList<>();
-        for (Element e : doc.getElementsByClass(LANGUAGE_JAVA_CLASS_NAME)) {
-            getJavaConstructsFromJavaCode(StringEscapeUtils.unescapeHtml4(e.getElementsByTag(CODE_TAG).html()), javaConstructs);
-
-        }
-        return javaConstructs;
+        return JavaConstructExtractor.shared().extract(getJavaCodeFromPreTagsInTheJSoupDocument(doc));
     }
 
-    public static List<JavaConstruct> getJavaConstructsFromGitHubRawUrl(String url) throws IOException {
-        List<JavaConstruct> javaConstructs = new ArrayList<>();
-        getJavaConstructsFromJavaCode(StringEscapeUtils.unescapeHtml4(Jsoup.connect(url).execute().body()), javaConstructs);
-        return javaConstructs;
-    }
-
-    private static void getJavaConstructsFromJavaCode(String code, List<JavaConstruct> javaConstructs) {
-        final ParseResult<CompilationUnit> compilationUnit = new JavaParser().parse(code);
-
-        if (!compilationUnit.getProblems()
-            .isEmpty()) {
-            getJavaConstructsFromJavaCodeWrappingIntoDummyClass(code, javaConstructs);
-        } else {
-            compilationUnit.getResult()
-                .ifPresent(result -> result.findAll(ClassOrInterfaceDeclaration.class)
-                    .forEach(c -> {
-                        addNewJavaConstructToTheList(GlobalConstants.CONSTRUCT_TYPE_CLASS_OR_INTERFACE, null, c.getNameAsString(), javaConstructs);
-                        c.getMethods()
-                            .forEach(m -> addNewJavaConstructToTheList(GlobalConstants.CONSTRUCT_TYPE_METHOD, c.getNameAsString(), m.getNameAsString(), javaConstructs));
-                    }));
+    public static List<String> getJavaCodeFromPreTagsInTheJSoupDocument(Document doc) {
+        List<String> javaCode = new ArrayList<>();
+        for (Element e : doc.getElementsByClass(LANGUAGE_JAVA_CLASS_NAME)) {
+            javaCode.add(StringEscapeUtils.unescapeHtml4(e.getElementsByTag(CODE_TAG).html()));
         }
+        return javaCode;
     }
 
-    private static void addNewJavaConstructToTheList(String constructType, String constructParentTypeName, String constructName, List<JavaConstruct> javaConstructs) {
-        for (JavaConstruct javaConstruct : javaConstructs) {
-            if (constructType.equals(javaConstruct.getConstructType()) && constructName.equals(javaConstruct.getConstructName())) {
-                if (null == constructParentTypeName && null == javaConstruct.getConstructParentTypeName()) {
-                    return;
-                }
-                if (null != constructParentTypeName && null != javaConstruct.getConstructParentTypeName() && constructParentTypeName.equals(javaConstruct.getConstructParentTypeName())) {
-                    return;
-                }
-                return;
-            }
-        }
-        javaConstructs.add(new JavaConstruct(constructType, constructParentTypeName, constructName));
-    }
-
-    private static void getJavaConstructsFromJavaCodeWrappingIntoDummyClass(String code, List<JavaConstruct> javaConstructs) {
-        final ParseResult<CompilationUnit> compilationUnit = new JavaParser().parse(GlobalConstants.CONSTRUCT_DUMMY_CLASS_START + code + GlobalConstants.CONSTRUCT_DUMMY_CLASS_END);
-
-        if (!compilationUnit.getProblems()
-            .isEmpty()) {
-            logger.error("Error occured while processing Java code: " + compilationUnit.getProblems().iterator().next().getMessage().substring(0,100) + "\n" + code);
-        } else {
-            compilationUnit.getResult()
-                .ifPresent(result -> result.findAll(ClassOrInterfaceDeclaration.class)
-                    .forEach(c -> {
-                        addNewJavaConstructToTheList(GlobalConstants.CONSTRUCT_TYPE_CLASS_OR_INTERFACE, null, c.getNameAsString(), javaConstructs);
-                        c.getMethods()
-                            .forEach(m -> addNewJavaConstructToTheList(GlobalConstants.CONSTRUCT_TYPE_METHOD, c.getNameAsString(), m.getNameAsString(), javaConstructs));
-                    }));
-        }
+    public static List<JavaConstruct> getJavaConstructsFromGitHubRawUrl(String url) throws IOException {
+        return JavaConstructExtractor.shared().extract(List.of(StringEscapeUtils.unescapeHtml4(JsoupResponseCache.shared().getBody(url))));
     }
 
     public static String getGitHubModuleUrl(Document jSoupDocument, String url) throws IOException {
@@ -509,8 +452,12 @@ public class Utils {
     }
 
     public static void filterAndCollectJacaConstructsNotFoundOnGitHub(List<JavaConstruct> javaConstructsOnPost, List<JavaConstruct> javaConstructsOnGitHub, Multimap<String, JavaConstruct> results, String url) {
+        filterAndCollectJacaConstructsNotFoundOnGitHub(javaConstructsOnPost, new JavaConstructSet(javaConstructsOnGitHub), results, url);
+    }
+
+    public static void filterAndCollectJacaConstructsNotFoundOnGitHub(List<JavaConstruct> javaConstructsOnPost, JavaConstructSet javaConstructsOnGitHub, Multimap<String, JavaConstruct> results, String url) {
         javaConstructsOnPost.forEach(javaConstructOnPage -> {
-            if (javaConstructsOnGitHub.stream().filter(javaConstructOnGitHub -> javaConstructOnPage.equalsTo(javaConstructOnGitHub)).count() > 0) {
+            if (javaConstructsOnGitHub.contains(javaConstructOnPage)) {
                 javaConstructOnPage.setFoundOnGitHub(true);
             }
         });
@@ -553,12 +500,11 @@ public class Utils {
         return resutls;
     }
 
-    public static Multimap<String, String> createMapForGitHubModuleAndPosts(String baseURL, String fileForJavaConstructsTest, RateLimiter rateLimiter) throws IOException {
+    public static Multimap<String, String> createMapForGitHubModuleAndPosts(String baseURL, String fileForJavaConstructsTest) throws IOException {
         Multimap<String, String> gitHubModuleAndPostsMap = ArrayListMultimap.create();
         String url = null;
         for (String entry : Utils.fetchFileAsList(fileForJavaConstructsTest)) {
             try {
-                rateLimiter.acquire();
                 url = baseURL + entry;
                 logger.info("Processing:  " + url);
                 if (Utils.excludePage(url, GlobalConstants.ARTILCE_JAVA_WEEKLY, false)) {
@@ -793,7 +739,7 @@ public class Utils {
         items.forEach(item -> System.out.println(formatter.apply(item)));
     }
 
-    public static String formatResultsForOldJavaDocs(Multimap<String, String> badURLs, List<WebElement> webElementsLinkingToOldJavaDocs, String url) {
+    public static String formatResultsForOldJavaDocs(Multimap<String, String> badURLs, List<LinkVO> linksToOldJavaDocs, String url) {
         StringBuilder resultBuilder = new StringBuilder();
         resultBuilder.append(System.lineSeparator());
         resultBuilder.append("--------");
@@ -802,7 +748,7 @@ public class Utils {
         resultBuilder.append(System.lineSeparator());
         resultBuilder.append("--------");
         resultBuilder.append(System.lineSeparator());
-        resultBuilder.append(webElementsLinkingToOldJavaDocs.stream().map(element -> element.getAttribute("href") + " (" + element.getText() + ")").collect(Collectors.joining(System.lineSeparator())));
+        resultBuilder.append(linksToOldJavaDocs.stream().map(link -> link.getLink() + " (" + link.getLinkText() + ")").collect(Collectors.joining(System.lineSeparator())));
         resultBuilder.append(System.lineSeparator());
         return resultBuilder.toString();
 
@@ -816,11 +762,11 @@ public class Utils {
         return webDriver.findElement(By.xpath("//*[contains(@href, '" + textToMatchInTheLink + "')]"));
     }
 
-    public static void logChildModulesResults(TutorialsParentModuleFinderFileVisitor tutorialsParentModuleFinderFileVisitor) {
+    public static void logChildModulesResults(String parentArtifactId, List<String> childModules) {
 
-        logger.info(colordHeading("Please find below child modules for: {}"), tutorialsParentModuleFinderFileVisitor.getArtificateId());
+        logger.info(colordHeading("Please find below child modules for: {}"), parentArtifactId);
 
-        tutorialsParentModuleFinderFileVisitor.getChildModules().forEach(modulePath -> {
+        childModules.forEach(modulePath -> {
             String gitUrl = StringUtils.removeEnd(StringUtils.removeStart(modulePath, GlobalConstants.tutorialsRepoLocalPath), "pom.xml");
             System.out.println("https://github.com/eugenp/tutorials/tree/master" + gitUrl);
         });
@@ -848,55 +794,30 @@ public class Utils {
         }
     }
 
-    public static void fetchGitRepo(String redownloadTutorialsRepo, Path repoDirectoryPath, String repoGitUrl) throws IOException, InvalidRemoteException, TransportException, GitAPIException {
-        if (!repoDirectoryPath.toFile().exists()) {
-            redownloadTutorialsRepo = GlobalConstants.YES;
-        } else if (GlobalConstants.NO.equalsIgnoreCase(redownloadTutorialsRepo)) {
-            Git git = Git.open(repoDirectoryPath.toFile());
-            try {
-                logger.info(magentaColordMessage("Firing git pull to download updates (if any)"));
-                PullResult result = git.pull().setRemote("origin").setRemoteBranchName("master").call();
-                if (result.isSuccessful()) {
-                    logger.info(magentaColordMessage("Git pull finished successfully"));
-                    git.clean().setForce(true).setIgnore(false).setCleanDirectories(true).call();
-                }
-                else {
-                    redownloadTutorialsRepo = GlobalConstants.YES;
-                }
-            } catch (Exception e) {
-                logger.error("Error in git pull: {}",e.getMessage());
-                logger.info(magentaColordMessage("An exception happened in the git pull. Will the full repo now"));
-                redownloadTutorialsRepo = GlobalConstants.YES;
-            }
-        }
-        if (GlobalConstants.YES.equalsIgnoreCase(redownloadTutorialsRepo)) {
-            FileUtils.deleteDirectory(repoDirectoryPath.toFile());
-            Files.createDirectory(repoDirectoryPath);
-
-            logger.info(magentaColordMessage("Downloading {}. This may take a few minutes"), repoGitUrl);
-            Git.cloneRepository().setURI(repoGitUrl).setDirectory(repoDirectoryPath.toFile()).call();
-
-            logger.info(magentaColordMessage("tutorials repository cloned"));
-        }
-
+    /**
+     * Brings the local checkout up to date through {@link GitRepoSync}, at most once per JVM. An existing checkout is
+     * fetched and hard reset, unless redownloadTutorialsRepo is {@link GlobalConstants#YES} which clones it again.
+     */
+    public static void fetchGitRepo(String redownloadTutorialsRepo, Path repoDirectoryPath, String repoGitUrl) throws IOException {
+        GitRepoSync.shared().sync(repoDirectoryPath, repoGitUrl, GlobalConstants.YES.equalsIgnoreCase(redownloadTutorialsRepo));
     }
 
-    public static void logUnAlignedModulesResults(ModuleAlignmentValidatorFileVisitor moduleAlignmentValidatorFileVisitor) {
+    public static void logUnAlignedModulesResults(List<String> invalidModules) {
 
         logger.info(colordHeading("Please find below unalighed Moudles"));
 
-        moduleAlignmentValidatorFileVisitor.getInvalidModules().forEach(modulePath -> {
+        invalidModules.forEach(modulePath -> {
             String gitUrl = StringUtils.removeEnd(StringUtils.removeStart(modulePath, GlobalConstants.tutorialsRepoLocalPath), "pom.xml");
             System.out.println("https://github.com/eugenp/tutorials/tree/master" + gitUrl);
         });
     }
 
-    public static void logUnparsableModulesResults(ModuleAlignmentValidatorFileVisitor moduleAlignmentValidatorFileVisitor) {
-        if(moduleAlignmentValidatorFileVisitor.getUnparsableModule().size() >0 ) {
+    public static void logUnparsableModulesResults(List<String> unparsableModules) {
+        if(unparsableModules.size() >0 ) {
             logger.info(colordHeading("The auotmation coundn't parse folloiwng modues. Please report these to devOps-dev"));
         }
 
-        moduleAlignmentValidatorFileVisitor.getUnparsableModule().forEach(modulePath -> {
+        unparsableModules.forEach(modulePath -> {
             String gitUrl = StringUtils.removeEnd(StringUtils.removeStart(modulePath, GlobalConstants.tutorialsRepoLocalPath), "pom.xml");
             System.out.println("https://github.com/eugenp/tutorials/tree/master" + gitUrl);
         });
@@ -927,17 +848,14 @@ public class Utils {
         List<String> readmeList = null;
         Map<GitHubRepoVO, List<String>> readmes = new HashMap<GitHubRepoVO, List<String>>();
 
+        GitRepoSync.shared().syncAll(tutorialsRepos);
         for(GitHubRepoVO repo: tutorialsRepos) {
             readmeList = new ArrayList<>();
-            Path repoLocalPath = Paths.get(repo.repoLocalPath());
-            Utils.fetchGitRepo(GlobalConstants.NO, repoLocalPath, repo.repoUrl());
-
-            ReadmeFileVisitor readmeFileVisitor = new ReadmeFileVisitor(repo.repoLocalPath());
-            Files.walkFileTree(repoLocalPath, readmeFileVisitor);
+            List<String> readmePaths = RepositoryIndex.of(repo.repoLocalPath()).getReadmePaths();
             if(convertPathToHttpUrl) {
-                readmeList.addAll(readmeFileVisitor.getReadmeList().stream().map(replaceTutorialLocalPathWithHttpUrl(repo.repoLocalPath(), repo.repoMasterHttpPath())).collect(toList()));
+                readmeList.addAll(readmePaths.stream().map(replaceTutorialLocalPathWithHttpUrl(repo.repoLocalPath(), repo.repoMasterHttpPath())).collect(toList()));
             }else {
-                readmeList.addAll(readmeFileVisitor.getReadmeList());
+                readmeList.addAll(readmePaths);
             }
             readmes.put(repo, readmeList);
         }
@@ -3,15 +3,15 @@ package com.baeldung.common.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.baeldung.common.HostThrottle;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.util.concurrent.RateLimiter;
 
 @Configuration
 public class CommonConfig {
     
     @Bean
-    public RateLimiter createRateLimiter() {
-        return RateLimiter.create(1);
+    public HostThrottle hostThrottle() {
+        return HostThrottle.shared();
     }
     
     @Bean
@@ -1,5 +1,6 @@
 package com.baeldung.crawler4j.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
@@ -7,6 +8,7 @@ import org.springframework.context.annotation.PropertySource;
 import org.springframework.context.annotation.Scope;
 
 import com.baeldung.common.GlobalConstants;
+import com.baeldung.common.HostThrottle;
 
 import edu.uci.ics.crawler4j.crawler.CrawlConfig;
 import edu.uci.ics.crawler4j.crawler.CrawlController;
@@ -16,19 +18,26 @@ import edu.uci.ics.crawler4j.robotstxt.RobotstxtServer;
 
 @Configuration
 @ComponentScan("com.baeldung.crawler4j")
-@PropertySource({ "classpath:blog.properties" })
+@PropertySource({ "classpath:blog.properties", "classpath:common.properties" })
 public class Crawler4jMainCofig {
 
+    @Value("${crawler4j.resumable-crawling:false}")
+    private boolean resumableCrawling;
+
+    @Value("${crawler4j.max-retries:2}")
+    private int maxRetries;
+
     @Bean
     @Scope("prototype")
     public CrawlConfig crawlConfig() {
         CrawlConfig crawlConfig = new CrawlConfig();
         crawlConfig.setCrawlStorageFolder(GlobalConstants.CRAWLER4J_STORAGE_FOLDER);
-        crawlConfig.setPolitenessDelay(1500);
+        // requests are throttled per host by ThrottledPageFetcher
+        crawlConfig.setPolitenessDelay(0);
         crawlConfig.setMaxDepthOfCrawling(-1);
         crawlConfig.setMaxPagesToFetch(-1);
         crawlConfig.setIncludeBinaryContentInCrawling(false);
-        crawlConfig.setResumableCrawling(false);
+        crawlConfig.setResumableCrawling(resumableCrawling);
         crawlConfig.setMaxDownloadSize(Integer.MAX_VALUE);
         return crawlConfig;
     }
@@ -36,7 +45,7 @@ public class Crawler4jMainCofig {
     @Bean
     @Scope("prototype")
     public PageFetcher pageFetcher() {
-        return new PageFetcher(crawlConfig());
+        return new ThrottledPageFetcher(crawlConfig(), HostThrottle.shared(), maxRetries);
     }
 
     @Bean
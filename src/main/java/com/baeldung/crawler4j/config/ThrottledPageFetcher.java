@@ -0,0 +1,59 @@
+package com.baeldung.crawler4j.config;
+
+import java.io.IOException;
+
+import org.apache.http.Header;
+
+import com.baeldung.common.HostThrottle;
+import com.baeldung.common.MetricsRegistry;
+
+import edu.uci.ics.crawler4j.crawler.CrawlConfig;
+import edu.uci.ics.crawler4j.crawler.exceptions.PageBiggerThanMaxSizeException;
+import edu.uci.ics.crawler4j.fetcher.PageFetchResult;
+import edu.uci.ics.crawler4j.fetcher.PageFetcher;
+import edu.uci.ics.crawler4j.url.WebURL;
+
+/**
+ * A {@link PageFetcher} throttled per host by a {@link HostThrottle}, instead of by the politeness delay which applies
+ * one rate to all hosts. A 429 or 503 answer is fetched again, after the Retry-After delay, up to {@code maxRetries}
+ * times.
+ */
+public class ThrottledPageFetcher extends PageFetcher {
+
+    private final HostThrottle hostThrottle;
+    private final int maxRetries;
+
+    public ThrottledPageFetcher(CrawlConfig config, HostThrottle hostThrottle, int maxRetries) {
+        super(config);
+        this.hostThrottle = hostThrottle;
+        this.maxRetries = maxRetries;
+    }
+
+    @Override
+    public PageFetchResult fetchPage(WebURL webUrl) throws InterruptedException, IOException, PageBiggerThanMaxSizeException {
+        for (int attempt = 0;; attempt++) {
+            hostThrottle.acquire(webUrl.getURL());
+            final long start = System.nanoTime();
+            PageFetchResult result = super.fetchPage(webUrl);
+            MetricsRegistry.shared().recordHttpFetch(webUrl.getURL(), start);
+            hostThrottle.onResponse(webUrl.getURL(), result.getStatusCode(), retryAfterOf(result));
+            if (!HostThrottle.isThrottled(result.getStatusCode()) || attempt >= maxRetries) {
+                return result;
+            }
+            result.discardContentIfNotConsumed();
+        }
+    }
+
+    private static String retryAfterOf(PageFetchResult result) {
+        if (null == result.getResponseHeaders()) {
+            return null;
+        }
+        for (Header header : result.getResponseHeaders()) {
+            if ("Retry-After".equalsIgnoreCase(header.getName())) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+}
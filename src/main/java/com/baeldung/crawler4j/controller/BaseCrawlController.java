@@ -44,11 +44,18 @@ public abstract class BaseCrawlController {
      * @param numberOfCrawlers
      */
     public void startCrawlingWithAFreshController(Class<? extends BaseCrawler> configClass, int numberOfCrawlers) {        
-        crawlController = applicationContext.getBean(CrawlController.class);
+        crawlController = newCrawlController();
         addSeedURLsForCrawl();
         this.crawlController.start(configClass, numberOfCrawlers);
     }
 
+    /**
+     *  a new controller, with its own frontier in the storage folder
+     */
+    protected CrawlController newCrawlController() {
+        return applicationContext.getBean(CrawlController.class);
+    }
+
     private void addSeedURLsForCrawl() {
         if (CollectionUtils.isNotEmpty(seedURLs) && null != this.crawlController) {
             seedURLs.forEach(this.crawlController::addSeed);
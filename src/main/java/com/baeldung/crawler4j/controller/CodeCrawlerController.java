@@ -1,18 +1,34 @@
 package com.baeldung.crawler4j.controller;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Component;
 
+import com.baeldung.common.vo.JavaConstruct;
+import com.baeldung.crawler4j.crawler.CrawlerForFindingJavaCode;
+
 @Component
 public class CodeCrawlerController extends BaseCrawlController {
 
-    public List<Object> getDiscoveredJacaConstructs() {
-        return this.getCrawlersLocalData();
-    }
+    private SharedCrawl<JavaConstruct> sharedCrawl;
 
     public void setSeedURL(String url) {
         this.setSeedURLs(Arrays.asList(new String[] { url }));
     }
+
+    /**
+     * crawls the GitHub modules on a single controller shared by all of them
+     * @param moduleURLs
+     * @return the Java constructs of each module, completed when the shared crawl is finished
+     */
+    public synchronized Map<String, CompletableFuture<List<JavaConstruct>>> crawlModules(Collection<String> moduleURLs) {
+        if (null == sharedCrawl) {
+            sharedCrawl = new SharedCrawl<>(this::newCrawlController, CrawlerForFindingJavaCode::new, Runtime.getRuntime().availableProcessors(), JavaConstruct.class);
+        }
+        return sharedCrawl.submit(moduleURLs);
+    }
 }
@@ -0,0 +1,174 @@
+package com.baeldung.crawler4j.controller;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The seeds of a {@link SharedCrawl} and the results of the pages visited for them.
+ * <br/>
+ * A page is in the scope of a seed when its URL, with /blob/ read as /tree/, is the seed URL or a path under it, so a
+ * page of a nested module belongs to the module and to its parent. Results are kept per page, and gathered per seed
+ * when asked for. Every visited page is recorded, with no results when it has none.
+ * <br/>
+ * With a journal, the results of each page are also appended to it, so a resumed crawl starts with the results of the
+ * pages visited before it was interrupted.
+ */
+@ThreadSafe
+public class SeedRouter<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeedRouter.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    record JournalEntry<T>(String pageURL, List<T> results) {
+    }
+
+    private final Set<String> seeds = ConcurrentHashMap.newKeySet();
+    private final NavigableMap<String, List<T>> resultsByPage = new ConcurrentSkipListMap<>();
+    private final Path journal;
+    private final JavaType journalEntryType;
+    private BufferedWriter journalWriter;
+
+    /**
+     * @param journal the file the results are appended to, null to keep them in memory only
+     */
+    public SeedRouter(Class<T> resultType, Path journal) {
+        this.journal = journal;
+        this.journalEntryType = objectMapper.getTypeFactory().constructParametricType(JournalEntry.class, resultType);
+        if (journal != null && Files.isRegularFile(journal)) {
+            replayJournal();
+        }
+    }
+
+    public void addSeeds(Collection<String> seedURLs) {
+        seedURLs.forEach(seedURL -> seeds.add(normalize(seedURL)));
+    }
+
+    /**
+     * @return whether the page is in the scope of any of the seeds
+     */
+    public boolean isInScope(String pageURL) {
+        final String page = normalize(pageURL);
+        if (seeds.contains(page)) {
+            return true;
+        }
+        for (int i = page.indexOf('/'); i >= 0; i = page.indexOf('/', i + 1)) {
+            if (seeds.contains(page.substring(0, i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean wasVisited(String pageURL) {
+        return resultsByPage.containsKey(normalize(pageURL));
+    }
+
+    /**
+     * Records the results of a visited page, an empty list when the page has none.
+     */
+    public void collect(String pageURL, List<T> results) {
+        final String page = normalize(pageURL);
+        resultsByPage.put(page, List.copyOf(results));
+        if (journal != null) {
+            appendToJournal(new JournalEntry<>(page, results));
+        }
+    }
+
+    /**
+     * @return the results of all the pages in the scope of the seed, in the order of the page URLs
+     */
+    public List<T> getResults(String seedURL) {
+        final String seed = normalize(seedURL);
+        final List<T> results = new ArrayList<>(resultsByPage.getOrDefault(seed, List.of()));
+        resultsByPage.subMap(seed + "/", true, seed + "0", false)
+            .values()
+            .forEach(results::addAll);
+        return results;
+    }
+
+    /**
+     * Closes and deletes the journal, once the crawl it belongs to is finished.
+     */
+    public synchronized void deleteJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            if (journalWriter != null) {
+                journalWriter.close();
+                journalWriter = null;
+            }
+            Files.deleteIfExists(journal);
+        } catch (IOException e) {
+            logger.warn("Couldn't delete the crawl journal {}: {}", journal, e.getMessage());
+        }
+    }
+
+    private synchronized void appendToJournal(JournalEntry<T> entry) {
+        try {
+            if (journalWriter == null) {
+                Files.createDirectories(journal.toAbsolutePath().getParent());
+                journalWriter = Files.newBufferedWriter(journal, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            journalWriter.write(objectMapper.writeValueAsString(entry));
+            journalWriter.newLine();
+            journalWriter.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Couldn't append to the crawl journal " + journal, e);
+        }
+    }
+
+    private void replayJournal() {
+        try {
+            for (String line : Files.readAllLines(journal, StandardCharsets.UTF_8)) {
+                // the last line is cut when the crawl was killed while writing it
+                if (StringUtils.isNotBlank(line)) {
+                    final JournalEntry<T> entry = readEntry(line);
+                    if (entry != null) {
+                        resultsByPage.put(entry.pageURL(), List.copyOf(entry.results()));
+                    }
+                }
+            }
+            logger.info("Resuming with the {} pages visited in {}", resultsByPage.size(), journal);
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable crawl journal {}: {}", journal, e.getMessage());
+        }
+    }
+
+    private JournalEntry<T> readEntry(String line) {
+        try {
+            return objectMapper.readValue(line, journalEntryType);
+        } catch (IOException e) {
+            logger.warn("Skipping a malformed line of the crawl journal {}", journal);
+            return null;
+        }
+    }
+
+    private static String normalize(String url) {
+        return StringUtils.removeEnd(url.toLowerCase(Locale.ROOT)
+            .replace("/blob/", "/tree/"), "/");
+    }
+
+}
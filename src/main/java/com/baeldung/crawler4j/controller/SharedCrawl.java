@@ -0,0 +1,155 @@
+package com.baeldung.crawler4j.controller;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.uci.ics.crawler4j.crawler.CrawlController;
+import edu.uci.ics.crawler4j.crawler.WebCrawler;
+
+/**
+ * Crawls many seeds with one {@link CrawlController}, and so one frontier, instead of a fresh controller per seed.
+ * <br/>
+ * Seeds can be submitted while a crawl runs. Pages are routed to the seeds through a {@link SeedRouter}, and the
+ * results of a seed are handed over when the crawl is finished, i.e. when the frontier is exhausted. Seeds submitted
+ * once a crawl is finished start the next one.
+ * <br/>
+ * With resumable crawling, the frontier and the journal of the results survive an interrupted crawl, and the next
+ * crawl in the same storage folder picks up where it left off. Both are deleted once a crawl finishes.
+ */
+@ThreadSafe
+public class SharedCrawl<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(SharedCrawl.class);
+
+    private static final String JOURNAL_FILE_NAME = "seed-results.jsonl";
+
+    private final Supplier<CrawlController> controllerFactory;
+    private final Function<SeedRouter<T>, ? extends WebCrawler> crawlerFactory;
+    private final int numberOfCrawlers;
+    private final Class<T> resultType;
+
+    // guarded by this
+    private SeedRouter<T> router;
+    private CrawlController controller;
+    private final Map<String, CompletableFuture<List<T>>> pendingSeeds = new LinkedHashMap<>();
+    private final Set<String> retriedSeeds = new HashSet<>();
+
+    public SharedCrawl(Supplier<CrawlController> controllerFactory, Function<SeedRouter<T>, ? extends WebCrawler> crawlerFactory, int numberOfCrawlers, Class<T> resultType) {
+        this.controllerFactory = controllerFactory;
+        this.crawlerFactory = crawlerFactory;
+        this.numberOfCrawlers = numberOfCrawlers;
+        this.resultType = resultType;
+    }
+
+    /**
+     * Adds the seeds to the running crawl, or starts one.
+     *
+     * @return the results of each seed, completed when the crawl is finished
+     */
+    public synchronized Map<String, CompletableFuture<List<T>>> submit(Collection<String> seedURLs) {
+        final Map<String, CompletableFuture<List<T>>> results = new LinkedHashMap<>();
+        seedURLs.forEach(seedURL -> results.put(seedURL, pendingSeeds.computeIfAbsent(seedURL, url -> new CompletableFuture<>())));
+        addSeeds(seedURLs);
+        return results;
+    }
+
+    public synchronized Map<String, CompletableFuture<List<T>>> submit(String seedURL) {
+        return submit(List.of(seedURL));
+    }
+
+    private void addSeeds(Collection<String> seedURLs) {
+        if (controller != null && (controller.isShuttingDown() || controller.isFinished())) {
+            // the storage folder can't be reused until the finishing controller has released it
+            final CrawlController finishing = controller;
+            finishing.waitUntilFinish();
+            finished(finishing);
+        }
+        if (controller == null) {
+            start(seedURLs);
+        } else {
+            router.addSeeds(seedURLs);
+            seedURLs.forEach(controller::addSeed);
+        }
+    }
+
+    private void start(Collection<String> seedURLs) {
+        final CrawlController started = controllerFactory.get();
+        if (router == null) {
+            final boolean resumable = started.getConfig()
+                .isResumableCrawling();
+            router = new SeedRouter<>(resultType, resumable ? Path.of(started.getConfig()
+                .getCrawlStorageFolder(), JOURNAL_FILE_NAME) : null);
+        }
+        router.addSeeds(seedURLs);
+        seedURLs.forEach(started::addSeed);
+
+        logger.info("Starting a shared crawl with {} seeds", seedURLs.size());
+        started.startNonBlocking(() -> crawlerFactory.apply(router), numberOfCrawlers);
+        controller = started;
+        final Thread watcher = new Thread(() -> {
+            started.waitUntilFinish();
+            synchronized (this) {
+                finished(started);
+            }
+        }, "shared-crawl-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    private void finished(CrawlController finished) {
+        if (controller != finished) {
+            return;
+        }
+        controller = null;
+        if (finished.getConfig()
+            .isResumableCrawling()) {
+            router.deleteJournal();
+            deleteStorageFolder(finished.getConfig()
+                .getCrawlStorageFolder());
+        }
+
+        // a seed added while the crawl was finishing may never have been scheduled
+        final List<String> lostSeeds = new ArrayList<>();
+        pendingSeeds.forEach((seedURL, future) -> {
+            if (!router.wasVisited(seedURL) && retriedSeeds.add(seedURL)) {
+                lostSeeds.add(seedURL);
+            } else {
+                future.complete(router.getResults(seedURL));
+            }
+        });
+        pendingSeeds.keySet()
+            .retainAll(lostSeeds);
+        logger.info("Shared crawl finished");
+
+        if (!lostSeeds.isEmpty()) {
+            logger.info("Crawling again {} seeds which weren't visited", lostSeeds.size());
+            start(lostSeeds);
+        }
+    }
+
+    private static void deleteStorageFolder(String storageFolder) {
+        try {
+            FileUtils.deleteDirectory(new File(storageFolder));
+        } catch (IOException e) {
+            logger.warn("Couldn't delete the crawl storage folder {}: {}", storageFolder, e.getMessage());
+        }
+    }
+
+}
@@ -12,6 +12,7 @@ import org.jsoup.select.Elements;
 import com.baeldung.common.GlobalConstants;
 import com.baeldung.common.Utils;
 import com.baeldung.common.YAMLProperties;
+import com.baeldung.jsoup.JsoupResponseCache;
 
 import edu.uci.ics.crawler4j.crawler.Page;
 import edu.uci.ics.crawler4j.parser.HtmlParseData;
@@ -49,7 +50,7 @@ public class CrawlerForFindingGitHubModulesWithNoneOrEmptyReadme extends BaseCra
             Elements readmeLinks = doc.select("a[href$='readme.md']");
             if (readmeLinks.size() > 0) {
                 try {
-                    Document readmeDoc = Jsoup.connect(readmeLinks.get(0).absUrl("href")).get();
+                    Document readmeDoc = JsoupResponseCache.shared().get(readmeLinks.get(0).absUrl("href"));
                     if (readmeDoc.select("a[href*='" + GlobalConstants.BAELDUNG_DOMAIN_NAME + "']").size() == 0) {
                         this.discoveredURLs.add(pageURL);
                         logger.info("Empty readme " + pageURL);
@@ -1,6 +1,5 @@
 package com.baeldung.crawler4j.crawler;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -10,6 +9,7 @@ import org.jsoup.nodes.Element;
 
 import com.baeldung.common.Utils;
 import com.baeldung.common.vo.JavaConstruct;
+import com.baeldung.crawler4j.controller.SeedRouter;
 
 import edu.uci.ics.crawler4j.crawler.Page;
 import edu.uci.ics.crawler4j.parser.HtmlParseData;
@@ -19,9 +19,12 @@ public class CrawlerForFindingJavaCode extends BaseCrawler {
 
     protected final static Pattern FILTERS_ADDITIONAL_DIRECTORIES = Pattern.compile(".*(\\/src).*");
     public static List<String> CODE_SNIPPETS = null;
-    public static String baseURL = null;
     public static List<JavaConstruct> javaConstructsOnTheBaeldungPage;
-    private List<JavaConstruct> javaConstructsInTheGitHub = new ArrayList<>();
+    private final SeedRouter<JavaConstruct> seedRouter;
+
+    public CrawlerForFindingJavaCode(SeedRouter<JavaConstruct> seedRouter) {
+        this.seedRouter = seedRouter;
+    }
 
     @Override
     public boolean shouldVisit(Page referringPage, WebURL url) {
@@ -30,31 +33,25 @@ public class CrawlerForFindingJavaCode extends BaseCrawler {
 
         // @formatter:off
         return super.commonPredicate(pageURL, referringPageURL)                                               
-                && (pageURL.toLowerCase().startsWith(baseURL.toLowerCase()) || pageURL.toLowerCase().replace("/blob/", "/tree/").startsWith(baseURL.toLowerCase()));
+                && seedRouter.isInScope(pageURL);
         // @formatter:on
     }
 
     @Override
     public void visit(Page page) {
+        String pageURL = page.getWebURL().getURL();
+        List<JavaConstruct> javaConstructs = List.of();
         try {
-            String pageURL = page.getWebURL().getURL();
-
             if (pageURL.endsWith(".java")) {
                 HtmlParseData htmlParseData = (HtmlParseData) page.getParseData();
                 Document doc = Jsoup.parseBodyFragment(htmlParseData.getHtml(), Utils.getProtocol(pageURL) + page.getWebURL().getDomain());
                 Element rawLink = doc.select("a[href$='.java']:contains(raw)").get(0);
-                List<JavaConstruct> javaConstructs = Utils.getJavaConstructsFromGitHubRawUrl(rawLink.absUrl("href"));
-                javaConstructsInTheGitHub.addAll(javaConstructs);
+                javaConstructs = Utils.getJavaConstructsFromGitHubRawUrl(rawLink.absUrl("href"));
             }
         } catch (Exception e) {
-            logger.error("Error occureed while parsing page:" + page.getWebURL().getURL());
+            logger.error("Error occureed while parsing page:" + pageURL);
         }
-
-    }
-
-    @Override
-    public List<JavaConstruct> getMyLocalData() {
-        return javaConstructsInTheGitHub;
+        seedRouter.collect(pageURL, javaConstructs);
     }
 
 }
@@ -0,0 +1,473 @@
+package com.baeldung.filevisitor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Profile;
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.baeldung.common.GitRepoSync;
+import com.baeldung.common.GlobalConstants;
+import com.baeldung.common.Utils;
+import com.baeldung.common.YAMLProperties;
+import com.baeldung.common.vo.LinkVO;
+import com.baeldung.common.vo.MavenProjectVO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+
+/**
+ * Modules and READMEs of a local repository checkout, collected by a single walk of the repository.
+ * <br/>
+ * The walk only lists the files, the POMs and READMEs are then parsed in parallel. Indexes are cached per repository
+ * for the lifetime of the JVM, or until {@link #invalidate(Path)} is called after the checkout changed.
+ * <br/>
+ * Indexes of git checkouts are also stored on disk along with the HEAD commit they were built from. When HEAD moved,
+ * only the POMs and READMEs changed between the stored commit and HEAD are parsed again. Local changes that aren't
+ * committed don't move HEAD and aren't picked up. The directory can be set with the {@code repository.index.dir}
+ * system property.
+ */
+@ThreadSafe
+public final class RepositoryIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(RepositoryIndex.class);
+
+    private static final int FORMAT_VERSION = 1;
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final Path INDEX_DIRECTORY = Paths.get(System.getProperty("repository.index.dir",
+        Paths.get(System.getProperty("java.io.tmpdir"), "blogwatch-repository-index").toString()));
+
+    private static final ConcurrentMap<Path, RepositoryIndex> INDEXES = new ConcurrentHashMap<>();
+
+    /**
+     * The parts of a pom.xml the tests look at.
+     */
+    public record Pom(String groupId, String artifactId, String version, String name, String parentArtifactId, List<String> modules,
+        Map<String, List<String>> profileModules) {
+    }
+
+    /**
+     * A README file with the lines and links pointing to the Baeldung site.
+     */
+    public record Readme(Path path, int baeldungLinkLineCount, List<LinkVO> baeldungLinks) {
+    }
+
+    /**
+     * A directory holding a pom.xml. The pom is null when it can't be parsed, the readme is null when the module has no README.md.
+     */
+    public record Module(Path directory, Path pomFile, Pom pom, Readme readme) {
+
+        public boolean isParsable() {
+            return pom != null;
+        }
+    }
+
+    record StoredIndex(int version, String headCommit, List<StoredModule> modules, List<StoredReadme> readmes) {
+    }
+
+    record StoredModule(String pomFile, Pom pom) {
+    }
+
+    record StoredReadme(String path, int baeldungLinkLineCount, List<StoredLink> baeldungLinks) {
+    }
+
+    record StoredLink(String link, String linkText) {
+    }
+
+    private final Path root;
+    private final String headCommit;
+    private final List<Module> modules;
+    private final Map<Path, Readme> readmes;
+
+    private RepositoryIndex(Path root, String headCommit, List<Module> modules, Map<Path, Readme> readmes) {
+        this.root = root;
+        this.headCommit = headCommit;
+        this.modules = modules;
+        this.readmes = readmes;
+    }
+
+    public static RepositoryIndex of(String repoLocalPath) {
+        return of(Path.of(repoLocalPath));
+    }
+
+    public static RepositoryIndex of(Path repoLocalPath) {
+        return INDEXES.computeIfAbsent(repoLocalPath.toAbsolutePath().normalize(), key -> {
+            try {
+                return load(repoLocalPath, INDEX_DIRECTORY);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Couldn't index " + repoLocalPath, e);
+            }
+        });
+    }
+
+    /**
+     * Drops the cached index of the repository, the next {@link #of(Path)} walks it again.
+     */
+    public static void invalidate(Path repoLocalPath) {
+        INDEXES.remove(repoLocalPath.toAbsolutePath().normalize());
+    }
+
+    /**
+     * Loads the index of the repository from the given directory, bypassing the JVM cache. The stored index is
+     * brought up to date with the HEAD of the repository, or built from scratch when it can't be.
+     */
+    public static RepositoryIndex load(Path root, Path indexDirectory) throws IOException {
+        final Optional<String> head = GitRepoSync.resolveHead(root);
+        if (head.isEmpty()) {
+            return build(root, null);
+        }
+
+        final String headCommit = head.get();
+        final Path indexFile = indexDirectory.resolve(Hashing.sha256().hashString(root.toAbsolutePath().normalize().toString(), StandardCharsets.UTF_8) + ".json");
+        final Optional<StoredIndex> stored = read(indexFile);
+        if (stored.isPresent() && headCommit.equals(stored.get().headCommit())) {
+            logger.info("Repository index of {} is up to date at {}", root, headCommit);
+            return fromStored(root, stored.get());
+        }
+
+        RepositoryIndex index = null;
+        if (stored.isPresent()) {
+            final Optional<Set<String>> changedPaths = GitRepoSync.changedPaths(root, stored.get().headCommit(), headCommit);
+            if (changedPaths.isPresent()) {
+                logger.info("Updating repository index of {} from {} to {}, {} files changed", root, stored.get().headCommit(), headCommit, changedPaths.get().size());
+                index = fromStored(root, stored.get()).update(headCommit, changedPaths.get());
+            }
+        }
+        if (index == null) {
+            index = build(root, headCommit);
+        }
+        write(indexFile, index);
+        return index;
+    }
+
+    static RepositoryIndex build(Path root, String headCommit) throws IOException {
+        final List<Path> pomFiles = new ArrayList<>();
+        final List<Path> readmeFiles = new ArrayList<>();
+        final Path gitDirectory = root.resolve(".git");
+
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                return dir.equals(gitDirectory) ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (attrs.isRegularFile()) {
+                    if (isPomFile(file)) {
+                        pomFiles.add(file);
+                    } else if (isReadmeFile(file)) {
+                        readmeFiles.add(file);
+                    }
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        final RepositoryIndex index = assemble(root, headCommit, parseModules(pomFiles), parseReadmes(readmeFiles));
+        logger.info("Indexed {}: {} modules, {} READMEs", root, index.modules.size(), index.readmes.size());
+        return index;
+    }
+
+    /**
+     * @return a copy of this index at the given commit, with the changed paths parsed again
+     */
+    private RepositoryIndex update(String newHeadCommit, Set<String> changedPaths) {
+        final Map<Path, Module> updatedModules = new HashMap<>();
+        modules.forEach(module -> updatedModules.put(module.pomFile(), module));
+        final Map<Path, Readme> updatedReadmes = new HashMap<>(readmes);
+
+        final List<Path> pomFiles = new ArrayList<>();
+        final List<Path> readmeFiles = new ArrayList<>();
+        for (String changedPath : changedPaths) {
+            final Path file = root.resolve(changedPath);
+            updatedModules.remove(file);
+            updatedReadmes.remove(file);
+            if (Files.isRegularFile(file)) {
+                if (isPomFile(file)) {
+                    pomFiles.add(file);
+                } else if (isReadmeFile(file)) {
+                    readmeFiles.add(file);
+                }
+            }
+        }
+        parseModules(pomFiles).forEach(module -> updatedModules.put(module.pomFile(), module));
+        updatedReadmes.putAll(parseReadmes(readmeFiles));
+
+        logger.info("Parsed {} POMs and {} READMEs again in {}", pomFiles.size(), readmeFiles.size(), root);
+        return assemble(root, newHeadCommit, updatedModules.values(), updatedReadmes);
+    }
+
+    private static RepositoryIndex assemble(Path root, String headCommit, Collection<Module> modules, Map<Path, Readme> readmes) {
+        final List<Module> linkedModules = modules.stream()
+            .map(module -> new Module(module.directory(), module.pomFile(), module.pom(),
+                readmes.get(module.directory().resolve(GlobalConstants.README_FILE_NAME_UPPERCASE))))
+            .sorted(Comparator.comparing(Module::pomFile))
+            .toList();
+        return new RepositoryIndex(root, headCommit, linkedModules, Collections.unmodifiableMap(new HashMap<>(readmes)));
+    }
+
+    private static List<Module> parseModules(List<Path> pomFiles) {
+        return pomFiles.parallelStream()
+            .map(pomFile -> new Module(pomFile.getParent(), pomFile, parsePom(pomFile), null))
+            .toList();
+    }
+
+    private static Map<Path, Readme> parseReadmes(List<Path> readmeFiles) {
+        return readmeFiles.parallelStream()
+            .map(RepositoryIndex::parseReadme)
+            .collect(Collectors.toConcurrentMap(Readme::path, Function.identity()));
+    }
+
+    private static boolean isPomFile(Path file) {
+        return file.getFileName().toString().equalsIgnoreCase(GlobalConstants.POM_FILE_NAME_LOWERCASE);
+    }
+
+    private static boolean isReadmeFile(Path file) {
+        return file.getFileName().toString().toLowerCase().endsWith(GlobalConstants.README_FILE_NAME_LOWERCASE);
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * @return the commit the index was built from, empty when the repository isn't a git checkout
+     */
+    public Optional<String> getHeadCommit() {
+        return Optional.ofNullable(headCommit);
+    }
+
+    public List<Module> getModules() {
+        return modules;
+    }
+
+    /**
+     * @return paths of all README files of the repository
+     */
+    public List<String> getReadmePaths() {
+        return readmes.keySet().stream().sorted().map(Path::toString).toList();
+    }
+
+    public List<LinkVO> getBaeldungLinks(String readmePath) {
+        return Optional.ofNullable(readmes.get(Path.of(readmePath))).map(Readme::baeldungLinks).orElse(Collections.emptyList());
+    }
+
+    /**
+     * @return README.md paths of the modules whose README doesn't link to any article
+     */
+    public List<String> findEmptyReadmes() {
+        return modules.stream()
+            .filter(module -> module.readme() != null && module.readme().baeldungLinkLineCount() == 0)
+            .filter(module -> !isExcludedFromReadmeChecks(module.directory()))
+            .map(module -> module.readme().path().toString())
+            .toList();
+    }
+
+    /**
+     * @return directories of the modules without a README.md
+     */
+    public List<String> findModulesWithMissingReadme() {
+        return modules.stream()
+            .filter(module -> module.readme() == null)
+            .filter(module -> !isExcludedFromReadmeChecks(module.directory()))
+            .map(module -> module.directory().toString())
+            .toList();
+    }
+
+    /**
+     * @return pom.xml paths of the modules having the given parent
+     */
+    public List<String> findChildModules(String parentArtifactId) {
+        return modules.stream()
+            .filter(module -> module.isParsable() && parentArtifactId.equalsIgnoreCase(module.pom().parentArtifactId()))
+            .map(module -> module.pomFile().toString())
+            .toList();
+    }
+
+    /**
+     * @return pom.xml paths of the modules whose artifactId doesn't match the directory name or the module name
+     */
+    public List<String> findUnalignedModules(List<String> exceptions) {
+        return nonRootModules(exceptions)
+            .filter(Module::isParsable)
+            .filter(module -> {
+                String artifactId = module.pom().artifactId();
+                String moduleName = module.pom().name();
+                String directoryName = module.directory().getFileName().toString();
+                return !artifactId.equals(directoryName) || (StringUtils.isNotBlank(moduleName) && !artifactId.equals(moduleName));
+            })
+            .map(module -> module.pomFile().toString())
+            .toList();
+    }
+
+    public List<String> findUnparsableModules(List<String> exceptions) {
+        return nonRootModules(exceptions)
+            .filter(module -> !module.isParsable())
+            .map(module -> module.pomFile().toString())
+            .toList();
+    }
+
+    /**
+     * @return new, unlinked {@link MavenProjectVO}s of all modules but the root one, by artifactId
+     */
+    public Map<String, MavenProjectVO> getMavenProjects() {
+        final Map<String, MavenProjectVO> projects = new HashMap<>();
+        nonRootModules(Collections.emptyList())
+            .filter(Module::isParsable)
+            .forEach(module -> {
+                Pom pom = module.pom();
+                MavenProjectVO project = new MavenProjectVO(pom.groupId(), pom.artifactId(), pom.version(), module.pomFile().toString());
+                project.setChildModules(pom.modules());
+                projects.put(pom.artifactId(), project);
+            });
+        return projects;
+    }
+
+    /**
+     * @return modules of the root pom profiles whose id starts with the given prefix, by profile id
+     */
+    public Map<String, List<String>> getRootProfileModules(String profileIdPrefix) {
+        return modules.stream()
+            .filter(module -> module.directory().equals(root) && module.isParsable())
+            .findFirst()
+            .map(module -> module.pom().profileModules().entrySet().stream()
+                .filter(profile -> profile.getKey().startsWith(profileIdPrefix))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (first, second) -> first, LinkedHashMap::new)))
+            .orElse(new LinkedHashMap<>());
+    }
+
+    private Stream<Module> nonRootModules(List<String> exceptions) {
+        return modules.stream()
+            .filter(module -> !module.directory().equals(root))
+            .filter(module -> exceptions == null || !exceptions.contains(StringUtils.removeStart(module.directory().toString(), root.toString())));
+    }
+
+    /**
+     * A module is excluded when its directory or one of its ancestors is in the exception lists of the README tests.
+     */
+    private boolean isExcludedFromReadmeChecks(Path directory) {
+        final List<String> containing = YAMLProperties.exceptionsForEmptyReadmeTest.get(GlobalConstants.IGNORE_README_CONTAINING_LIST_KEY);
+        final List<String> endingWith = YAMLProperties.exceptionsForEmptyReadmeTest.get(GlobalConstants.IGNORE_README_ENDING_WITH_LIST_KEY);
+        for (Path current = directory; current != null && current.startsWith(root); current = current.getParent()) {
+            String pathAsString = current.toString();
+            if (Utils.excludePage(pathAsString, containing, (theCurrentUrl, anEntryIntheList) -> theCurrentUrl.contains(anEntryIntheList))
+                || Utils.excludePage(pathAsString, endingWith, (theCurrentUrl, anEntryIntheList) -> theCurrentUrl.endsWith(anEntryIntheList))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Optional<StoredIndex> read(Path indexFile) {
+        if (!Files.isRegularFile(indexFile)) {
+            return Optional.empty();
+        }
+        try {
+            final StoredIndex stored = objectMapper.readValue(indexFile.toFile(), StoredIndex.class);
+            return stored.version() == FORMAT_VERSION ? Optional.of(stored) : Optional.empty();
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable repository index {}: {}", indexFile, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static void write(Path indexFile, RepositoryIndex index) {
+        // @formatter:off
+        final StoredIndex stored = new StoredIndex(FORMAT_VERSION, index.headCommit,
+            index.modules.stream()
+                .map(module -> new StoredModule(index.relativize(module.pomFile()), module.pom()))
+                .toList(),
+            index.readmes.values().stream()
+                .map(readme -> new StoredReadme(index.relativize(readme.path()), readme.baeldungLinkLineCount(),
+                    readme.baeldungLinks().stream().map(link -> new StoredLink(link.getLink(), link.getLinkText())).toList()))
+                .toList());
+        // @formatter:on
+        try {
+            Files.createDirectories(indexFile.getParent());
+            final Path temp = Files.createTempFile(indexFile.getParent(), "index", ".tmp");
+            objectMapper.writeValue(temp.toFile(), stored);
+            Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Couldn't store the repository index of {} in {}: {}", index.root, indexFile, e.getMessage());
+        }
+    }
+
+    private static RepositoryIndex fromStored(Path root, StoredIndex stored) {
+        final List<Module> modules = stored.modules().stream()
+            .map(module -> {
+                final Path pomFile = root.resolve(module.pomFile());
+                return new Module(pomFile.getParent(), pomFile, module.pom(), null);
+            })
+            .toList();
+        final Map<Path, Readme> readmes = new HashMap<>();
+        for (StoredReadme readme : stored.readmes()) {
+            final Path path = root.resolve(readme.path());
+            readmes.put(path, new Readme(path, readme.baeldungLinkLineCount(),
+                readme.baeldungLinks().stream().map(link -> new LinkVO(link.link(), link.linkText())).toList()));
+        }
+        return assemble(root, stored.headCommit(), modules, readmes);
+    }
+
+    private String relativize(Path file) {
+        return root.relativize(file).toString().replace(File.separatorChar, '/');
+    }
+
+    private static Readme parseReadme(Path readme) {
+        int baeldungLinkLineCount = 0;
+        try {
+            baeldungLinkLineCount = Utils.getLinksToTheBaeldungSite(readme.toString());
+        } catch (IOException | UncheckedIOException e) {
+            logger.error("Error while reading {}: {}", readme, e.getMessage());
+        }
+        return new Readme(readme, baeldungLinkLineCount, List.copyOf(Utils.extractBaeldungLinksFromReadmeFile(readme)));
+    }
+
+    private static Pom parsePom(Path pomFile) {
+        try (Reader reader = Files.newBufferedReader(pomFile)) {
+            Model model = new MavenXpp3Reader().read(reader);
+            Map<String, List<String>> profileModules = new LinkedHashMap<>();
+            for (Profile profile : model.getProfiles()) {
+                profileModules.put(profile.getId(), List.copyOf(profile.getModules()));
+            }
+            return new Pom(model.getGroupId(), model.getArtifactId(), model.getVersion(), model.getName(),
+                model.getParent() == null ? null : model.getParent().getArtifactId(), List.copyOf(model.getModules()), profileModules);
+        } catch (IOException | XmlPullParserException | RuntimeException e) {
+            logger.error("Error while parsing POM {}", pomFile);
+            return null;
+        }
+    }
+
+}
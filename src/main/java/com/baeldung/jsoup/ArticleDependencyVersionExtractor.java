@@ -3,7 +3,6 @@ package com.baeldung.jsoup;
 import com.baeldung.common.dto.DependencyDto;
 import com.baeldung.common.dto.DependencyVersionDto;
 import org.apache.commons.text.StringEscapeUtils;
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Element;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,22 +31,29 @@ public class ArticleDependencyVersionExtractor {
 
     public List<DependencyVersionDto> extractDependencyVersion(DependencyDto searchedDependency, URL article) {
         try {
-            return Jsoup.parse(article, 10000)
-              .getElementsByTag("code")
-              .stream()
-              .filter(this::isXmlCode)
-              .map(this::xmlContent)
-              .map(this::toDocument)
-              .peek(document -> {if (document == null) System.out.println("Couldn't parse some XML in this article: " + article);})
-              .filter(Objects::nonNull)
-              .flatMap(this::toDependencies)
-              .filter(dependencyVersion -> dependencyVersion.getDependency().sameArtifactAs(searchedDependency))
-              .collect(Collectors.toList());
+            return extractDependencyVersion(searchedDependency, JsoupResponseCache.shared().get(article.toString(), 10000));
         } catch (IOException e) {
             throw new IllegalStateException("An error occurred while reading URL: " + article);
         }
     }
 
+    /**
+     * Same as {@link #extractDependencyVersion(DependencyDto, URL)}, for an already fetched article.
+     */
+    public List<DependencyVersionDto> extractDependencyVersion(DependencyDto searchedDependency, org.jsoup.nodes.Document article) {
+        return article
+          .getElementsByTag("code")
+          .stream()
+          .filter(this::isXmlCode)
+          .map(this::xmlContent)
+          .map(this::toDocument)
+          .peek(document -> {if (document == null) System.out.println("Couldn't parse some XML in this article: " + article.location());})
+          .filter(Objects::nonNull)
+          .flatMap(this::toDependencies)
+          .filter(dependencyVersion -> dependencyVersion.getDependency().sameArtifactAs(searchedDependency))
+          .collect(Collectors.toList());
+    }
+
     private boolean isXmlCode(Element element) {
         return element.attr("class").contains("language-xml") && element.childNodeSize() > 0;
     }
@@ -0,0 +1,317 @@
+package com.baeldung.jsoup;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jsoup.Connection;
+import org.jsoup.HttpStatusException;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.baeldung.common.HostThrottle;
+import com.baeldung.common.MetricsRegistry;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
+
+/**
+ * Caches jsoup GET responses by URL, in memory and on disk.
+ * <br/>
+ * Cached responses are revalidated with If-None-Match/If-Modified-Since, a 304 answer serves the cached body.
+ * Responses fetched less than {@code freshForMillis} ago are served without revalidation, so pages hit by several
+ * tests of one run are downloaded once. The in-memory front is an LRU bounded by entry count, the disk store
+ * evicts the least recently used files once it grows beyond {@code maxDiskBytes}.
+ * <br/>
+ * Requests going to the network are throttled per host by a {@link HostThrottle}. A 429 or 503 answer is retried, after
+ * the Retry-After delay, up to {@code jsoup.cache.max-retries} times.
+ * <br/>
+ * Defaults can be overridden with the {@code jsoup.cache.*} system properties.
+ */
+@ThreadSafe
+public class JsoupResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(JsoupResponseCache.class);
+
+    private static final int DEFAULT_TIMEOUT = 30000;
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAX_RETRIES = Integer.getInteger("jsoup.cache.max-retries", 2);
+
+    // @formatter:off
+    private static final JsoupResponseCache SHARED = new JsoupResponseCache(
+            Paths.get(System.getProperty("jsoup.cache.dir", Paths.get(System.getProperty("java.io.tmpdir"), "blogwatch-jsoup-cache").toString())),
+            Integer.getInteger("jsoup.cache.max-memory-entries", 200),
+            Long.getLong("jsoup.cache.max-disk-bytes", 256L * 1024 * 1024),
+            Long.getLong("jsoup.cache.fresh-for-millis", 60000L),
+            HostThrottle.shared());
+    // @formatter:on
+
+    private final Path directory;
+    private final long maxDiskBytes;
+    private final long freshForMillis;
+    private final HostThrottle hostThrottle;
+    private final Map<String, CachedResponse> memory;
+    private final AtomicLong diskBytes = new AtomicLong();
+
+    public JsoupResponseCache(Path directory, int maxMemoryEntries, long maxDiskBytes, long freshForMillis) {
+        this(directory, maxMemoryEntries, maxDiskBytes, freshForMillis, HostThrottle.shared());
+    }
+
+    public JsoupResponseCache(Path directory, int maxMemoryEntries, long maxDiskBytes, long freshForMillis, HostThrottle hostThrottle) {
+        this.directory = directory;
+        this.hostThrottle = hostThrottle;
+        this.maxDiskBytes = maxDiskBytes;
+        this.freshForMillis = freshForMillis;
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxMemoryEntries;
+            }
+        };
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                diskBytes.set(files.mapToLong(JsoupResponseCache::sizeOf).sum());
+            }
+        } catch (IOException e) {
+            logger.warn("Jsoup response cache directory {} isn't usable, caching in memory only: {}", directory, e.getMessage());
+        }
+    }
+
+    public static JsoupResponseCache shared() {
+        return SHARED;
+    }
+
+    public Document get(String url) throws IOException {
+        return get(url, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Same as {@code Jsoup.connect(url).timeout(timeoutMillis).get()}, including the HttpStatusException thrown for error statuses.
+     */
+    public Document get(String url, int timeoutMillis) throws IOException {
+        CachedResponse response = fetch(url, timeoutMillis);
+        return Jsoup.parse(response.body(), response.finalUrl());
+    }
+
+    /**
+     * Same as {@code Jsoup.connect(url).execute().body()}.
+     */
+    public String getBody(String url) throws IOException {
+        return fetch(url, DEFAULT_TIMEOUT).body();
+    }
+
+    private CachedResponse fetch(String url, int timeoutMillis) throws IOException {
+        CachedResponse cached = lookup(url);
+        if (cached != null && System.currentTimeMillis() - cached.fetchedAt() < freshForMillis) {
+            return cached;
+        }
+
+        Connection.Response response = execute(url, timeoutMillis, cached);
+        if (cached != null && response.statusCode() == 304) {
+            logger.debug("Not modified: {}", url);
+            CachedResponse revalidated = cached.revalidatedAt(System.currentTimeMillis());
+            store(url, revalidated, false);
+            return revalidated;
+        }
+
+        CachedResponse fetched = new CachedResponse(response.url().toString(), response.header("ETag"), response.header("Last-Modified"), response.body(), System.currentTimeMillis());
+        store(url, fetched, fetched.hasValidators());
+        return fetched;
+    }
+
+    private Connection.Response execute(String url, int timeoutMillis, CachedResponse cached) throws IOException {
+        for (int attempt = 0;; attempt++) {
+            Connection connection = Jsoup.connect(url).timeout(timeoutMillis).ignoreHttpErrors(true);
+            if (cached != null) {
+                if (StringUtils.isNotEmpty(cached.etag())) {
+                    connection.header("If-None-Match", cached.etag());
+                }
+                if (StringUtils.isNotEmpty(cached.lastModified())) {
+                    connection.header("If-Modified-Since", cached.lastModified());
+                }
+            }
+
+            hostThrottle.acquire(url);
+            final long start = System.nanoTime();
+            Connection.Response response = connection.execute();
+            MetricsRegistry.shared().recordHttpFetch(url, start);
+            hostThrottle.onResponse(url, response.statusCode(), response.header("Retry-After"));
+            if (HostThrottle.isThrottled(response.statusCode()) && attempt < MAX_RETRIES) {
+                logger.debug("Retrying {} after a {}", url, response.statusCode());
+                // the body of the throttled response is discarded unread
+                response.bodyStream()
+                    .close();
+                continue;
+            }
+            // ignoreHttpErrors(true) is only there to read Retry-After, error statuses still fail as with a plain get()
+            if (response.statusCode() < 200 || response.statusCode() >= 400) {
+                throw new HttpStatusException("HTTP error fetching URL", response.statusCode(), response.url().toString());
+            }
+            return response;
+        }
+    }
+
+    private CachedResponse lookup(String url) {
+        synchronized (memory) {
+            CachedResponse cached = memory.get(url);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        CachedResponse cached = readFromDisk(url);
+        if (cached != null) {
+            synchronized (memory) {
+                memory.put(url, cached);
+            }
+        }
+        return cached;
+    }
+
+    private void store(String url, CachedResponse response, boolean writeBody) {
+        synchronized (memory) {
+            memory.put(url, response);
+        }
+        if (writeBody) {
+            writeToDisk(url, response);
+        } else {
+            touch(fileOf(url));
+        }
+    }
+
+    private CachedResponse readFromDisk(String url) {
+        Path file = fileOf(url);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            if (in.readInt() != FORMAT_VERSION || !url.equals(in.readUTF())) {
+                return null;
+            }
+            String finalUrl = in.readUTF();
+            String etag = in.readUTF();
+            String lastModified = in.readUTF();
+            // entries coming from disk are always revalidated
+            byte[] body = in.readAllBytes();
+            touch(file);
+            return new CachedResponse(finalUrl, etag, lastModified, new String(body, StandardCharsets.UTF_8), 0);
+        } catch (IOException e) {
+            logger.debug("Ignoring unreadable cache entry {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeToDisk(String url, CachedResponse response) {
+        Path file = fileOf(url);
+        try {
+            Path temp = Files.createTempFile(directory, "entry", ".tmp");
+            try (OutputStream fileOut = Files.newOutputStream(temp); DataOutputStream out = new DataOutputStream(fileOut)) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(url);
+                out.writeUTF(response.finalUrl());
+                out.writeUTF(StringUtils.defaultString(response.etag()));
+                out.writeUTF(StringUtils.defaultString(response.lastModified()));
+                out.write(response.body().getBytes(StandardCharsets.UTF_8));
+            }
+            long previousSize = sizeOf(file);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (diskBytes.addAndGet(sizeOf(file) - previousSize) > maxDiskBytes) {
+                evict();
+            }
+        } catch (IOException e) {
+            logger.debug("Couldn't write cache entry for {}: {}", url, e.getMessage());
+        }
+    }
+
+    private synchronized void evict() {
+        if (diskBytes.get() <= maxDiskBytes) {
+            return;
+        }
+        List<Path> leastRecentlyUsedFirst;
+        try (Stream<Path> files = Files.list(directory)) {
+            leastRecentlyUsedFirst = files.sorted(Comparator.comparing(JsoupResponseCache::lastUsedOf)).collect(Collectors.toList());
+        } catch (IOException e) {
+            logger.debug("Couldn't list cache directory {}: {}", directory, e.getMessage());
+            return;
+        }
+        for (Path file : leastRecentlyUsedFirst) {
+            if (diskBytes.get() <= maxDiskBytes) {
+                break;
+            }
+            long size = sizeOf(file);
+            try {
+                if (Files.deleteIfExists(file)) {
+                    diskBytes.addAndGet(-size);
+                }
+            } catch (IOException e) {
+                logger.debug("Couldn't evict cache entry {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    @VisibleForTesting
+    long getDiskBytes() {
+        return diskBytes.get();
+    }
+
+    @VisibleForTesting
+    Path fileOf(String url) {
+        return directory.resolve(Hashing.sha256().hashString(url, StandardCharsets.UTF_8).toString());
+    }
+
+    private static void touch(Path file) {
+        try {
+            if (Files.exists(file)) {
+                Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            }
+        } catch (IOException e) {
+            logger.debug("Couldn't touch cache entry {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static FileTime lastUsedOf(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.isRegularFile(file) ? Files.size(file) : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private record CachedResponse(String finalUrl, String etag, String lastModified, String body, long fetchedAt) {
+
+        boolean hasValidators() {
+            return StringUtils.isNotEmpty(etag) || StringUtils.isNotEmpty(lastModified);
+        }
+
+        CachedResponse revalidatedAt(long time) {
+            return new CachedResponse(finalUrl, etag, lastModified, body, time);
+        }
+    }
+
+}
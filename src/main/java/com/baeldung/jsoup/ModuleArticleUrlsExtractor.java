@@ -1,11 +1,9 @@
 package com.baeldung.jsoup;
 
 import com.baeldung.common.ConsoleColors;
-import com.baeldung.common.Utils;
 import com.google.common.annotations.VisibleForTesting;
 
 import org.jsoup.HttpStatusException;
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.slf4j.Logger;
@@ -54,8 +52,7 @@ public class ModuleArticleUrlsExtractor {
     @VisibleForTesting
     Optional<Document> parseDocument(URL url) {
         try {
-            Utils.sleep(1500);
-            return Optional.of(Jsoup.parse(url, TIMEOUT));
+            return Optional.of(JsoupResponseCache.shared().get(url.toString(), TIMEOUT));
         }
         catch(HttpStatusException httpStatusException){
             logger.error(ConsoleColors.redBoldMessage("Error while fetching README :{} "), url);
@@ -1,5 +1,6 @@
 package com.baeldung.selenium.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
@@ -28,6 +29,15 @@ public class SeleniumContextConfiguration {
         return new uiBrowserConfig();
     }
 
+    /**
+     * Shared by the on-demand browser configs of concurrent tests, see ConcurrentBaseUISeleniumTest.
+     */
+    @Bean(destroyMethod = "close")
+    public WebDriverPool webDriverPool(@Value("${webdriver.pool.max-sessions-per-key:${concurrency.level:3}}") int maxSessionsPerKey,
+        @Value("${webdriver.pool.max-pages-per-session:250}") int maxPagesPerSession) {
+        return new WebDriverPool(maxSessionsPerKey, maxPagesPerSession);
+    }
+
     @Bean
     public static PropertySourcesPlaceholderConfigurer propertySourcesPlaceholderConfigurer() {
         return new PropertySourcesPlaceholderConfigurer();
@@ -0,0 +1,195 @@
+package com.baeldung.selenium.config;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded pool of reusable {@link WebDriver} sessions, keyed by browser and proxy settings.
+ * <br/>
+ * At most {@code maxSessionsPerKey} sessions exist per key; borrowers block until one is released.
+ * Idle sessions are health-checked before being handed out. A session which served
+ * {@code maxPagesPerSession} pages gets a new driver before loading the next one, even while borrowed, to cap the
+ * memory growth of long-living browsers.
+ */
+@ThreadSafe
+public class WebDriverPool implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebDriverPool.class);
+
+    private final int maxSessionsPerKey;
+    private final int maxPagesPerSession;
+    private final ConcurrentMap<SessionKey, Slot> slots = new ConcurrentHashMap<>();
+
+    private volatile boolean closed;
+
+    public WebDriverPool(int maxSessionsPerKey, int maxPagesPerSession) {
+        if (maxSessionsPerKey < 1 || maxPagesPerSession < 1) {
+            throw new IllegalArgumentException("Pool size and pages per session must be positive");
+        }
+        this.maxSessionsPerKey = maxSessionsPerKey;
+        this.maxPagesPerSession = maxPagesPerSession;
+    }
+
+    /**
+     * Identifies interchangeable sessions, e.g. headless chrome without a proxy.
+     */
+    public record SessionKey(String browser, String proxy) {
+
+        public static SessionKey of(String browser) {
+            return new SessionKey(browser, "");
+        }
+
+        public static SessionKey of(String browser, String proxyHost, String proxyPort, String proxyUsername) {
+            return new SessionKey(browser, proxyUsername + "@" + proxyHost + ":" + proxyPort);
+        }
+    }
+
+    /**
+     * A borrowed driver. Owned by a single thread between {@link #borrow} and {@link #release}.
+     */
+    public static final class Session {
+
+        private final SessionKey key;
+        private final Supplier<WebDriver> driverFactory;
+        private final int maxPagesPerSession;
+        private WebDriver driver;
+        private int pagesLoaded;
+
+        private Session(SessionKey key, Supplier<WebDriver> driverFactory, int maxPagesPerSession) {
+            this.key = key;
+            this.driverFactory = driverFactory;
+            this.maxPagesPerSession = maxPagesPerSession;
+            this.driver = driverFactory.get();
+        }
+
+        public WebDriver getDriver() {
+            return driver;
+        }
+
+        /**
+         * Counts a page about to be loaded. When the driver already served {@code maxPagesPerSession} pages, it is quit
+         * and replaced first, so callers must get the driver again afterwards.
+         */
+        public void recordPageLoad() {
+            if (pagesLoaded >= maxPagesPerSession) {
+                logger.info("Recycling {} session after {} pages", key.browser(), pagesLoaded);
+                quit(this);
+                driver = driverFactory.get();
+                pagesLoaded = 0;
+            }
+            pagesLoaded++;
+        }
+
+        public int getPagesLoaded() {
+            return pagesLoaded;
+        }
+    }
+
+    private static final class Slot {
+
+        final Semaphore permits;
+        final Deque<Session> idle = new ConcurrentLinkedDeque<>();
+
+        Slot(int size) {
+            this.permits = new Semaphore(size, true);
+        }
+    }
+
+    /**
+     * Hands out a healthy idle session for the key, or creates one with the given factory.
+     * Blocks while all sessions of the key are in use.
+     */
+    public Session borrow(SessionKey key, Supplier<WebDriver> driverFactory) {
+        if (closed) {
+            throw new IllegalStateException("WebDriver pool is closed");
+        }
+        final Slot slot = slots.computeIfAbsent(key, k -> new Slot(maxSessionsPerKey));
+        slot.permits.acquireUninterruptibly();
+        try {
+            Session session;
+            while ((session = slot.idle.pollFirst()) != null) {
+                if (isHealthy(session)) {
+                    return session;
+                }
+                logger.info("Discarding unhealthy {} session", key.browser());
+                quit(session);
+            }
+            return new Session(key, driverFactory, maxPagesPerSession);
+        } catch (RuntimeException e) {
+            slot.permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the session to the pool, or quits it when it has served enough pages or can't be reset.
+     */
+    public void release(Session session) {
+        final Slot slot = slots.get(session.key);
+        try {
+            if (closed || session.pagesLoaded >= maxPagesPerSession || !reset(session)) {
+                quit(session);
+            } else {
+                // most recently used first, keeps the warmest sessions busy
+                slot.idle.offerFirst(session);
+            }
+        } finally {
+            slot.permits.release();
+        }
+    }
+
+    public int getIdleSessionCount() {
+        return slots.values().stream().mapToInt(slot -> slot.idle.size()).sum();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        slots.values().forEach(slot -> {
+            Session session;
+            while ((session = slot.idle.pollFirst()) != null) {
+                quit(session);
+            }
+        });
+    }
+
+    private boolean isHealthy(Session session) {
+        try {
+            session.driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private boolean reset(Session session) {
+        try {
+            session.driver.manage().deleteAllCookies();
+            session.driver.get("about:blank");
+            return true;
+        } catch (WebDriverException e) {
+            logger.info("Couldn't reset {} session: {}", session.key.browser(), e.getMessage());
+            return false;
+        }
+    }
+
+    private static void quit(Session session) {
+        try {
+            session.driver.quit();
+        } catch (WebDriverException e) {
+            logger.warn("Error while quitting {} session: {}", session.key.browser(), e.getMessage());
+        }
+    }
+
+}
@@ -1,5 +1,7 @@
 package com.baeldung.selenium.config;
 
+import java.util.function.Supplier;
+
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,6 +16,10 @@ public abstract class browserConfig {
 
     protected WebDriver webDriver;
 
+    private WebDriverPool webDriverPool;
+
+    private WebDriverPool.Session pooledSession;
+
     public WebDriver getDriver() {
         return webDriver;
     }
@@ -30,6 +36,44 @@ public abstract class browserConfig {
         this.targetEnv = targetEnv;
     }
 
+    public void setWebDriverPool(WebDriverPool webDriverPool) {
+        this.webDriverPool = webDriverPool;
+    }
+
+    /**
+     * Borrows a session from the pool when one is configured, otherwise creates a new driver.
+     */
+    protected WebDriver openSession(WebDriverPool.SessionKey key, Supplier<WebDriver> driverFactory) {
+        if (null == webDriverPool) {
+            return driverFactory.get();
+        }
+        pooledSession = webDriverPool.borrow(key, driverFactory);
+        return pooledSession.getDriver();
+    }
+
+    /**
+     * Called before each page load, a pooled session may replace its driver once it served enough pages.
+     */
+    public void recordPageLoad() {
+        if (null != pooledSession) {
+            pooledSession.recordPageLoad();
+            webDriver = pooledSession.getDriver();
+        }
+    }
+
+    /**
+     * Returns a pooled session to the pool, otherwise quits the driver.
+     */
+    public void quitDriver() {
+        if (null != pooledSession) {
+            webDriverPool.release(pooledSession);
+            pooledSession = null;
+            webDriver = null;
+        } else if (null != webDriver) {
+            webDriver.quit();
+        }
+    }
+
     public abstract void openNewWindow();
 
     public abstract void openNewWindowWithProxy(String proxyHost, String proxyServerPort, String proxyUsername, String proxyPassword);
@@ -8,6 +8,7 @@ package com.baeldung.selenium.config;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.NTCredentials;
 
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.htmlunit.HtmlUnitDriver;
@@ -35,8 +36,12 @@ public class headlessBrowserConfig extends browserConfig {
     public void openNewWindow() {
         logger.info("headlessBrowserName-->" + this.headlessBrowserName);
 
+        webDriver = openSession(WebDriverPool.SessionKey.of(this.headlessBrowserName), this::createDriver);
+    }
+
+    private WebDriver createDriver() {
         if (GlobalConstants.HEADLESS_BROWSER_HTMLUNIT.equalsIgnoreCase(this.headlessBrowserName)) {
-            webDriver = new HtmlUnitDriver(BrowserVersion.getDefault(), true) {
+            return new HtmlUnitDriver(BrowserVersion.getDefault(), true) {
                 @Override
                 protected WebClient newWebClient(BrowserVersion version) {
                     WebClient webClient = super.newWebClient(version);
@@ -59,9 +64,8 @@ public class headlessBrowserConfig extends browserConfig {
             chromeOptions.addArguments("--disable-extensions");
 
             // firefoxOptions.setHeadless(true);
-            webDriver = new ChromeDriver(chromeOptions);           
-            
-        }                
+            return new ChromeDriver(chromeOptions);
+        }
     }
 
     @Override
@@ -69,9 +73,14 @@ public class headlessBrowserConfig extends browserConfig {
 
         logger.info("headlessBrowserName-->" + this.headlessBrowserName);
 
+        webDriver = openSession(WebDriverPool.SessionKey.of(this.headlessBrowserName, proxyHost, proxyServerPort, proxyUsername),
+            () -> createDriverWithProxy(proxyHost, proxyServerPort, proxyUsername, proxyPassword));
+    }
+
+    private WebDriver createDriverWithProxy(String proxyHost, String proxyServerPort, String proxyUsername, String proxyPassword) {
         if (GlobalConstants.HEADLESS_BROWSER_HTMLUNIT.equalsIgnoreCase(this.headlessBrowserName)) {
             ProxyConfig proxyConfig = new ProxyConfig(proxyHost, Integer.valueOf(proxyServerPort),null);            
-            webDriver = new HtmlUnitDriver(BrowserVersion.getDefault(), true) {
+            return new HtmlUnitDriver(BrowserVersion.getDefault(), true) {
                 @Override
                 protected WebClient newWebClient(BrowserVersion version) {
                     WebClient webClient = super.newWebClient(version);
@@ -104,8 +113,7 @@ public class headlessBrowserConfig extends browserConfig {
                           
             ChromeDriver chomeDriver = new ChromeDriver(chromeOptions);   
             chomeDriver.register(UsernameAndPassword.of(proxyUsername, proxyPassword));            
-            webDriver = chomeDriver;
-        }     
-
+            return chomeDriver;
+        }
     }    
 }
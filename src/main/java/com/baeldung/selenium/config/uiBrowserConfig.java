@@ -3,6 +3,7 @@ package com.baeldung.selenium.config;
 import java.util.concurrent.TimeUnit;
 
 import org.openqa.selenium.Proxy;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 
@@ -13,6 +14,10 @@ public class uiBrowserConfig extends browserConfig {
 
     @Override
     public void openNewWindow() {
+        webDriver = openSession(WebDriverPool.SessionKey.of("firefox"), this::createDriver);
+    }
+
+    private WebDriver createDriver() {
         if (GlobalConstants.TARGET_ENV_WINDOWS.equalsIgnoreCase(this.getTargetEnv())) {
             System.setProperty("webdriver.gecko.driver", Utils.findFile("/geckodriver.exe", this.getTargetEnv()));
         } else {
@@ -20,8 +25,9 @@ public class uiBrowserConfig extends browserConfig {
         }
         FirefoxOptions firefoxOptions = new FirefoxOptions();
         // firefoxOptions.setHeadless(true);
-        webDriver = new FirefoxDriver(firefoxOptions);
-        webDriver.manage().timeouts().implicitlyWait(5, TimeUnit.SECONDS);
+        WebDriver firefoxDriver = new FirefoxDriver(firefoxOptions);
+        firefoxDriver.manage().timeouts().implicitlyWait(5, TimeUnit.SECONDS);
+        return firefoxDriver;
     }
 
     @Override
@@ -14,8 +14,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 
 import com.baeldung.common.GlobalConstants;
+import com.baeldung.common.HostThrottle;
+import com.baeldung.common.MetricsRegistry;
 import com.baeldung.selenium.config.browserConfig;
-import com.google.common.util.concurrent.RateLimiter;
 
 public abstract class BlogBaseDriver {
 
@@ -28,7 +29,7 @@ public abstract class BlogBaseDriver {
     }
 
     @Autowired
-    private RateLimiter rateLimiter;
+    private HostThrottle hostThrottle;
 
     @Value("${base.url}")
     private String baseURL;
@@ -36,12 +37,39 @@ public abstract class BlogBaseDriver {
     protected String url;
 
     public void loadUrl() {
-        this.getWebDriver().get(this.url);
+        get();
+    }
+
+    /**
+     * Copies the state of another page which doesn't depend on its browser session.
+     */
+    protected void copyFrom(BlogBaseDriver page) {
+        this.hostThrottle = page.hostThrottle;
+        this.baseURL = page.baseURL;
+        this.url = page.url;
     }
 
+    /**
+     * Loads the url once its host can take one more request, see {@link HostThrottle}. The status of the page should
+     * then be reported with {@link #onResponseStatus(int)}, so that the rate of the host adapts to the browser's loads too.
+     */
     public void loadUrlWithThrottling() {
-        rateLimiter.acquire();
+        hostThrottle.acquire(this.url);
+        get();
+    }
+
+    protected void onResponseStatus(int statusCode) {
+        if (hostThrottle != null) {
+            hostThrottle.onResponse(this.url, statusCode, null);
+        }
+    }
+
+    private void get() {
+        // may recycle the browser of a long-borrowed session, so it's done before getting the driver
+        this.browserConfig.recordPageLoad();
+        final long start = System.nanoTime();
         this.getWebDriver().get(this.url);
+        MetricsRegistry.shared().recordSince(MetricsRegistry.PAGE_LOAD, "", start);
     }
 
     public void openNewWindow() {
@@ -63,9 +91,7 @@ public abstract class BlogBaseDriver {
     }
 
     public void quiet() {
-        if (null != this.browserConfig.getDriver()) {
-            this.browserConfig.getDriver().quit();
-        }
+        this.browserConfig.quitDriver();
     }
 
     public WebElement findById(String id){
@@ -0,0 +1,170 @@
+package com.baeldung.site;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.openqa.selenium.JavascriptExecutor;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Facts about the page loaded in the browser, collected with a single {@code executeScript}: for each probed
+ * {@link PageQuery}, whether its elements are displayed and their attributes, optionally their text and inner HTML,
+ * the WordPress tags of the page and the HTTP status it was served with.
+ * <br/>
+ * {@link SitePage} answers its browser-only checks from the probe instead of sending a WebDriver command per element.
+ * Like the snapshot, a probe describes the page when it was captured.
+ */
+public final class PageProbe {
+
+    /**
+     * The attributes collected for every probed element. href and src are resolved against the page url, as
+     * WebElement.getAttribute does.
+     */
+    static final Set<String> ATTRIBUTES = Set.of("href", "src", "alt", "name", "property", "content");
+
+    // displayed mirrors jQuery's :visible, which is close to WebElement.isDisplayed without its atom
+    private static final String SCRIPT = """
+        var probes = arguments[0];
+        var attributeNames = arguments[1];
+        function isDisplayed(element) {
+            if (!(element.offsetWidth || element.offsetHeight || element.getClientRects().length)) {
+                return false;
+            }
+            return window.getComputedStyle(element).visibility !== 'hidden';
+        }
+        function attributesOf(element) {
+            var attributes = {};
+            attributeNames.forEach(function (name) {
+                if (element.hasAttribute(name)) {
+                    var property = element[name];
+                    attributes[name] = (name === 'href' || name === 'src') && typeof property === 'string' ? property : element.getAttribute(name);
+                }
+            });
+            return attributes;
+        }
+        var queries = {};
+        probes.forEach(function (probe) {
+            var found = document.evaluate(probe.xpath, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+            var elements = [];
+            for (var i = 0; i < found.snapshotLength; i++) {
+                var element = found.snapshotItem(i);
+                if (element.nodeType !== Node.ELEMENT_NODE) {
+                    continue;
+                }
+                elements.push({
+                    displayed: isDisplayed(element),
+                    text: probe.content ? (element.innerText || element.textContent || '').trim() : null,
+                    innerHtml: probe.content ? element.innerHTML : null,
+                    attributes: attributesOf(element)
+                });
+            }
+            queries[probe.xpath] = elements;
+        });
+        var navigation = window.performance && performance.getEntriesByType ? performance.getEntriesByType('navigation')[0] : null;
+        return JSON.stringify({
+            queries: queries,
+            wpTags: typeof ba_tags === 'undefined' ? null : ba_tags,
+            status: navigation && navigation.responseStatus ? navigation.responseStatus : null
+        });
+        """;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    /**
+     * A query to probe. The text and inner HTML of its elements are only collected when {@code content} is set, since
+     * containers like the shortcodes would otherwise ship the whole article.
+     */
+    public record Probe(PageQuery query, boolean content) {
+    }
+
+    /**
+     * An element of a probed query. text and innerHtml are null unless its query was probed with content.
+     */
+    public record ProbedElement(boolean displayed, String text, String innerHtml, Map<String, String> attributes) {
+
+        public String attribute(String name) {
+            return attributes == null ? null : attributes.get(name);
+        }
+    }
+
+    /**
+     * @param status the HTTP status of the page, null when the browser doesn't expose it
+     */
+    record Payload(Map<String, List<ProbedElement>> queries, List<String> wpTags, Integer status) {
+    }
+
+    private final Map<String, List<ProbedElement>> elementsByXpath;
+    private final Set<String> xpathsWithContent;
+    private final Set<String> wpTags;
+    private final Integer status;
+
+    private PageProbe(Payload payload, Collection<Probe> probes) {
+        this.elementsByXpath = payload.queries() == null ? Map.of() : payload.queries();
+        this.xpathsWithContent = probes.stream()
+            .filter(Probe::content)
+            .map(probe -> probe.query()
+                .getXpath())
+            .collect(Collectors.toSet());
+        this.wpTags = payload.wpTags() == null ? null : Set.copyOf(payload.wpTags());
+        this.status = payload.status();
+    }
+
+    public static Probe probe(PageQuery query) {
+        return new Probe(query, false);
+    }
+
+    public static Probe probeWithContent(PageQuery query) {
+        return new Probe(query, true);
+    }
+
+    /**
+     * Runs all the probes on the page loaded in the browser with one script.
+     */
+    public static PageProbe run(JavascriptExecutor javascriptExecutor, Collection<Probe> probes) throws IOException {
+        final List<Map<String, Object>> arguments = probes.stream()
+            .map(probe -> Map.<String, Object> of("xpath", probe.query()
+                .getXpath(), "content", probe.content()))
+            .toList();
+        return parse((String) javascriptExecutor.executeScript(SCRIPT, arguments, List.copyOf(ATTRIBUTES)), probes);
+    }
+
+    static PageProbe parse(String json, Collection<Probe> probes) throws IOException {
+        return new PageProbe(objectMapper.readValue(json, Payload.class), probes);
+    }
+
+    /**
+     * @return the elements of the query, empty if the query wasn't probed
+     */
+    public Optional<List<ProbedElement>> elementsOf(PageQuery query) {
+        return Optional.ofNullable(elementsByXpath.get(query.getXpath()));
+    }
+
+    /**
+     * @return the elements of the query with their text and inner HTML, empty if the query wasn't probed with content
+     */
+    public Optional<List<ProbedElement>> elementsWithContentOf(PageQuery query) {
+        return xpathsWithContent.contains(query.getXpath()) ? elementsOf(query) : Optional.empty();
+    }
+
+    /**
+     * @return the values of the ba_tags variable of the page, empty if it isn't defined
+     */
+    public Optional<Set<String>> getWpTags() {
+        return Optional.ofNullable(wpTags);
+    }
+
+    /**
+     * @return the HTTP status the page was served with, empty if the browser doesn't expose it
+     */
+    public Optional<Integer> getResponseStatus() {
+        return Optional.ofNullable(status);
+    }
+
+}
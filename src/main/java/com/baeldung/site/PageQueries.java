@@ -0,0 +1,108 @@
+package com.baeldung.site;
+
+import static com.baeldung.site.PageProbe.probe;
+import static com.baeldung.site.PageProbe.probeWithContent;
+
+import java.util.List;
+
+import com.baeldung.common.GlobalConstants;
+
+/**
+ * The queries {@link SitePage} runs on a page, compiled once when the class loads. Templates are bound to their
+ * parameters with {@link PageQuery.Template#bind(Object...)}.
+ */
+final class PageQueries {
+
+    private static final String LOWER_CASE_HREF = "translate(@href, 'ABCDEFGHIJKLMNOPQRSTUVWXYZ', 'abcdefghijklmnopqrstuvwxyz')";
+
+    // meta tags
+    static final PageQuery META_DESCRIPTION = PageQuery.xpath("//meta[@name = 'description']");
+    static final PageQuery META_OG_DESCRIPTION = PageQuery.xpath("//meta[@name = 'og:description']");
+    static final PageQuery META_TWITTER_DESCRIPTION = PageQuery.xpath("//meta[@name = 'twitter:description']");
+    static final PageQuery META_DESCRIPTIONS = PageQuery.xpath(
+        "//meta[@name = 'description' or @property = 'og:description' or @name = 'og:description' or @property = 'twitter:description' or @name = 'twitter:description']");
+    static final PageQuery META_EXCERPT = PageQuery.xpath("//meta[@name = 'excerpt']");
+    static final PageQuery META_ROBOTS_NOINDEX = PageQuery.xpath("//meta[(@name = 'robots' and contains(@content, 'noindex'))]");
+    static final PageQuery META_OG_IMAGE = PageQuery.xpath("//meta[@property = 'og:image']");
+    static final PageQuery META_OG_IMAGE_WITH_ABSOLUTE_PATH = PageQuery.xpath("//meta[(@property = 'og:image' and contains(@content, 'baeldung.com'))]");
+    static final PageQuery META_TWITTER_IMAGE = PageQuery.xpath("//meta[@name = 'twitter:image']");
+    static final PageQuery META_TWITTER_IMAGE_WITH_ABSOLUTE_PATH = PageQuery.xpath("//meta[(@name = 'twitter:image' and contains(@content, 'baeldung.com'))]");
+    static final PageQuery META_PUBLISHED_TIME = PageQuery.xpath("//meta[@property = 'article:published_time']");
+    static final PageQuery META_MODIFIED_TIME = PageQuery.xpath("//meta[@property = 'article:modified_time']");
+
+    // scripts
+    static final PageQuery ANALYTICS_SCRIPTS = PageQuery.xpath(
+        "//script[contains(text(), 'https://www.google-analytics.com/analytics.js') or @src='https://www.googletagmanager.com/gtag/js?id=UA-26064837-1']");
+    static final PageQuery DRIP_SCRIPTS = PageQuery.xpath("//script[contains(text(), \"" + GlobalConstants.DRIP_SCRPT_SEARCH_STRING + "\")]");
+    static final PageQuery FIXED_WIDGET_STOP_ID_FOOTER = PageQuery.xpath("//script[contains(text(), '\"stop_id\":\"footer\"')]");
+    static final PageQuery STICKY_SIDEBAR_CONTENT = PageQuery.xpath("//script[contains(text(), '\"mystickyside_content_string\":\"#content\"')]");
+    static final PageQuery.Template SCRIPT_CONTAINING = PageQuery.template("//script[contains(text(), '%s')]");
+
+    // content
+    static final PageQuery ENTRY_TITLE = PageQuery.xpath(".//h1[contains(@class, 'entry-title')]");
+    static final PageQuery TITLES = PageQuery.xpath(
+        "(//section//h2[not(ancestor::section[contains(@class,'further-reading-posts')] )]) | (//section//h3[not(ancestor::div[contains(@class,'after-post-widgets')] )])");
+    static final PageQuery AUTHOR = PageQuery.xpath("//a[contains(@rel, 'author')]");
+    static final PageQuery CATEGORY_TAGS = PageQuery.xpath("//a[contains(@rel, 'category tag')]");
+    static final PageQuery EMPTY_CODE_BLOCKS = PageQuery.xpath("//code[((.='\\u00a0')  or (normalize-space(.)='')) and not(descendant::img) ]");
+    static final PageQuery BROKEN_CODE_BLOCKS = PageQuery.xpath("//pre[(contains(@class, 'brush'))]");
+    static final PageQuery ELEMENTS_WITH_NO_TITLE_TEXT = PageQuery.xpath("//*[contains(text(), '[No Title]: ID')]");
+    static final PageQuery OVERLAPPING_TEXT = PageQuery.xpath("//li//a[contains(@style,'outline: none; display: inline-block') or contains(@style,'outline: none;display: inline-block')]");
+    static final PageQuery THRIVE_ARCHITECT_RESOURCES = PageQuery.xpath("//span[contains(@style, 'width: 100%')]");
+    static final PageQuery FULL_WIDTH_TEMPLATE = PageQuery.xpath("//body[contains(@class, 'post-template-single-fullwidth')]");
+    static final PageQuery SHORT_CODES_AT_THE_TOP = PageQuery.xpath("//div[contains(@class, 'short_box short_start')]");
+    static final PageQuery SHORT_CODES_AT_THE_END = PageQuery.xpath("//div[contains(@class, 'short_box short_end')]");
+    static final PageQuery SIDEBAR_OPTINS = PageQuery.xpath("//div[@id='sidebar1']//span[contains(@class, 'optin-button')]");
+    static final PageQuery AFTER_POST_CONTENT_OPTINS = PageQuery.xpath("//div[contains(@class, 'footer-html-banner')]//span[contains(@class, 'optin-button')]");
+    static final PageQuery.Template DIV_WITH_CLASSES = PageQuery.template("//div[contains(@class,\"%s\") and contains(@class,\"%s\")]");
+
+    // images
+    static final PageQuery.Template IMAGES_POINTING_TO_DRAFT_SITE = PageQuery.template("//%s//img[contains(@src, 'drafts.baeldung.com')]");
+    static final PageQuery IMAGES_WITH_EMPTY_ALT = PageQuery.xpath("//section//img[ not(@alt) or normalize-space(@alt)='' or @alt='\u00a0' ]");
+
+    // links
+    static final PageQuery ANCHORS_POINTING_TO_AN_IMAGE_ON_DRAFT_SITE = PageQuery.xpath(
+        "//section//a[contains(@href, 'drafts.baeldung.com')  and ( contains(@href, '.jpg') or contains(@href, '.jpeg') or contains(@href, '.png'))]");
+    static final PageQuery GITHUB_MODULE_LINKS = PageQuery.xpath("//section//a[(contains(" + LOWER_CASE_HREF + ",'" + GlobalConstants.GITHUB_REPO_BAELDUNG + "') or contains(" + LOWER_CASE_HREF + ",'"
+        + GlobalConstants.GITHUB_REPO_EUGENP + "') and not(ancestor::div[contains(@class,'syntaxhighlighter')] ))]");
+    static final PageQuery LINKS_TO_THE_BAELDUNG_SITE = PageQuery.xpath("//a[contains(" + LOWER_CASE_HREF + ",'" + GlobalConstants.BAELDUNG_HOME_PAGE_URL_WIThOUT_THE_PROTOCOL + "')]");
+    static final PageQuery LINKS_TO_JAVADOCS = PageQuery.xpath("//a[contains(@href,'docs.oracle.com/javase/')]");
+    static final PageQuery.Template LINKS_TO_THE_ARTICLE = PageQuery.template("//a[(" + LOWER_CASE_HREF + "=translate('%s', 'ABCDEFGHIJKLMNOPQRSTUVWXYZ', 'abcdefghijklmnopqrstuvwxyz')) "
+        + " or (" + LOWER_CASE_HREF + "=translate('%s','ABCDEFGHIJKLMNOPQRSTUVWXYZ', 'abcdefghijklmnopqrstuvwxyz'))]");
+    static final PageQuery.Template LINKS_CONTAINING = PageQuery.template("//a[contains(@href,'%s')]");
+    static final PageQuery.Template LINKS_CONTAINING_UNDER = PageQuery.template("//%s//a[contains(@href,'%s')]");
+    static final PageQuery.Template SPANS_OF_LINKS_CONTAINING_UNDER = PageQuery.template("//%s//a[contains(@href,'%s')]//span");
+
+    /**
+     * The queries a {@link PageProbe} collects in one script, covering the checks of an all-urls run that need the
+     * browser or would otherwise send a command per element.
+     */
+    static final List<PageProbe.Probe> PROBES = List.of(
+        probe(SHORT_CODES_AT_THE_TOP),
+        probe(SHORT_CODES_AT_THE_END),
+        probe(SIDEBAR_OPTINS),
+        probe(AFTER_POST_CONTENT_OPTINS),
+        probe(META_DESCRIPTION),
+        probe(META_DESCRIPTIONS),
+        probe(META_EXCERPT),
+        probe(META_ROBOTS_NOINDEX),
+        probe(META_OG_IMAGE),
+        probe(META_OG_IMAGE_WITH_ABSOLUTE_PATH),
+        probe(META_TWITTER_IMAGE),
+        probe(META_TWITTER_IMAGE_WITH_ABSOLUTE_PATH),
+        probe(META_PUBLISHED_TIME),
+        probe(META_MODIFIED_TIME),
+        probe(IMAGES_POINTING_TO_DRAFT_SITE.bind("section")),
+        probe(IMAGES_POINTING_TO_DRAFT_SITE.bind("article")),
+        probe(IMAGES_WITH_EMPTY_ALT),
+        probe(ANCHORS_POINTING_TO_AN_IMAGE_ON_DRAFT_SITE),
+        probe(GITHUB_MODULE_LINKS),
+        probeWithContent(LINKS_TO_JAVADOCS),
+        probeWithContent(CATEGORY_TAGS),
+        probeWithContent(AUTHOR),
+        probeWithContent(ENTRY_TITLE));
+
+    private PageQueries() {
+    }
+
+}
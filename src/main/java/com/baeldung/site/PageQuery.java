@@ -0,0 +1,114 @@
+package com.baeldung.site;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import javax.annotation.concurrent.ThreadSafe;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+import org.openqa.selenium.By;
+import org.w3c.dom.NodeList;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * An XPath query over a page, compiled once. The live browser runs it through its cached {@link By} and a
+ * {@link PageSnapshot} through its compiled {@link XPathExpression}, memoizing the result per page.
+ * <br/>
+ * A {@link Template} takes parameters as {@code %s} placeholders and returns the same query for the same parameters,
+ * so neither the XPath string nor its compiled form is rebuilt on each call. Parameters are inserted as is.
+ */
+@ThreadSafe
+public final class PageQuery {
+
+    private final String xpath;
+    private final By by;
+    // XPathExpression isn't thread-safe, each thread compiles its own copy once
+    private final ThreadLocal<XPathExpression> compiledXpath;
+
+    private PageQuery(String xpath) {
+        this.xpath = xpath;
+        this.by = By.xpath(xpath);
+        this.compiledXpath = ThreadLocal.withInitial(() -> compile(xpath));
+        // fail fast on an invalid query
+        this.compiledXpath.get();
+    }
+
+    public static PageQuery xpath(String xpath) {
+        return new PageQuery(xpath);
+    }
+
+    public static Template template(String xpathTemplate) {
+        return new Template(xpathTemplate);
+    }
+
+    public String getXpath() {
+        return xpath;
+    }
+
+    public By getBy() {
+        return by;
+    }
+
+    NodeList evaluate(org.w3c.dom.Node contextNode) {
+        try {
+            return (NodeList) compiledXpath.get()
+                .evaluate(contextNode, XPathConstants.NODESET);
+        } catch (XPathExpressionException e) {
+            throw new IllegalArgumentException("Could not evaluate the XPath query " + xpath, e);
+        }
+    }
+
+    private static XPathExpression compile(String xpath) {
+        try {
+            return XPathFactory.newInstance()
+                .newXPath()
+                .compile(xpath);
+        } catch (XPathExpressionException e) {
+            throw new IllegalArgumentException("Invalid XPath query " + xpath, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return xpath;
+    }
+
+    /**
+     * A query with {@code %s} placeholders, bound to its parameters with {@link #bind(Object...)}.
+     */
+    @ThreadSafe
+    public static final class Template {
+
+        private static final int MAX_BOUND_QUERIES = 1000;
+
+        private final String xpathTemplate;
+        private final Cache<List<Object>, PageQuery> boundQueries = CacheBuilder.newBuilder()
+            .maximumSize(MAX_BOUND_QUERIES)
+            .build();
+
+        private Template(String xpathTemplate) {
+            this.xpathTemplate = xpathTemplate;
+        }
+
+        public PageQuery bind(Object... parameters) {
+            try {
+                return boundQueries.get(Arrays.asList(parameters), () -> new PageQuery(xpathTemplate.formatted(parameters)));
+            } catch (ExecutionException | UncheckedExecutionException e) {
+                throw new IllegalArgumentException("Could not bind " + Arrays.toString(parameters) + " to " + xpathTemplate, e.getCause());
+            }
+        }
+
+        @Override
+        public String toString() {
+            return xpathTemplate;
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.baeldung.site;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jsoup.Jsoup;
+import org.jsoup.helper.W3CDom;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+import com.google.common.hash.Hashing;
+
+/**
+ * Immutable, parsed copy of a loaded page: the page source as rendered by the browser and the jsoup
+ * {@link Document} built from it. Captured once per URL, it lets {@link SitePage} answer static DOM
+ * checks from memory instead of issuing a WebDriver command per query.
+ */
+public final class PageSnapshot {
+
+    private final String url;
+    private final String pageSource;
+    private final Document document;
+
+    private final ConcurrentMap<String, Elements> queryResults = new ConcurrentHashMap<>();
+    private final W3CDom w3cDom = new W3CDom().namespaceAware(false);
+    // W3C copy of the document for the compiled queries, built on the first one
+    private org.w3c.dom.Document w3cDocument;
+    // serialized document, built on the first call
+    private volatile String serializedSource;
+
+    private PageSnapshot(String url, String pageSource) {
+        this.url = url;
+        this.pageSource = pageSource;
+        this.document = Jsoup.parse(pageSource, url);
+    }
+
+    public static PageSnapshot of(String url, String pageSource) {
+        return new PageSnapshot(url, pageSource == null ? "" : pageSource);
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getPageSource() {
+        return pageSource;
+    }
+
+    /**
+     * The document serialized back to HTML, like a browser serializes its DOM: the character references of the server
+     * HTML, e.g. {@code &#8221;} or {@code &#91;}, are decoded.
+     */
+    public String getSerializedSource() {
+        if (serializedSource == null) {
+            serializedSource = document.outerHtml();
+        }
+        return serializedSource;
+    }
+
+    /**
+     * Hash of the page body without scripts, styles and whitespace differences, so per-request nonces and
+     * cache busters don't make an unchanged page look modified.
+     */
+    public String contentHash() {
+        Document normalized = document.clone();
+        normalized.select("script, style, noscript").remove();
+        String body = normalized.body().html().replaceAll("\\s+", " ");
+        return Hashing.sha256().hashString(body, StandardCharsets.UTF_8).toString();
+    }
+
+    /**
+     * Evaluates the given XPath against the snapshot. Returned elements must be treated as read-only.
+     */
+    public Elements selectXpath(String xpath) {
+        return document.selectXpath(xpath);
+    }
+
+    /**
+     * Evaluates the query once per snapshot, later calls return the same elements. Returned elements must be treated
+     * as read-only.
+     */
+    public Elements select(PageQuery query) {
+        return queryResults.computeIfAbsent(query.getXpath(), xpath -> evaluate(query));
+    }
+
+    private synchronized Elements evaluate(PageQuery query) {
+        if (w3cDocument == null) {
+            w3cDocument = w3cDom.fromJsoup(document);
+        }
+        return new Elements(w3cDom.sourceNodes(query.evaluate(w3cDocument), Element.class));
+    }
+
+    /**
+     * Evaluates the given CSS query against the snapshot. Returned elements must be treated as read-only.
+     */
+    public Elements select(String cssQuery) {
+        return document.select(cssQuery);
+    }
+
+}
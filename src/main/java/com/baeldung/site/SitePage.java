@@ -3,6 +3,7 @@ package com.baeldung.site;
 import static com.baeldung.common.ConsoleColors.redBoldMessage;
 import static java.util.stream.Collectors.toList;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -10,9 +11,13 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -21,6 +26,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptException;
 import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
@@ -29,17 +35,25 @@ import org.springframework.stereotype.Component;
 
 import com.baeldung.common.ConsoleColors;
 import com.baeldung.common.GlobalConstants;
+import com.baeldung.common.HttpPageFetcher;
 import com.baeldung.common.Utils;
 import com.baeldung.common.vo.CoursePurchaseLinksVO.PurchaseLink;
 import com.baeldung.common.vo.FooterLinksDataVO;
 import com.baeldung.common.vo.LinkVO;
 import com.baeldung.selenium.config.browserConfig;
 import com.baeldung.site.strategy.ITitleAnalyzerStrategy;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @Primary
 @Component
 public class SitePage extends BlogBaseDriver {
     private static final Pattern RAW_TAG_PATTERN = Pattern.compile("(?i)\\[raw[^\\]]*\\]|\\[\\/raw\\]");
+    private static final Pattern JAVADOCS_VERSION_PATTERN = Pattern.compile(".*docs.oracle.com\\/javase\\/(.*)\\/docs/.*");
+    private static final Pattern BA_TAGS_PATTERN = Pattern.compile("ba_tags\\s*=\\s*(\\[[^\\]]*\\])");
+
+    private static final ObjectMapper objectMapper = new ObjectMapper().enable(JsonParser.Feature.ALLOW_SINGLE_QUOTES);
 
     private static DateTimeFormatter publishedDateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX");
 
@@ -47,6 +61,14 @@ public class SitePage extends BlogBaseDriver {
 
     private Set<String> wpTags;
 
+    private PageSnapshot snapshot;
+
+    private PageProbe probe;
+
+    private boolean httpOnly;
+
+    private boolean detached;
+
     public enum Type {
         PAGE, ARTICLE;
     }
@@ -55,6 +77,132 @@ public class SitePage extends BlogBaseDriver {
         super(browserConfig);
     }
 
+    @Override
+    public void loadUrl() {
+        clearSnapshot();
+        clearProbe();
+        this.httpOnly = false;
+        super.loadUrl();
+    }
+
+    @Override
+    public void loadUrlWithThrottling() {
+        clearSnapshot();
+        clearProbe();
+        this.httpOnly = false;
+        super.loadUrlWithThrottling();
+    }
+
+    /**
+     * Fetches the page with a plain HTTP request instead of the browser, and captures its server-rendered HTML as the
+     * snapshot. Only checks answered from the snapshot can run on the page until the next load: there is no browser
+     * session behind it, nor anything rendered by JavaScript.
+     */
+    public PageSnapshot loadUrlOverHttp() throws IOException {
+        return loadUrlOverHttp(HttpPageFetcher.shared());
+    }
+
+    public PageSnapshot loadUrlOverHttp(HttpPageFetcher httpPageFetcher) throws IOException {
+        clearSnapshot();
+        clearProbe();
+        this.httpOnly = true;
+        final HttpPageFetcher.FetchedPage fetchedPage = httpPageFetcher.fetch(this.url);
+        if (fetchedPage.statusCode() >= 400) {
+            logger.warn(ConsoleColors.redBoldMessage("{} returned {}"), this.url, fetchedPage.statusCode());
+        }
+        this.snapshot = PageSnapshot.of(StringUtils.defaultString(this.url), StringUtils.defaultString(fetchedPage.body()));
+        return this.snapshot;
+    }
+
+    /**
+     * @return whether the page was loaded over HTTP, without a browser
+     */
+    public boolean isHttpOnly() {
+        return this.httpOnly;
+    }
+
+    /**
+     * Copies the loaded page, so that checks can run on it on another thread while this page loads the next url.
+     * The copy has no browser session: it is answered from the snapshot and the probe, which it shares with this page.
+     *
+     * @throws IllegalStateException if no snapshot is captured
+     */
+    public SitePage detach() {
+        if (this.snapshot == null) {
+            throw new IllegalStateException("No snapshot of " + this.url + " to detach");
+        }
+        final SitePage page = new SitePage(null);
+        page.copyFrom(this);
+        page.type = this.type;
+        page.wpTags = this.wpTags;
+        page.snapshot = this.snapshot;
+        page.probe = this.probe;
+        page.httpOnly = this.httpOnly;
+        page.detached = true;
+        return page;
+    }
+
+    /**
+     * @return whether the page can run its checks once detached, without the browser: browser checks need the probe
+     */
+    public boolean isDetachable() {
+        return this.snapshot != null && (this.httpOnly || this.probe != null);
+    }
+
+    public boolean isDetached() {
+        return this.detached;
+    }
+
+    @Override
+    public WebDriver getWebDriver() {
+        if (this.detached) {
+            throw new IllegalStateException(this.url + " is detached from its browser, only its snapshot and probe can be queried");
+        }
+        return super.getWebDriver();
+    }
+
+    /**
+     * Captures the currently loaded page. Until the next load, static DOM checks are answered from the
+     * snapshot instead of the live browser. Checks depending on visibility or waits always use the browser.
+     */
+    public PageSnapshot captureSnapshot() {
+        this.snapshot = PageSnapshot.of(StringUtils.defaultString(this.url), this.getWebDriver().getPageSource());
+        return this.snapshot;
+    }
+
+    public void clearSnapshot() {
+        this.snapshot = null;
+    }
+
+    public Optional<PageSnapshot> getSnapshot() {
+        return Optional.ofNullable(this.snapshot);
+    }
+
+    /**
+     * Probes the currently loaded page with a single script. Until the next load, checks needing the browser, like
+     * visibility and the WordPress tags, are answered from the probe. If the script fails, checks fall back to
+     * WebDriver commands.
+     */
+    public Optional<PageProbe> captureProbe() {
+        try {
+            this.probe = PageProbe.run(getJavaScriptExecuter(), PageQueries.PROBES);
+            this.probe.getResponseStatus()
+                .ifPresent(this::onResponseStatus);
+        } catch (JavascriptException | IOException e) {
+            logger.error(ConsoleColors.redBoldMessage("Couldn't probe {}: {}"), this.url, e.getMessage());
+            this.probe = null;
+        }
+        return getProbe();
+    }
+
+    public void clearProbe() {
+        this.probe = null;
+    }
+
+    public Optional<PageProbe> getProbe() {
+        return Optional.ofNullable(this.probe);
+    }
+
     @Override
     public void setUrl(String pageURL) {
         this.url = pageURL;
@@ -73,6 +221,17 @@ public class SitePage extends BlogBaseDriver {
     }
 
     public void setWpTags() {
+        if (probe != null) {
+            this.wpTags = probe.getWpTags().orElseGet(() -> {
+                logger.error(ConsoleColors.redBoldMessage("ba_tags is not defined on {}"), this.url);
+                return Collections.emptySet();
+            });
+            return;
+        }
+        if (httpOnly) {
+            this.wpTags = wpTagsOfThePageSource();
+            return;
+        }
         Set<String> wordPressTags;
         try {
             wordPressTags = Set.copyOf((List<String>) getJavaScriptExecuter().executeScript("return ba_tags"));
@@ -83,6 +242,24 @@ public class SitePage extends BlogBaseDriver {
         this.wpTags = wordPressTags;
     }
 
+    /**
+     * Reads the ba_tags array literal of the inline script declaring it, for pages loaded without a browser.
+     */
+    private Set<String> wpTagsOfThePageSource() {
+        Matcher matcher = BA_TAGS_PATTERN.matcher(getPageSource());
+        if (!matcher.find()) {
+            logger.error(ConsoleColors.redBoldMessage("ba_tags is not defined on {}"), this.url);
+            return Collections.emptySet();
+        }
+        try {
+            return Set.copyOf(objectMapper.readValue(matcher.group(1), new TypeReference<List<String>>() {
+            }));
+        } catch (IOException e) {
+            logger.error(ConsoleColors.redBoldMessage("Couldn't parse ba_tags of {}: {}"), this.url, e.getMessage());
+            return Collections.emptySet();
+        }
+    }
+
     public WebElement findContentDiv() {
         return this.getWebDriver().findElement(By.xpath(".//section[1]/div[contains(@class, 'short_box short_start')][1]"));
     }
@@ -100,19 +277,23 @@ public class SitePage extends BlogBaseDriver {
     }
 
     public List<WebElement> findEmptyCodeBlocks(){
-        return this.getWebDriver().findElements(By.xpath("//code[((.='\\u00a0')  or (normalize-space(.)='')) and not(descendant::img) ]"));
+        return this.getWebDriver().findElements(PageQueries.EMPTY_CODE_BLOCKS.getBy());
+    }
+
+    public int getCountOfEmptyCodeBlocks() {
+        return countOf(PageQueries.EMPTY_CODE_BLOCKS);
     }
 
     public boolean containsRawTag(){
-        return RAW_TAG_PATTERN.matcher(this.getWebDriver().getPageSource()).find();
+        return RAW_TAG_PATTERN.matcher(getSerializedPageSource()).find();
     }
 
     public List<WebElement> elementsWithNotitleText() {
-        return this.getWebDriver().findElements(By.xpath("//*[contains(text(), '[No Title]: ID')]"));
+        return this.getWebDriver().findElements(PageQueries.ELEMENTS_WITH_NO_TITLE_TEXT.getBy());
     }
 
     public int getCountOfElementsWithNotitleText() {
-        return elementsWithNotitleText().size();
+        return countOf(PageQueries.ELEMENTS_WITH_NO_TITLE_TEXT);
     }
 
     public WebElement findBodyElement() {
@@ -161,28 +342,24 @@ public class SitePage extends BlogBaseDriver {
     }
 
     public boolean metaWithRobotsNoindexEists() {
-        try {
-            return this.getWebDriver().findElement(By.xpath("//meta[@name='robots'][contains(@content,'noindex')]")).isEnabled();
-        } catch (NoSuchElementException e) {
-            return false;
-        }
+        return exists(PageQueries.META_ROBOTS_NOINDEX);
     }
 
     public int getAnalyticsScriptCount() {
-        return this.getWebDriver().findElements(By.xpath("//script[contains(text(), 'https://www.google-analytics.com/analytics.js') or @src='https://www.googletagmanager.com/gtag/js?id=UA-26064837-1']")).size();
+        return countOf(PageQueries.ANALYTICS_SCRIPTS);
     }
 
-    public List<WebElement> findShortCodesAtTheEndOfThePage() {
-        return this.getWebDriver().findElements(By.xpath("//div[contains(@class, 'short_box short_end')]")).stream().filter(element -> element.isDisplayed()).collect(Collectors.toList());
+    public int getCountOfShortCodesAtTheEndOfThePage() {
+        return countOfDisplayed(PageQueries.SHORT_CODES_AT_THE_END);
     }
 
-    public List<WebElement> findShortCodesAtTheTopOfThePage() {
-        return this.getWebDriver().findElements(By.xpath("//div[contains(@class, 'short_box short_start')]")).stream().filter(element -> element.isDisplayed()).collect(Collectors.toList());
+    public int getCountOfShortCodesAtTheTopOfThePage() {
+        return countOfDisplayed(PageQueries.SHORT_CODES_AT_THE_TOP);
     }
 
     public boolean findDivWithEventCalls(List<String> trackingCodes) {
         try {
-            return this.getWebDriver().findElement(By.xpath("//div[contains(@class,\"" + trackingCodes.get(0) + "\") and contains(@class,\"" + trackingCodes.get(1) + "\")]")).isDisplayed();
+            return this.getWebDriver().findElement(PageQueries.DIV_WITH_CLASSES.bind(trackingCodes.get(0), trackingCodes.get(1)).getBy()).isDisplayed();
         } catch (NoSuchElementException e) {
             return false;
         }
@@ -190,28 +367,31 @@ public class SitePage extends BlogBaseDriver {
 
     public List<WebElement> findImagesPointingToDraftSiteOnTheArticle() {
         return this.getWebDriver()
-                .findElements(By.xpath("//section//img[contains(@src, 'drafts.baeldung.com')]"));
+                .findElements(PageQueries.IMAGES_POINTING_TO_DRAFT_SITE.bind("section").getBy());
     }
 
     public List<WebElement> findImagesPointingToDraftSiteOnThePage() {
         return this.getWebDriver()
-            .findElements(By.xpath("//article//img[contains(@src, 'drafts.baeldung.com')]"));
+            .findElements(PageQueries.IMAGES_POINTING_TO_DRAFT_SITE.bind("article").getBy());
     }
 
-    public List<WebElement> findImagesPointingToDraftSite() {
+    /**
+     * @return src attribute of the images pointing to the drafts site
+     */
+    public List<String> findImagesPointingToDraftSite() {
         String path = switch (this.type) {
             case ARTICLE -> "section";
             case PAGE -> "article";
             default -> "";
         };
-        return this.getWebDriver()
-            .findElements(By.xpath("//%s//img[contains(@src, 'drafts.baeldung.com')]"
-                .formatted(path)));
+        return attributesOf(PageQueries.IMAGES_POINTING_TO_DRAFT_SITE.bind(path), "src");
     }
 
-    public List<WebElement> findAnchorsPointingToAnImageAndDraftSiteOnTheArticle() {
-        return this.getWebDriver()
-                .findElements(By.xpath("//section//a[contains(@href, 'drafts.baeldung.com')  and ( contains(@href, '.jpg') or contains(@href, '.jpeg') or contains(@href, '.png'))]"));
+    /**
+     * @return href attribute of the anchors pointing to an image on the drafts site
+     */
+    public List<String> findAnchorsPointingToAnImageAndDraftSiteOnTheArticle() {
+        return attributesOf(PageQueries.ANCHORS_POINTING_TO_AN_IMAGE_ON_DRAFT_SITE, "href");
     }
 
     public List<WebElement> findAnchorsPointingToAnImageAndInvalidEnvOnThePage() {
@@ -223,24 +403,16 @@ public class SitePage extends BlogBaseDriver {
     }
 
     public boolean findMetaDescriptionTag() {
-        try {
-            return this.getWebDriver().findElement(By.xpath("//meta[@name = 'description']")).isEnabled();
-        } catch (NoSuchElementException e) {
-            return false;
-        }
+        return exists(PageQueries.META_DESCRIPTION);
     }
 
     public String getMetaDescriptionContent() {
-        try {
-            return this.getWebDriver().findElement(By.xpath("//meta[@name = 'description']")).getAttribute("content");
-        } catch (NoSuchElementException e) {
-            return null;
-        }
+        return firstAttributeOf(PageQueries.META_DESCRIPTION, "content").orElse(null);
     }
 
     public String getMetaOgDescriptionTag() {
         try {
-            return this.getWebDriver().findElement(By.xpath("//meta[@name = 'og:description']")).getText();
+            return this.getWebDriver().findElement(PageQueries.META_OG_DESCRIPTION.getBy()).getText();
         } catch (NoSuchElementException e) {
             return null;
         }
@@ -248,7 +420,7 @@ public class SitePage extends BlogBaseDriver {
 
     public String getMetaTwitterDescriptionTag() {
         try {
-            return this.getWebDriver().findElement(By.xpath("//meta[@name = 'twitter:description']")).getText();
+            return this.getWebDriver().findElement(PageQueries.META_TWITTER_DESCRIPTION.getBy()).getText();
         } catch (NoSuchElementException e) {
             return null;
         }
@@ -256,24 +428,22 @@ public class SitePage extends BlogBaseDriver {
 
     public boolean metaDescriptionTagsAvailable() {
 
-        List<WebElement> metaElements = this.getWebDriver().findElements(By.xpath("//meta[@name = 'description' or @property = 'og:description' or @name = 'og:description' or @property = 'twitter:description' or @name = 'twitter:description']"));
-
         String metaDescription = null;
         String metaOgDescription = null;
         String metaTwitterDescription = null;
 
-        for (WebElement element : metaElements) {
-            String tag = element.getAttribute("name");
+        for (Map<String, String> attributes : attributesOf(PageQueries.META_DESCRIPTIONS, "name", "property", "content")) {
+            String tag = attributes.get("name");
             if (StringUtils.isBlank(tag)) {
-                tag = element.getAttribute("property");
+                tag = attributes.get("property");
             }
 
             if (tag.equals("description")) {
-                metaDescription = StringUtils.trim(element.getAttribute("content"));
+                metaDescription = StringUtils.trim(attributes.get("content"));
             } else if (tag.equals("og:description")) {
-                metaOgDescription = StringUtils.trim(element.getAttribute("content"));
+                metaOgDescription = StringUtils.trim(attributes.get("content"));
             } else if (tag.equals("twitter:description")) {
-                metaTwitterDescription = StringUtils.trim(element.getAttribute("content"));
+                metaTwitterDescription = StringUtils.trim(attributes.get("content"));
             }
         }
 
@@ -306,19 +476,16 @@ public class SitePage extends BlogBaseDriver {
     public List<String> gitHubModulesLinkedOnTheArticle() {
         List<String> gitHubModuleLinks = new ArrayList<String>();
         try {
-            List<WebElement> webElements = this.getWebDriver()
-                    .findElements(By.xpath("//section//a[(contains(translate(@href, 'ABCDEFGHIJKLMNOPQRSTUVWXYZ', 'abcdefghijklmnopqrstuvwxyz'),'" + GlobalConstants.GITHUB_REPO_BAELDUNG
-                            + "') or contains(translate(@href, 'ABCDEFGHIJKLMNOPQRSTUVWXYZ', 'abcdefghijklmnopqrstuvwxyz'),'" + GlobalConstants.GITHUB_REPO_EUGENP + "') and not(ancestor::div[contains(@class,'syntaxhighlighter')] ))]"));
-            if (CollectionUtils.isEmpty(webElements)) {
+            List<String> hrefs = attributesOf(PageQueries.GITHUB_MODULE_LINKS, "href");
+            if (CollectionUtils.isEmpty(hrefs)) {
                 return gitHubModuleLinks;
             }
-            webElements.stream()
-                .map(el -> el.getAttribute("href"))
+            hrefs.stream()
                 // filter irrelevant Github urls since they aren't modules, like: gist.github.com
                 .filter(href -> href.startsWith("http://github.com") || href.startsWith("https://github.com"))
                 .forEach(gitHubModuleLinks::add);
         } catch (Exception e) {
-            logger.error("Error occurened while trying to extract GitHub moudles linked on the:" + this.getWebDriver().getCurrentUrl() + " error message:" + e.getMessage());
+            logger.error("Error occurened while trying to extract GitHub moudles linked on the:" + this.url + " error message:" + e.getMessage());
         }
 
         return gitHubModuleLinks;
@@ -377,7 +544,7 @@ public class SitePage extends BlogBaseDriver {
             }
 
         } catch (Exception e) {
-            logger.error("Error occurened while process:" + this.getWebDriver().getCurrentUrl() + " error message:" + e.getMessage());
+            logger.error("Error occurened while process:" + this.url + " error message:" + e.getMessage());
         }
 
         return gitHubModuleLinks;
@@ -420,33 +587,31 @@ public class SitePage extends BlogBaseDriver {
     }
 
     private List<WebElement> findElementWithTheRelativeURL(String articleRelativeURL) {
-        // @formatter:off
-    	return this.getWebDriver()
-                .findElements(By.xpath(
-                        "//a[(translate(@href, 'ABCDEFGHIJKLMNOPQRSTUVWXYZ', 'abcdefghijklmnopqrstuvwxyz')=translate('" + GlobalConstants.BAELDUNG_HOME_PAGE_URL_WITH_HTTP + articleRelativeURL + "', 'ABCDEFGHIJKLMNOPQRSTUVWXYZ', 'abcdefghijklmnopqrstuvwxyz')) " +
-                        " or (translate(@href, 'ABCDEFGHIJKLMNOPQRSTUVWXYZ', 'abcdefghijklmnopqrstuvwxyz')=translate('" + GlobalConstants.BAELDUNG_HOME_PAGE_URL + articleRelativeURL + "','ABCDEFGHIJKLMNOPQRSTUVWXYZ', 'abcdefghijklmnopqrstuvwxyz'))]")) ;
-    	// @formatter:on
+        return this.getWebDriver()
+            .findElements(PageQueries.LINKS_TO_THE_ARTICLE.bind(GlobalConstants.BAELDUNG_HOME_PAGE_URL_WITH_HTTP + articleRelativeURL, GlobalConstants.BAELDUNG_HOME_PAGE_URL + articleRelativeURL)
+                .getBy());
     }
 
     public boolean fixedWidgetStopIDIsProvidedAsFooter() {
-        return this.getWebDriver().findElements(By.xpath("//script[contains(text(), '\"stop_id\":\"footer\"')]")).size() > 0;
+        return exists(PageQueries.FIXED_WIDGET_STOP_ID_FOOTER);
     }
 
     public String findAuthorOfTheArticle() {
-        return this.getWebDriver().findElement(By.xpath("//a[contains(@rel, 'author')]")).getText().trim();
+        return firstTextOf(PageQueries.AUTHOR)
+            .orElseThrow(() -> new NoSuchElementException("No author found on " + this.url))
+            .trim();
     }
 
     public boolean stickySidebarContainerClassPropertyIsSetupAsContent() {
-        return this.getWebDriver().findElements(By.xpath("//script[contains(text(), '\"mystickyside_content_string\":\"#content\"')]")).size() > 0;
+        return exists(PageQueries.STICKY_SIDEBAR_CONTENT);
     }
 
     public int getDripScriptCount() {
-        return this.getWebDriver().findElements(By.xpath("//script[contains(text(), \"" + GlobalConstants.DRIP_SCRPT_SEARCH_STRING + "\")]")).size();
+        return countOf(PageQueries.DRIP_SCRIPTS);
     }
 
     public List<LinkVO> getLinksToTheBaeldungSite() {
-        List<WebElement> anchorTags = this.getWebDriver().findElements(By.xpath("//a[contains(translate(@href, 'ABCDEFGHIJKLMNOPQRSTUVWXYZ', 'abcdefghijklmnopqrstuvwxyz'),'" + GlobalConstants.BAELDUNG_HOME_PAGE_URL_WIThOUT_THE_PROTOCOL + "')]"));
-        return anchorTags.stream().map(tag -> new LinkVO(tag.getAttribute("href").toLowerCase(), tag.getText())).collect(Collectors.toList());
+        return linksOf(PageQueries.LINKS_TO_THE_BAELDUNG_SITE).stream().map(link -> new LinkVO(link.getLink().toLowerCase(), link.getLinkText())).collect(Collectors.toList());
     }
 
     public boolean vatPricesAvailableThePage() throws Exception {
@@ -499,54 +664,37 @@ public class SitePage extends BlogBaseDriver {
     }
 
     public boolean findMetaTagWithOGImagePointingToTheAbsolutePath() {
-        try {
-            return this.getWebDriver().findElement(By.xpath("//meta[(@property = 'og:image' and contains(@content, 'baeldung.com'))]")).isEnabled();
-        } catch (NoSuchElementException e) {
-            try {
-                return !this.getWebDriver().findElement(By.xpath("//meta[@property = 'og:image']")).isEnabled();
-            } catch (NoSuchElementException ne) {
-                return true; // test shouldn't flag a post/article if meta og:image doesn't exits
-            }
+        if (exists(PageQueries.META_OG_IMAGE_WITH_ABSOLUTE_PATH)) {
+            return true;
         }
+        // test shouldn't flag a post/article if meta og:image doesn't exits
+        return !exists(PageQueries.META_OG_IMAGE);
     }
 
     public boolean findMetaTagWithOGImage() {
-        try {
-            return this.getWebDriver()
-                .findElement(By.xpath("//meta[@property = 'og:image']"))
-                .isEnabled();
-        } catch (NoSuchElementException e) {
-            return false; // test flag a post/article if meta og:image does not exist or does not contain absolute path.
-        }
+        // test flag a post/article if meta og:image does not exist or does not contain absolute path.
+        return exists(PageQueries.META_OG_IMAGE);
     }
 
     public boolean findMetaTagWithTwitterImagePointingToTheAbsolutePath() {
-        try {
-            return this.getWebDriver().findElement(By.xpath("//meta[(@name = 'twitter:image' and contains(@content, 'baeldung.com'))]")).isEnabled();
-        } catch (NoSuchElementException e) {
-            try {
-                return !this.getWebDriver().findElement(By.xpath("//meta[@name = 'twitter:image']")).isEnabled();
-            } catch (NoSuchElementException ne) {
-                return true; // test shouldn't flag a post/article if meta twitter:image doesn't exist.
-            }
+        if (exists(PageQueries.META_TWITTER_IMAGE_WITH_ABSOLUTE_PATH)) {
+            return true;
         }
+        // test shouldn't flag a post/article if meta twitter:image doesn't exist.
+        return !exists(PageQueries.META_TWITTER_IMAGE);
     }
 
     public boolean findMetaTagWithTwitterImage() {
-        try {
-            return this.getWebDriver()
-                .findElement(By.xpath("//meta[@name = 'twitter:image']"))
-                .isEnabled();
-        } catch (NoSuchElementException e) {
-            return false; // test flag a post/article if meta twitter:image or does not contain absolute path.
-        }
+        // test flag a post/article if meta twitter:image or does not contain absolute path.
+        return exists(PageQueries.META_TWITTER_IMAGE);
     }
 
     public String getArticleHeading() {
         try {
-            return this.getWebDriver().findElement(By.xpath(".//h1[contains(@class, 'entry-title')]")).getText();
+            return firstTextOf(PageQueries.ENTRY_TITLE)
+                .orElseThrow(() -> new NoSuchElementException("No entry title found"));
         } catch (Exception e) {
-            logger.debug("Error getting entry title found for-->" + this.getWebDriver().getCurrentUrl());
+            logger.debug("Error getting entry title found for-->" + this.url);
             logger.debug("Error-->" + e.getMessage());
             return "no-entry-title-found";
         }
@@ -579,7 +727,7 @@ public class SitePage extends BlogBaseDriver {
     }
 
     public boolean findInvalidCharactersInTheArticle() {
-        String pageSource = this.getWebDriver().getPageSource();
+        String pageSource = getSerializedPageSource();
         if (pageSource.indexOf("”&gt;") != -1 || pageSource.indexOf("”>") != -1 || pageSource.indexOf("”\">") != -1 || pageSource.indexOf("”\"&gt;") != -1) {
             return true;
         }
@@ -590,11 +738,11 @@ public class SitePage extends BlogBaseDriver {
 
     public InvalidTitles findInvalidTitles(List<String> tokenExceptions) {
         InvalidTitles invalidTitles = new InvalidTitles();
-        List<WebElement> webElements = this.getWebDriver().findElements(By.xpath("(//section//h2[not(ancestor::section[contains(@class,'further-reading-posts')] )]) | (//section//h3[not(ancestor::div[contains(@class,'after-post-widgets')] )])"));
-        webElements.parallelStream().forEach(webElement -> {
-            String title = webElement.getText();
+        List<Map.Entry<String, String>> titlesAndInnerHtml = textsAndInnerHtmlOf(PageQueries.TITLES);
+        titlesAndInnerHtml.parallelStream().forEach(titleAndInnerHtml -> {
+            String title = titleAndInnerHtml.getKey();
             List<String> tokens = Utils.titleTokenizer(title);
-            List<String> emphasizedAndItalicTagValues = Utils.getEMAndItalicTagValues(webElement.getAttribute("innerHTML"));
+            List<String> emphasizedAndItalicTagValues = Utils.getEMAndItalicTagValues(titleAndInnerHtml.getValue());
 
             for (ITitleAnalyzerStrategy s : ITitleAnalyzerStrategy.titleAnalyzerStrategies) {
                 if (CollectionUtils.isEmpty(tokens)) {
@@ -615,11 +763,10 @@ public class SitePage extends BlogBaseDriver {
     }
 
     public boolean hasUnnecessaryLabels() {
-        List<WebElement> elements = this.getWebDriver().findElements(By.xpath("//a[contains(@rel, 'category tag')]"));
+        List<String> innerHtmls = innerHtmlOf(PageQueries.CATEGORY_TAGS);
 
         //@formatter:off
-        List<String> labels = elements.stream()
-                .map(element->  element.getAttribute("innerHTML"))
+        List<String> labels = innerHtmls.stream()
                 .map(label -> label==null?label:label.toLowerCase())
                 .collect(Collectors.toList());
 
@@ -633,11 +780,9 @@ public class SitePage extends BlogBaseDriver {
     }
 
     public boolean hasCategory(List<String> categories) {
-        final List<WebElement> elements = this.getWebDriver()
-            .findElements(By.xpath("//a[contains(@rel, 'category tag')]"));
+        final List<String> innerHtmls = innerHtmlOf(PageQueries.CATEGORY_TAGS);
 
-        final List<String> pageCategories = elements.stream()
-            .map(element -> element.getAttribute("innerHTML"))
+        final List<String> pageCategories = innerHtmls.stream()
             .map(label -> label == null ? label : label.toLowerCase())
             .collect(Collectors.toList());
 
@@ -647,37 +792,40 @@ public class SitePage extends BlogBaseDriver {
 
 
     public boolean hasBrokenCodeBlock() {
-        List<WebElement> elements = this.getWebDriver().findElements(By.xpath("//pre[(contains(@class, 'brush'))]"));
-        return elements.size() > 0 ? true : false;
+        return exists(PageQueries.BROKEN_CODE_BLOCKS);
     }
 
     public boolean isNewerThan(int ignoreUrlsNewerThanWeeks) {
-        try {
-            WebElement publishedDateTimeMetaTag = this.getWebDriver().findElement(By.xpath("//meta[@property = 'article:published_time']"));
-            LocalDateTime publishedDateTime = LocalDateTime.parse(publishedDateTimeMetaTag.getAttribute("content"), publishedDateTimeFormatter);
-
-            return ChronoUnit.WEEKS.between(publishedDateTime.toLocalDate(), LocalDate.now()) < ignoreUrlsNewerThanWeeks;
+        return getPublishedDate()
+            .map(publishedDate -> ChronoUnit.WEEKS.between(publishedDate, LocalDate.now()) < ignoreUrlsNewerThanWeeks)
+            .orElse(false);
+    }
 
+    /**
+     * @return the date of the article:published_time meta tag, empty if the page has none
+     */
+    public Optional<LocalDate> getPublishedDate() {
+        try {
+            String publishedDateTimeMetaTag = firstAttributeOf(PageQueries.META_PUBLISHED_TIME, "content")
+                .orElseThrow(() -> new NoSuchElementException("No article:published_time meta tag found"));
+            return Optional.of(LocalDateTime.parse(publishedDateTimeMetaTag, publishedDateTimeFormatter)
+                .toLocalDate());
         } catch (Exception e) {
-            logger.error("error while retrieving published date for {}", this.getWebDriver().getCurrentUrl());
-            return false;
+            logger.error("error while retrieving published date for {}", this.url);
+            return Optional.empty();
         }
     }
 
+    public Optional<String> getArticleModifiedTime() {
+        return firstAttributeOf(PageQueries.META_MODIFIED_TIME, "content");
+    }
+
     public boolean containesOverlappingText() {
-        try {
-            return this.getWebDriver().findElement(By.xpath("//li//a[contains(@style,'outline: none; display: inline-block') or contains(@style,'outline: none;display: inline-block')]")).isEnabled();
-        } catch (NoSuchElementException e) {
-            return false;
-        }
+        return exists(PageQueries.OVERLAPPING_TEXT);
     }
 
     public boolean containsThriveArchtectResource() {
-        try {
-            return this.getWebDriver().findElement(By.xpath("//span[contains(@style, 'width: 100%')]")).isEnabled();
-        } catch (NoSuchElementException e) {
-            return false;
-        }
+        return exists(PageQueries.THRIVE_ARCHITECT_RESOURCES);
     }
 
     public boolean findElementForAnchor(String anchorLink) {
@@ -701,27 +849,11 @@ public class SitePage extends BlogBaseDriver {
 
     public boolean anchorAndAnchorLinkAvailable(String tag, FooterLinksDataVO.Link link) {
 
-        // WebElement element =
-        // this.getWebDriver().findElement(By.xpath("//a[contains(@href,'" +
-        // link.getAnchorLink() + "') and (text() = '" + link.getAnchorText() + "')]"));
-        List<WebElement> elements = null;
-        List<WebElement> spanElements = null;
-
-        if (StringUtils.isNotBlank(tag)) {
-            elements = this.getWebDriver().findElements(By.xpath("//" + tag + "//a[contains(@href,'" + link.getAnchorLink() + "')]"));
-            spanElements =  this.getWebDriver().findElements(By.xpath("//" + tag + "//a[contains(@href,'" + link.getAnchorLink() + "')]//span"));
-            if (CollectionUtils.isNotEmpty(spanElements)) {
-                elements.addAll(spanElements);
-            }
-        } else {
-            elements = this.getWebDriver().findElements(By.xpath("//section[last()]//a[contains(@href,'" + link.getAnchorLink() + "')]"));
-            spanElements =  this.getWebDriver().findElements(By.xpath("//section[last()]//a[contains(@href,'" + link.getAnchorLink() + "')]//span"));
-            if (CollectionUtils.isNotEmpty(spanElements)) {
-                elements.addAll(spanElements);
-            }
-        }
-        for (WebElement element : elements) {
-            if (link.getAnchorText().equalsIgnoreCase(element.getText()) || link.getAnchorText().equalsIgnoreCase(element.getAttribute("innerHTML")))
+        String container = StringUtils.isNotBlank(tag) ? tag : "section[last()]";
+        List<Map.Entry<String, String>> textsAndInnerHtml = new ArrayList<>(textsAndInnerHtmlOf(PageQueries.LINKS_CONTAINING_UNDER.bind(container, link.getAnchorLink())));
+        textsAndInnerHtml.addAll(textsAndInnerHtmlOf(PageQueries.SPANS_OF_LINKS_CONTAINING_UNDER.bind(container, link.getAnchorLink())));
+        for (Map.Entry<String, String> textAndInnerHtml : textsAndInnerHtml) {
+            if (link.getAnchorText().equalsIgnoreCase(textAndInnerHtml.getKey()) || link.getAnchorText().equalsIgnoreCase(textAndInnerHtml.getValue()))
                 return true;
         }
         return false;
@@ -754,15 +886,13 @@ public class SitePage extends BlogBaseDriver {
         }
     }
 
-    public List<WebElement> findElementsLinkingToOldJavaDocs(Double minJavDocsAcceptedVersion, List<String> testExceptions) {
-        List<WebElement> elements = this.getWebDriver()
-                .findElements(By.xpath("//a[contains(@href,'docs.oracle.com/javase/')]"));
+    public List<LinkVO> findElementsLinkingToOldJavaDocs(Double minJavDocsAcceptedVersion, List<String> testExceptions) {
+        List<LinkVO> elements = linksOf(PageQueries.LINKS_TO_JAVADOCS);
 
-        Pattern p = Pattern.compile(".*docs.oracle.com\\/javase\\/(.*)\\/docs/.*");
         return elements.stream()
                 .filter(element -> {
-                    String url = element.getAttribute("href");
-                    return (Optional.of(p.matcher(url))
+                    String url = element.getLink();
+                    return (Optional.of(JAVADOCS_VERSION_PATTERN.matcher(url))
                             .map(matcher -> matcher.find() ? getJavaVersion(matcher.group(1))
                                     .compareTo(minJavDocsAcceptedVersion) < 0 : false)
                             .orElse(false))
@@ -779,7 +909,7 @@ public class SitePage extends BlogBaseDriver {
     public Optional<WebElement> findElentWithHref(String href) {
         try {
             return Optional.of(this.getWebDriver()
-                    .findElement(By.xpath("//a[contains(@href,'" + href + "')]")));
+                    .findElement(PageQueries.LINKS_CONTAINING.bind(href).getBy()));
         } catch (NoSuchElementException e) {
             return Optional.empty();
         }
@@ -795,7 +925,7 @@ public class SitePage extends BlogBaseDriver {
 
     public boolean findScriptWithText(String text) {
         try {
-            return this.getWebDriver().findElement(By.xpath("//script[contains(text(), '"+text+"')]")).isEnabled();
+            return this.getWebDriver().findElement(PageQueries.SCRIPT_CONTAINING.bind(text).getBy()).isEnabled();
         } catch (NoSuchElementException e) {
             return false;
         }
@@ -803,40 +933,39 @@ public class SitePage extends BlogBaseDriver {
 
     public int getOptinsFromTheSideBar() {
         try {
-            return this.getWebDriver().findElements(By.xpath("//div[@id='sidebar1']//span[contains(@class, 'optin-button')]")).size();
+            return countOf(PageQueries.SIDEBAR_OPTINS);
         } catch (Exception e) {
-            logger.error(ConsoleColors.redBoldMessage("Error fetching optin-in details from the sidebar :{} "), this.getWebDriver().getCurrentUrl());
+            logger.error(ConsoleColors.redBoldMessage("Error fetching optin-in details from the sidebar :{} "), this.url);
             return 1;
         }
     }
 
     public int getOptinsFromTheAfterPostContent() {
         try {
-            return this.getWebDriver().findElements(By.xpath("//div[contains(@class, 'footer-html-banner')]//span[contains(@class, 'optin-button')]")).size();
+            return countOf(PageQueries.AFTER_POST_CONTENT_OPTINS);
         } catch (Exception e) {
-            logger.error(ConsoleColors.redBoldMessage("Error fetching optin-in details from the after post content :{} "), this.getWebDriver().getCurrentUrl());
+            logger.error(ConsoleColors.redBoldMessage("Error fetching optin-in details from the after post content :{} "), this.url);
             return 1;
         }
     }
 
     public boolean hasFullWidthTemplate() {
         try {
-            return this.getWebDriver().findElement(By.xpath("//body[contains(@class, 'post-template-single-fullwidth')]")).isEnabled();
+            return exists(PageQueries.FULL_WIDTH_TEMPLATE);
         } catch (Exception e) {
             return false;
         }
     }
 
-    public List<WebElement> findImagesWithEmptyAltAttribute() {
-        return this.getWebDriver().findElements(By.xpath("//section//img[ not(@alt) or normalize-space(@alt)='' or @alt='\u00a0' ]"));
+    /**
+     * @return src attribute of the images having an empty alt attribute
+     */
+    public List<String> findImagesWithEmptyAltAttribute() {
+        return attributesOf(PageQueries.IMAGES_WITH_EMPTY_ALT, "src");
     }
 
     public String getMetaExcerptContent() {
-        try {
-            return this.getWebDriver().findElement(By.xpath("//meta[@name = 'excerpt']")).getAttribute("content");
-        } catch (NoSuchElementException e) {
-            return null;
-        }
+        return firstAttributeOf(PageQueries.META_EXCERPT, "content").orElse(null);
     }
 
     public boolean containsGithubModuleLink(String readmeParentURL) {
@@ -853,9 +982,7 @@ public class SitePage extends BlogBaseDriver {
         String checkHref7 = "href=\"%s/#readme\"".formatted(lowerCase);
         String checkHref8 = "href=\"%s/#readme\"".formatted(endRemoved);
 
-        String pageSource = this.getWebDriver()
-            .getPageSource()
-            .toLowerCase();
+        String pageSource = getPageSource().toLowerCase();
 
         return pageSource.contains(checkHref1)
             || pageSource.contains(checkHref2)
@@ -869,12 +996,214 @@ public class SitePage extends BlogBaseDriver {
 
     public boolean hasNoindexMetaTag() {
         try {
-            return this.getWebDriver()
-                .findElement(By.xpath("//meta[(@name = 'robots' and contains(@content, 'noindex'))]"))
-                .isEnabled();
+            return exists(PageQueries.META_ROBOTS_NOINDEX);
         } catch (Exception e) {
             return false;
         }
     }
 
+    /*
+     * Query helpers below answer from the snapshot when one is captured, where each query is evaluated once per page,
+     * then from the probe when it covers the query, otherwise from the live browser.
+     */
+
+    private String getPageSource() {
+        return snapshot != null ? snapshot.getPageSource() : this.getWebDriver().getPageSource();
+    }
+
+    /**
+     * The page source with its character references decoded, as the browser gives it, also for a page fetched over HTTP.
+     */
+    private String getSerializedPageSource() {
+        return snapshot != null ? snapshot.getSerializedSource() : this.getWebDriver().getPageSource();
+    }
+
+    private int countOf(PageQuery query) {
+        if (snapshot != null) {
+            return snapshot.select(query).size();
+        }
+        Optional<List<PageProbe.ProbedElement>> probed = probed(query);
+        if (probed.isPresent()) {
+            return probed.get().size();
+        }
+        return this.getWebDriver().findElements(query.getBy()).size();
+    }
+
+    /**
+     * Visibility needs the browser, so this is never answered from the snapshot.
+     */
+    private int countOfDisplayed(PageQuery query) {
+        if (httpOnly) {
+            throw new IllegalStateException("The visibility of " + query + " needs a browser, " + this.url + " was loaded over HTTP");
+        }
+        Optional<List<PageProbe.ProbedElement>> probed = probed(query);
+        if (probed.isPresent()) {
+            return (int) probed.get().stream()
+                .filter(PageProbe.ProbedElement::displayed)
+                .count();
+        }
+        return (int) this.getWebDriver().findElements(query.getBy()).stream()
+            .filter(WebElement::isDisplayed)
+            .count();
+    }
+
+    private boolean exists(PageQuery query) {
+        return countOf(query) > 0;
+    }
+
+    private List<String> attributesOf(PageQuery query, String attribute) {
+        if (snapshot != null) {
+            return snapshot.select(query).stream()
+                .map(element -> attributeOf(element, attribute))
+                .collect(toList());
+        }
+        Optional<List<PageProbe.ProbedElement>> probed = probedAttribute(query, attribute);
+        if (probed.isPresent()) {
+            return probed.get().stream()
+                .map(element -> element.attribute(attribute))
+                .collect(toList());
+        }
+        return this.getWebDriver().findElements(query.getBy()).stream()
+            .map(element -> element.getAttribute(attribute))
+            .collect(toList());
+    }
+
+    /**
+     * Several attributes of each element, found with a single query. Missing attributes map to null.
+     */
+    private List<Map<String, String>> attributesOf(PageQuery query, String... attributes) {
+        if (snapshot != null) {
+            return snapshot.select(query).stream()
+                .map(element -> attributeMap(attributes, attribute -> attributeOf(element, attribute)))
+                .collect(toList());
+        }
+        Optional<List<PageProbe.ProbedElement>> probed = PageProbe.ATTRIBUTES.containsAll(List.of(attributes)) ? probed(query) : Optional.empty();
+        if (probed.isPresent()) {
+            return probed.get().stream()
+                .map(element -> attributeMap(attributes, element::attribute))
+                .collect(toList());
+        }
+        return this.getWebDriver().findElements(query.getBy()).stream()
+            .map(element -> attributeMap(attributes, element::getAttribute))
+            .collect(toList());
+    }
+
+    private static Map<String, String> attributeMap(String[] attributes, Function<String, String> valueOf) {
+        final Map<String, String> values = new HashMap<>();
+        for (String attribute : attributes) {
+            values.put(attribute, valueOf.apply(attribute));
+        }
+        return values;
+    }
+
+    private Optional<String> firstAttributeOf(PageQuery query, String attribute) {
+        if (snapshot != null) {
+            return snapshot.select(query).stream()
+                .findFirst()
+                .map(element -> attributeOf(element, attribute));
+        }
+        Optional<List<PageProbe.ProbedElement>> probed = probedAttribute(query, attribute);
+        if (probed.isPresent()) {
+            return probed.get().stream()
+                .findFirst()
+                .map(element -> element.attribute(attribute));
+        }
+        try {
+            return Optional.ofNullable(this.getWebDriver().findElement(query.getBy()).getAttribute(attribute));
+        } catch (NoSuchElementException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Optional<String> firstTextOf(PageQuery query) {
+        if (snapshot != null) {
+            return snapshot.select(query).stream()
+                .findFirst()
+                .map(org.jsoup.nodes.Element::text);
+        }
+        Optional<List<PageProbe.ProbedElement>> probed = probedWithContent(query);
+        if (probed.isPresent()) {
+            return probed.get().stream()
+                .findFirst()
+                .map(PageProbe.ProbedElement::text);
+        }
+        try {
+            return Optional.of(this.getWebDriver().findElement(query.getBy()).getText());
+        } catch (NoSuchElementException e) {
+            return Optional.empty();
+        }
+    }
+
+    private List<String> innerHtmlOf(PageQuery query) {
+        if (snapshot != null) {
+            return snapshot.select(query).stream()
+                .map(org.jsoup.nodes.Element::html)
+                .collect(toList());
+        }
+        Optional<List<PageProbe.ProbedElement>> probed = probedWithContent(query);
+        if (probed.isPresent()) {
+            return probed.get().stream()
+                .map(PageProbe.ProbedElement::innerHtml)
+                .collect(toList());
+        }
+        return attributesOf(query, "innerHTML");
+    }
+
+    private List<Map.Entry<String, String>> textsAndInnerHtmlOf(PageQuery query) {
+        if (snapshot != null) {
+            return snapshot.select(query).stream()
+                .map(element -> Map.entry(element.text(), element.html()))
+                .collect(toList());
+        }
+        Optional<List<PageProbe.ProbedElement>> probed = probedWithContent(query);
+        if (probed.isPresent()) {
+            return probed.get().stream()
+                .map(element -> Map.entry(element.text(), element.innerHtml()))
+                .collect(toList());
+        }
+        return this.getWebDriver().findElements(query.getBy()).parallelStream()
+            .map(webElement -> Map.entry(webElement.getText(), webElement.getAttribute("innerHTML")))
+            .collect(toList());
+    }
+
+    private List<LinkVO> linksOf(PageQuery query) {
+        if (snapshot != null) {
+            return snapshot.select(query).stream()
+                .map(element -> new LinkVO(attributeOf(element, "href"), element.text()))
+                .collect(toList());
+        }
+        Optional<List<PageProbe.ProbedElement>> probed = probedWithContent(query);
+        if (probed.isPresent()) {
+            return probed.get().stream()
+                .map(element -> new LinkVO(element.attribute("href"), element.text()))
+                .collect(toList());
+        }
+        return this.getWebDriver().findElements(query.getBy()).stream()
+            .map(element -> new LinkVO(element.getAttribute("href"), element.getText()))
+            .collect(toList());
+    }
+
+    private Optional<List<PageProbe.ProbedElement>> probed(PageQuery query) {
+        return probe == null ? Optional.empty() : probe.elementsOf(query);
+    }
+
+    private Optional<List<PageProbe.ProbedElement>> probedAttribute(PageQuery query, String attribute) {
+        return PageProbe.ATTRIBUTES.contains(attribute) ? probed(query) : Optional.empty();
+    }
+
+    private Optional<List<PageProbe.ProbedElement>> probedWithContent(PageQuery query) {
+        return probe == null ? Optional.empty() : probe.elementsWithContentOf(query);
+    }
+
+    /**
+     * Mirrors WebElement.getAttribute which resolves href/src against the page url.
+     */
+    private static String attributeOf(org.jsoup.nodes.Element element, String attribute) {
+        if (("href".equals(attribute) || "src".equals(attribute)) && element.hasAttr(attribute)) {
+            String absoluteUrl = element.absUrl(attribute);
+            return absoluteUrl.isEmpty() ? element.attr(attribute) : absoluteUrl;
+        }
+        return element.hasAttr(attribute) ? element.attr(attribute) : null;
+    }
+
 }
@@ -1,12 +1,24 @@
 package com.baeldung.common;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
@@ -22,21 +34,96 @@ import dev.yavuztas.junit.ConcurrentExtension;
  * A custom Junit extension to run concurrent UI tests on {@link SitePage},
  * with support of some helper annotations: {@link LogOnce}, {@link PageTypes}.
  * <br/>
+ * Tests annotated with {@link FusedChecks} load each url once and run all the matching {@link CheckGroups} checks against it.
+ * <br/>
+ * With an HTTP pipeline, see {@link #withHttpPipeline(Predicate, IntSupplier)}, checks not annotated with
+ * {@link RequiresJavaScript} run on pages fetched over HTTP, and browsers only load the urls for the others.
+ * <br/>
+ * With a check pipeline, see {@link #withCheckPipeline(IntSupplier, IntSupplier)}, the threads loading pages don't run
+ * the checks: they hand the loaded pages over to check workers through a bounded {@link CheckPipeline}, and load the
+ * next url.
+ * <br/>
  * See {@link com.baeldung.selenium.common.AllUrlsUITest} for an example implementation.
  */
 public class AllUrlsConcurrentExtension extends ConcurrentExtension {
 
+    private static final AtomicInteger httpThreadCount = new AtomicInteger();
+    private static final ExecutorService httpExecutor = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "all-urls-http-" + httpThreadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final AtomicInteger checkThreadCount = new AtomicInteger();
+    private static final ExecutorService checkExecutor = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "all-urls-checks-" + checkThreadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final Supplier<SitePage> pageSupplier;
     private final Supplier<Logger> loggerSupplier;
     private final Predicate<SitePage> hasNextUrl;
+    private final Supplier<CheckReplay> checkReplaySupplier;
+    private final Supplier<PageTimings> pageTimingsSupplier;
+    private Predicate<SitePage> hasNextUrlOverHttp;
+    private IntSupplier httpConcurrencySupplier = () -> 0;
+    private IntSupplier checkWorkersSupplier = () -> 0;
+    private IntSupplier checkQueueCapacitySupplier = () -> 0;
 
     public AllUrlsConcurrentExtension(int concurrency, Supplier<SitePage> pageSupplier, Supplier<Logger> loggerSupplier, Predicate<SitePage> hasNextUrl) {
+        this(concurrency, pageSupplier, loggerSupplier, hasNextUrl, () -> CheckReplay.NONE);
+    }
+
+    public AllUrlsConcurrentExtension(int concurrency, Supplier<SitePage> pageSupplier, Supplier<Logger> loggerSupplier, Predicate<SitePage> hasNextUrl,
+        Supplier<CheckReplay> checkReplaySupplier) {
+        this(concurrency, pageSupplier, loggerSupplier, hasNextUrl, checkReplaySupplier, () -> null);
+    }
+
+    /**
+     * @param pageTimingsSupplier where the time of each check on each url is recorded, supplying null records nothing
+     */
+    public AllUrlsConcurrentExtension(int concurrency, Supplier<SitePage> pageSupplier, Supplier<Logger> loggerSupplier, Predicate<SitePage> hasNextUrl,
+        Supplier<CheckReplay> checkReplaySupplier, Supplier<PageTimings> pageTimingsSupplier) {
         this.pageSupplier = pageSupplier;
         this.loggerSupplier = loggerSupplier;
         this.hasNextUrl = hasNextUrl;
+        this.checkReplaySupplier = checkReplaySupplier;
+        this.pageTimingsSupplier = pageTimingsSupplier;
         globalThreadCount = concurrency;
     }
 
+    /**
+     * Runs the checks which don't need JavaScript on pages loaded over HTTP, see {@link SitePage#loadUrlOverHttp()}.
+     * The HTTP concurrency is shared by the test threads, each of them runs its share of pages which never open a
+     * browser window.
+     *
+     * @param hasNextUrlOverHttp loads the next url over HTTP, like hasNextUrl does in the browser
+     * @param httpConcurrencySupplier the number of pages fetched at once, the pipeline is disabled when it supplies 0
+     */
+    public AllUrlsConcurrentExtension withHttpPipeline(Predicate<SitePage> hasNextUrlOverHttp, IntSupplier httpConcurrencySupplier) {
+        this.hasNextUrlOverHttp = hasNextUrlOverHttp;
+        this.httpConcurrencySupplier = httpConcurrencySupplier;
+        return this;
+    }
+
+    /**
+     * Runs the checks on workers of their own instead of the threads loading the pages. Like the HTTP concurrency, the
+     * workers and the queue capacity are shared by the test threads. Pages which can't be detached from their browser
+     * are still checked by the thread which loaded them.
+     *
+     * @param checkWorkersSupplier the number of pages checked at once, the pipeline is disabled when it supplies 0
+     * @param checkQueueCapacitySupplier the number of loaded pages waiting for a worker before loaders block
+     */
+    public AllUrlsConcurrentExtension withCheckPipeline(IntSupplier checkWorkersSupplier, IntSupplier checkQueueCapacitySupplier) {
+        this.checkWorkersSupplier = checkWorkersSupplier;
+        this.checkQueueCapacitySupplier = checkQueueCapacitySupplier;
+        return this;
+    }
+
+    private boolean hasHttpPipeline() {
+        return hasNextUrlOverHttp != null && httpConcurrencySupplier.getAsInt() > 0;
+    }
+
     /**
      * Encapsulates the test logic, determines how to run the test, in bulk or for single page.
      */
@@ -45,7 +132,8 @@ public class AllUrlsConcurrentExtension extends ConcurrentExtension {
         final SitePage.Type[] ensureTypes;
         final Set<String> testNames = new LinkedHashSet<>();
 
-        Consumer<SitePage> consumer;
+        Consumer<SitePage> overHttp;
+        Consumer<SitePage> inBrowser;
 
         public TestLogic(SitePage.Type... types) {
             this.ensureTypes = types;
@@ -56,12 +144,17 @@ public class AllUrlsConcurrentExtension extends ConcurrentExtension {
             return this;
         }
 
-        public TestLogic apply(Consumer<SitePage> consumer) {
-            this.consumer = page -> {
-                if (ensureTag(page)) {
-                    consumer.accept(page);
-                }
-            };
+        public TestLogic apply(Consumer<SitePage> inBrowser) {
+            return apply(null, inBrowser);
+        }
+
+        /**
+         * @param overHttp run against all urls loaded over HTTP, null if nothing runs over HTTP
+         * @param inBrowser run against all urls loaded in the browser, null if nothing needs the browser
+         */
+        public TestLogic apply(Consumer<SitePage> overHttp, Consumer<SitePage> inBrowser) {
+            this.overHttp = overHttp;
+            this.inBrowser = inBrowser;
             return this;
         }
 
@@ -69,11 +162,67 @@ public class AllUrlsConcurrentExtension extends ConcurrentExtension {
             // log testnames only once
             log();
             // run test logic against all urls
-            onNewWindow(newPage -> {
-                while (hasNextUrl.test(newPage)) {
-                    consumer.accept(newPage);
+            if (overHttp != null) {
+                try (CheckPipeline checkPipeline = newCheckPipeline("http", overHttp)) {
+                    runOverHttp(page -> dispatch(checkPipeline, overHttp, page));
+                }
+            }
+            if (inBrowser != null) {
+                try (CheckPipeline checkPipeline = newCheckPipeline("browser", inBrowser)) {
+                    onNewWindow(newPage -> {
+                        while (hasNextUrl.test(newPage)) {
+                            dispatch(checkPipeline, inBrowser, newPage);
+                        }
+                    });
                 }
-            });
+            }
+        }
+
+        /**
+         * @return the pipeline to the check workers of this test thread, null if checks run on the loading thread
+         */
+        private CheckPipeline newCheckPipeline(String stage, Consumer<SitePage> checks) {
+            final int checkWorkers = checkWorkersSupplier.getAsInt();
+            if (checkWorkers <= 0) {
+                return null;
+            }
+            return new CheckPipeline(stage, Math.max(1, checkQueueCapacitySupplier.getAsInt() / globalThreadCount), Math.max(1, checkWorkers / globalThreadCount),
+                checkExecutor, checks);
+        }
+
+        private void dispatch(CheckPipeline checkPipeline, Consumer<SitePage> checks, SitePage page) {
+            if (!ensureTag(page)) {
+                return;
+            }
+            if (checkPipeline != null && page.isDetachable()) {
+                checkPipeline.submit(page.detach());
+            } else {
+                checks.accept(page);
+            }
+        }
+
+        private void runOverHttp(Consumer<SitePage> dispatcher) {
+            final int workers = Math.max(1, httpConcurrencySupplier.getAsInt() / globalThreadCount);
+            final CompletableFuture<?>[] pipelines = IntStream.range(0, workers)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                    final SitePage page = pageSupplier.get();
+                    while (hasNextUrlOverHttp.test(page)) {
+                        dispatcher.accept(page);
+                    }
+                }, httpExecutor))
+                .toArray(CompletableFuture[]::new);
+            try {
+                CompletableFuture.allOf(pipelines)
+                    .join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
         }
 
         private void log() {
@@ -87,6 +236,7 @@ public class AllUrlsConcurrentExtension extends ConcurrentExtension {
 
     /**
      * Runs a command on a new window, automatically handles closing.
+     * Pooled pages return their browser session to the pool instead of quitting it.
      */
     protected void onNewWindow(Consumer<SitePage> cmd) {
         final SitePage page = this.pageSupplier.get();
@@ -98,34 +248,157 @@ public class AllUrlsConcurrentExtension extends ConcurrentExtension {
         }
     }
 
+    /**
+     * A check method picked up by a fused test.
+     */
+    private record Check(Method method, SitePage.Type[] pageTypes, boolean requiresJavaScript) {
+
+        boolean appliesTo(SitePage page) {
+            return pageTypes.length == 0 || ensureTag(page, pageTypes);
+        }
+    }
+
     @Override
     protected void invokeTestMethod(ReflectiveInvocationContext<Method> invocationContext) {
-        final TestLogic logic = new TestLogic(getPageTypeValues(invocationContext));
-        for (String log : getLogOnceValues(invocationContext)) {
+        Optional<FusedChecks> fusedChecks = AnnotationUtils
+            .findAnnotation(invocationContext.getExecutable(), FusedChecks.class);
+        if (fusedChecks.isPresent()) {
+            invokeFusedChecks(invocationContext, fusedChecks.get().value());
+            return;
+        }
+
+        final TestLogic logic = new TestLogic(getPageTypeValues(invocationContext.getExecutable()));
+        for (String log : getLogOnceValues(invocationContext.getExecutable())) {
             logic.log(log);
         }
-        logic.apply(page -> {
-            // populate values of SitePage parameter if the test method defines one.
-            Object[] values = invocationContext.getArguments().toArray();
-            Class<?>[] parameterTypes = invocationContext.getExecutable().getParameterTypes();
-            for (int i = 0; i < parameterTypes.length; i++) {
-                if (parameterTypes[i].equals(SitePage.class)) {
-                    values[i] = page;
-                    break;
-                }
+        final Method method = invocationContext.getExecutable();
+        final boolean replayable = AnnotationUtils.isAnnotated(method, CheckGroups.class);
+        final Consumer<SitePage> test = page -> {
+            final Object[] arguments = withPage(invocationContext.getArguments().toArray(), method, page);
+            if (replayable) {
+                runCheck(method, invocationContext.getTarget().orElse(null), arguments, page);
+            } else {
+                invokeTimed(method, invocationContext.getTarget().orElse(null), arguments, page);
+            }
+        };
+        if (hasHttpPipeline() && !AnnotationUtils.isAnnotated(method, RequiresJavaScript.class)) {
+            logic.apply(test, null).run();
+        } else {
+            logic.apply(test).run();
+        }
+    }
+
+    /**
+     * Loads each url once and runs every check of the given groups against it. A failing check doesn't stop
+     * the others, its errors are collected and reported once all urls are processed.
+     * <br/>
+     * With an HTTP pipeline, each url is loaded once over HTTP for the checks which don't need JavaScript, and once
+     * in the browser for the others, if any.
+     */
+    private void invokeFusedChecks(ReflectiveInvocationContext<Method> invocationContext, String[] groups) {
+        final Object target = invocationContext.getTarget().orElse(null);
+        final List<Check> checks = findChecks(invocationContext.getTargetClass(), groups);
+        final Queue<String> errors = new ConcurrentLinkedQueue<>();
+
+        final TestLogic logic = new TestLogic(getPageTypeValues(invocationContext.getExecutable()));
+        for (String log : getLogOnceValues(invocationContext.getExecutable())) {
+            logic.log(log);
+        }
+        for (Check check : checks) {
+            for (String log : getLogOnceValues(check.method())) {
+                logic.log(log);
+            }
+        }
+        if (hasHttpPipeline()) {
+            final List<Check> checksOverHttp = checks.stream()
+                .filter(check -> !check.requiresJavaScript())
+                .toList();
+            final List<Check> checksInBrowser = checks.stream()
+                .filter(Check::requiresJavaScript)
+                .toList();
+            logic.apply(checksOverHttp.isEmpty() ? null : page -> runChecks(checksOverHttp, target, page, errors),
+                checksInBrowser.isEmpty() ? null : page -> runChecks(checksInBrowser, target, page, errors)).run();
+        } else {
+            logic.apply(page -> runChecks(checks, target, page, errors)).run();
+        }
+
+        if (!errors.isEmpty()) {
+            throw new AssertionError(errors.size() + " check(s) failed with an error:\n" + String.join("\n", errors));
+        }
+    }
+
+    private void runChecks(List<Check> checks, Object target, SitePage page, Queue<String> errors) {
+        for (Check check : checks) {
+            if (!check.appliesTo(page)) {
+                continue;
+            }
+            try {
+                runCheck(check.method(), target, withPage(new Object[check.method().getParameterCount()], check.method(), page), page);
+            } catch (Exception | AssertionError e) {
+                // an assertion failing in one check mustn't skip the others either
+                loggerSupplier.get().error("Error occurred in {} while processing: {}", check.method().getName(), page.getUrl(), e);
+                errors.add(check.method().getName() + " -> " + page.getUrl() + " : " + e.getMessage());
             }
+        }
+    }
 
-            ReflectionUtils.invokeMethod(
-                invocationContext.getExecutable(),
-                invocationContext.getTarget().orElse(null),
-                values
-            );
-        }).run();
+    /**
+     * Runs a {@link CheckGroups} check on the page, unless its outcome can be replayed.
+     */
+    private void runCheck(Method method, Object target, Object[] arguments, SitePage page) {
+        final CheckReplay checkReplay = checkReplaySupplier.get();
+        if (checkReplay.replay(page, method.getName())) {
+            return;
+        }
+        checkReplay.beforeCheck(page, method.getName());
+        invokeTimed(method, target, arguments, page);
+        checkReplay.afterCheck(page, method.getName());
+    }
+
+    /**
+     * Runs a check on one page, recording its duration in the {@link MetricsRegistry} and the {@link PageTimings} of the url.
+     */
+    private void invokeTimed(Method method, Object target, Object[] arguments, SitePage page) {
+        final long start = System.nanoTime();
+        try {
+            ReflectionUtils.invokeMethod(method, target, arguments);
+        } finally {
+            final long nanos = System.nanoTime() - start;
+            MetricsRegistry.shared().recordNanos(MetricsRegistry.CHECK_DURATION, method.getName(), nanos);
+            final PageTimings pageTimings = pageTimingsSupplier.get();
+            if (pageTimings != null) {
+                pageTimings.recordCheck(page.getUrl(), method.getName(), nanos);
+            }
+        }
+    }
+
+    private List<Check> findChecks(Class<?> testClass, String[] groups) {
+        return ReflectionUtils.findMethods(testClass, method -> AnnotationUtils.findAnnotation(method, CheckGroups.class)
+                .map(checkGroups -> Arrays.stream(checkGroups.value()).anyMatch(group -> ArrayUtils.contains(groups, group)))
+                .orElse(false))
+            .stream()
+            .sorted(Comparator.comparing(Method::getName))
+            .map(method -> new Check(method, getPageTypeValues(method), AnnotationUtils.isAnnotated(method, RequiresJavaScript.class)))
+            .toList();
+    }
+
+    /**
+     * Populates the value of the SitePage parameter if the test method defines one.
+     */
+    private static Object[] withPage(Object[] values, Method method, SitePage page) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (parameterTypes[i].equals(SitePage.class)) {
+                values[i] = page;
+                break;
+            }
+        }
+        return values;
     }
 
-    private SitePage.Type[] getPageTypeValues(ReflectiveInvocationContext<Method> invocationContext) {
+    private SitePage.Type[] getPageTypeValues(Method method) {
         Optional<PageTypes> pageTypes = AnnotationUtils
-            .findAnnotation(invocationContext.getExecutable(), PageTypes.class);
+            .findAnnotation(method, PageTypes.class);
         SitePage.Type[] types = new SitePage.Type[0];
         if (pageTypes.isPresent()) {
             types = pageTypes.get().value();
@@ -133,9 +406,9 @@ public class AllUrlsConcurrentExtension extends ConcurrentExtension {
         return types;
     }
 
-    private String[] getLogOnceValues(ReflectiveInvocationContext<Method> invocationContext) {
+    private String[] getLogOnceValues(Method method) {
         Optional<LogOnce> logOnce = AnnotationUtils
-            .findAnnotation(invocationContext.getExecutable(), LogOnce.class);
+            .findAnnotation(method, LogOnce.class);
         String[] logs = new String[0];
         if (logOnce.isPresent()) {
             logs = logOnce.get().value();
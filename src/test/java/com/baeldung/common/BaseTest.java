@@ -3,9 +3,8 @@ package com.baeldung.common;
 import static com.baeldung.common.ConsoleColors.magentaColordMessage;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -24,13 +23,10 @@ public class BaseTest {
 
     protected Logger logger = LoggerFactory.getLogger(getClass());
     protected static Logger baseLogger = LoggerFactory.getLogger(BaseTest.class);
-    protected static AtomicInteger failedTests = new AtomicInteger(0);
-
-    private static final Map<String, Integer> executedTestsNames = new ConcurrentHashMap<>(CONCURRENCY_LEVEL * 4, 0.75f, CONCURRENCY_LEVEL);
-    private static final Map<String, Integer> failedTestsNames = new ConcurrentHashMap<>(CONCURRENCY_LEVEL * 4, 0.75f, CONCURRENCY_LEVEL);
+    protected static final MetricsRegistry metricsRegistry = MetricsRegistry.shared();
 
     protected static void recordExecution(String name) {
-        executedTestsNames.merge(name, 1, Integer::sum);
+        metricsRegistry.increment(MetricsRegistry.TESTS_EXECUTED, name);
     }
 
     protected static void recordFailure(String name) {
@@ -38,28 +34,35 @@ public class BaseTest {
     }
 
     protected static void recordFailure(String name, int count) {
-        failedTestsNames.merge(name, count, Integer::sum);
+        metricsRegistry.add(MetricsRegistry.TESTS_FAILED, name, count);
     }
 
     protected static void recordMetrics(int count, TestMetricTypes metricType) {
         if (metricType.equals(TestMetricTypes.FAILED)) {
-            failedTests.getAndAdd(count);
+            metricsRegistry.add(MetricsRegistry.FAILURES, "", count);
         }
     }
 
     public static int getMetrics(TestMetricTypes metricType) {
         if (metricType.equals(TestMetricTypes.FAILED)) {
-            return failedTests.get();
+            return (int) metricsRegistry.getCount(MetricsRegistry.FAILURES, "");
         }
         return -1;
     }
 
     public static Map<String, Integer> getExecutedTestsNames() {
-        return executedTestsNames;
+        return countsByTest(MetricsRegistry.TESTS_EXECUTED);
     }
 
     public static Map<String, Integer> getFailedTestsNames() {
-        return failedTestsNames;
+        return countsByTest(MetricsRegistry.TESTS_FAILED);
+    }
+
+    private static Map<String, Integer> countsByTest(String counterName) {
+        final Map<String, Integer> counts = new LinkedHashMap<>();
+        metricsRegistry.getCounts(counterName)
+            .forEach((name, count) -> counts.put(name, count.intValue()));
+        return counts;
     }
 
     protected void failTestWithLoggingTotalNoOfFailures(String fialureMessage) {
@@ -79,8 +82,9 @@ public class BaseTest {
 
     @AfterAll
     public static void logTestMertics() {
-        if (failedTests.get() != 0) {
-            baseLogger.info(Utils.messageForTotalNoOfFailures(failedTests.get()));
+        final int failures = getMetrics(TestMetricTypes.FAILED);
+        if (failures != 0) {
+            baseLogger.info(Utils.messageForTotalNoOfFailures(failures));
         }
 
     }
@@ -0,0 +1,18 @@
+package com.baeldung.common;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the groups a concurrent check belongs to, so {@link FusedChecks} tests can pick it up.
+ */
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface CheckGroups {
+
+    String[] value();
+
+}
@@ -0,0 +1,134 @@
+package com.baeldung.common;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.baeldung.site.SitePage;
+
+/**
+ * A bounded queue between the threads loading pages and the workers running checks on them, so that a slow check
+ * doesn't hold a browser and a slow page load doesn't idle the checks.
+ * <br/>
+ * Loaders submit detached pages, see {@link SitePage#detach()}, and block while the queue is full. Per stage, the
+ * {@link MetricsRegistry} tracks the pages waiting for a worker in the {@code check_queue_depth} gauge, the time they
+ * waited in {@code check_queue_wait} and the time loaders were held back in {@code check_queue_backpressure}.
+ * <br/>
+ * A failing check stops the pipeline: the following submits rethrow its failure, and so does {@link #close()}.
+ */
+@ThreadSafe
+public class CheckPipeline implements AutoCloseable {
+
+    private record QueuedPage(SitePage page, long queuedAt) {
+    }
+
+    private static final QueuedPage END = new QueuedPage(null, 0);
+
+    private final String stage;
+    private final BlockingQueue<QueuedPage> queue;
+    private final Consumer<SitePage> checks;
+    private final MetricsRegistry metricsRegistry;
+    private final CompletableFuture<?>[] workers;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final AtomicBoolean failureRethrown = new AtomicBoolean();
+
+    public CheckPipeline(String stage, int capacity, int workerCount, Executor executor, Consumer<SitePage> checks) {
+        this(stage, capacity, workerCount, executor, checks, MetricsRegistry.shared());
+    }
+
+    CheckPipeline(String stage, int capacity, int workerCount, Executor executor, Consumer<SitePage> checks, MetricsRegistry metricsRegistry) {
+        this.stage = stage;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.checks = checks;
+        this.metricsRegistry = metricsRegistry;
+        this.workers = IntStream.range(0, workerCount)
+            .mapToObj(i -> CompletableFuture.runAsync(this::work, executor))
+            .toArray(CompletableFuture[]::new);
+    }
+
+    /**
+     * Queues the page for the check workers, waiting for room in the queue.
+     */
+    public void submit(SitePage page) {
+        rethrowFailure();
+        metricsRegistry.addToGauge(MetricsRegistry.CHECK_QUEUE_DEPTH, stage, 1);
+        final long start = System.nanoTime();
+        try {
+            put(new QueuedPage(page, start), page.getUrl());
+        } catch (IllegalStateException e) {
+            metricsRegistry.addToGauge(MetricsRegistry.CHECK_QUEUE_DEPTH, stage, -1);
+            throw e;
+        }
+        metricsRegistry.recordSince(MetricsRegistry.CHECK_QUEUE_BACKPRESSURE, stage, start);
+    }
+
+    /**
+     * Waits for the workers to check all the queued pages.
+     */
+    @Override
+    public void close() {
+        for (int i = 0; i < workers.length; i++) {
+            put(END, "the end of the queue");
+        }
+        CompletableFuture.allOf(workers)
+            .join();
+        if (!failureRethrown.get()) {
+            rethrowFailure();
+        }
+    }
+
+    private void work() {
+        while (true) {
+            final QueuedPage queued;
+            try {
+                queued = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (queued == END) {
+                return;
+            }
+            metricsRegistry.addToGauge(MetricsRegistry.CHECK_QUEUE_DEPTH, stage, -1);
+            metricsRegistry.recordSince(MetricsRegistry.CHECK_QUEUE_WAIT, stage, queued.queuedAt());
+            // once a check failed, the queue is drained so that no loader stays blocked
+            if (failure.get() != null) {
+                continue;
+            }
+            try {
+                checks.accept(queued.page());
+            } catch (RuntimeException | Error e) {
+                failure.compareAndSet(null, e);
+            }
+        }
+    }
+
+    private void put(QueuedPage queued, String description) {
+        try {
+            queue.put(queued);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing " + description, e);
+        }
+    }
+
+    private void rethrowFailure() {
+        final Throwable cause = failure.get();
+        if (cause == null) {
+            return;
+        }
+        failureRethrown.set(true);
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        throw (Error) cause;
+    }
+
+}
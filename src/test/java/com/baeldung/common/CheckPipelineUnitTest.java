@@ -0,0 +1,89 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.baeldung.selenium.config.browserConfig;
+import com.baeldung.site.SitePage;
+
+public class CheckPipelineUnitTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final MetricsRegistry metricsRegistry = new MetricsRegistry();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void givenBlockedCheckWorkers_whenTheQueueIsFull_thenTheLoaderWaitsAndEveryPageIsCheckedOnce() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Set<String> checkedUrls = ConcurrentHashMap.newKeySet();
+        final CheckPipeline checkPipeline = new CheckPipeline("browser", 2, 1, executor, page -> {
+            awaitQuietly(release);
+            checkedUrls.add(page.getUrl());
+        }, metricsRegistry);
+
+        final CountDownLatch loaded = new CountDownLatch(1);
+        executor.execute(() -> {
+            for (int i = 0; i < 5; i++) {
+                checkPipeline.submit(pageOf("https://www.baeldung.com/article-" + i));
+            }
+            loaded.countDown();
+        });
+
+        // one page is held by the worker and two are queued, the loader is blocked on the fourth
+        assertFalse(loaded.await(300, TimeUnit.MILLISECONDS));
+        assertEquals(3, metricsRegistry.getGauges(MetricsRegistry.CHECK_QUEUE_DEPTH).get("browser").value());
+        release.countDown();
+        assertTrue(loaded.await(5, TimeUnit.SECONDS));
+        checkPipeline.close();
+
+        assertEquals(5, checkedUrls.size());
+        assertEquals(0, metricsRegistry.getGauges(MetricsRegistry.CHECK_QUEUE_DEPTH).get("browser").value());
+        assertTrue(metricsRegistry.getGauges(MetricsRegistry.CHECK_QUEUE_DEPTH).get("browser").max() >= 3);
+        assertEquals(5, metricsRegistry.getHistogramSummaries(MetricsRegistry.CHECK_QUEUE_WAIT).get(0).count());
+    }
+
+    @Test
+    void givenAFailingCheck_whenThePipelineIsClosed_thenTheFailureIsRethrown() {
+        final AssertionError failure = new AssertionError("check failed");
+        final CheckPipeline checkPipeline = new CheckPipeline("http", 4, 2, executor, page -> {
+            throw failure;
+        }, metricsRegistry);
+
+        checkPipeline.submit(pageOf("https://www.baeldung.com/an-article"));
+
+        assertSame(failure, assertThrows(AssertionError.class, checkPipeline::close));
+    }
+
+    private static SitePage pageOf(String url) {
+        final SitePage page = new SitePage(mock(browserConfig.class));
+        page.setUrl(url);
+        return page;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
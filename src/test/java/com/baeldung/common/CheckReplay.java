@@ -0,0 +1,26 @@
+package com.baeldung.common;
+
+import com.baeldung.site.SitePage;
+
+/**
+ * Lets {@link AllUrlsConcurrentExtension} skip a {@link CheckGroups} check on a page and replay its previous outcome instead.
+ */
+public interface CheckReplay {
+
+    CheckReplay NONE = new CheckReplay() {
+    };
+
+    /**
+     * @return true when the outcome of the check was replayed for the page, so the check doesn't need to run
+     */
+    default boolean replay(SitePage page, String checkName) {
+        return false;
+    }
+
+    default void beforeCheck(SitePage page, String checkName) {
+    }
+
+    default void afterCheck(SitePage page, String checkName) {
+    }
+
+}
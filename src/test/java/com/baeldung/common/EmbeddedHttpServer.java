@@ -0,0 +1,62 @@
+package com.baeldung.common;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * An HTTP server on a free local port, for the unit tests of the classes fetching or checking urls.
+ * <br/>
+ * Handlers can be registered before or after the server is started.
+ */
+public class EmbeddedHttpServer {
+
+    private final HttpServer server;
+
+    private EmbeddedHttpServer(HttpServer server) {
+        this.server = server;
+    }
+
+    public static EmbeddedHttpServer start() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.start();
+        return new EmbeddedHttpServer(server);
+    }
+
+    public EmbeddedHttpServer handle(String path, HttpHandler handler) {
+        server.createContext(path, handler);
+        return this;
+    }
+
+    /**
+     * @return the url of the server, e.g. http://localhost:50213, without a trailing slash
+     */
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    public static void respond(HttpExchange exchange, int status) throws IOException {
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+
+    public static void respondWithHtml(HttpExchange exchange, String html) throws IOException {
+        byte[] body = html.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/html; charset=UTF-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+        exchange.close();
+    }
+
+}
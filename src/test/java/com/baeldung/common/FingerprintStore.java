@@ -0,0 +1,108 @@
+package com.baeldung.common;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Persisted per-url fingerprints of an all-urls run, with the findings each check reported for the fingerprinted content.
+ * <br/>
+ * A verdict is only handed out while the page still has the same fingerprint; a page with a new fingerprint starts
+ * with no verdicts, so every check runs on it again.
+ */
+@ThreadSafe
+public class FingerprintStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(FingerprintStore.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Path file;
+    private final Map<String, Entry> entries;
+
+    private FingerprintStore(Path file, Map<String, Entry> entries) {
+        this.file = file;
+        this.entries = entries;
+    }
+
+    /**
+     * What a page's checks depend on: the normalized body, the modification time and the WordPress tags.
+     */
+    public record Fingerprint(String bodyHash, String modifiedTime, Set<String> wpTags) {
+    }
+
+    /**
+     * A single entry a check put into the results of the run.
+     */
+    public record Finding(String key, String value) {
+    }
+
+    /**
+     * What a check did on a page: the entries it put into the results and its additions to the test counters.
+     */
+    public record Verdict(List<Finding> findings, List<MetricsRegistry.Count> counts) {
+    }
+
+    record Entry(Fingerprint fingerprint, Map<String, Verdict> verdicts) {
+    }
+
+    public static FingerprintStore load(Path file) {
+        final Map<String, Entry> entries = new ConcurrentHashMap<>();
+        if (Files.isRegularFile(file)) {
+            try {
+                Map<String, Entry> stored = objectMapper.readValue(file.toFile(), new TypeReference<Map<String, Entry>>() {
+                });
+                stored.forEach((url, entry) -> entries.put(url, new Entry(entry.fingerprint(), new ConcurrentHashMap<>(entry.verdicts()))));
+                logger.info("Loaded fingerprints of {} urls from {}", entries.size(), file);
+            } catch (IOException e) {
+                logger.warn("Ignoring unreadable fingerprint store {}: {}", file, e.getMessage());
+            }
+        }
+        return new FingerprintStore(file, entries);
+    }
+
+    /**
+     * @return the verdict stored for the check, if the url still has the given fingerprint
+     */
+    public Optional<Verdict> getVerdict(String url, Fingerprint fingerprint, String checkName) {
+        return Optional.ofNullable(entries.get(url))
+            .filter(entry -> entry.fingerprint().equals(fingerprint))
+            .map(entry -> entry.verdicts().get(checkName));
+    }
+
+    public void putVerdict(String url, Fingerprint fingerprint, String checkName, Verdict verdict) {
+        entries.compute(url, (key, entry) -> {
+            final Entry current = entry != null && entry.fingerprint().equals(fingerprint) ? entry : new Entry(fingerprint, new ConcurrentHashMap<>());
+            current.verdicts().put(checkName, new Verdict(List.copyOf(verdict.findings()), List.copyOf(verdict.counts())));
+            return current;
+        });
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public synchronized void save() throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        final Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), "fingerprints", ".tmp");
+        objectMapper.writeValue(temp.toFile(), entries);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.info("Saved fingerprints of {} urls to {}", entries.size(), file);
+    }
+
+}
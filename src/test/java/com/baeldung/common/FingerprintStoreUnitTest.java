@@ -0,0 +1,56 @@
+package com.baeldung.common;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.baeldung.common.FingerprintStore.Finding;
+import com.baeldung.common.FingerprintStore.Fingerprint;
+import com.baeldung.common.FingerprintStore.Verdict;
+
+public class FingerprintStoreUnitTest {
+
+    private static final String URL = "https://www.baeldung.com/java-streams";
+    private static final Fingerprint FINGERPRINT = new Fingerprint("hash1", "2022-08-01T10:00:00+00:00", Set.of("java"));
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void givenASavedVerdict_whenLoadedWithTheSameFingerprint_thenTheVerdictIsReturned() throws IOException {
+        Path file = tempDir.resolve("fingerprints.json");
+        FingerprintStore store = FingerprintStore.load(file);
+        Verdict failed = new Verdict(List.of(new Finding("testA", URL + "\n")), List.of(new MetricsRegistry.Count(MetricsRegistry.TESTS_FAILED, "testA", 1)));
+        store.putVerdict(URL, FINGERPRINT, "checkA", failed);
+        store.putVerdict(URL, FINGERPRINT, "checkB", new Verdict(List.of(), List.of()));
+        store.save();
+
+        FingerprintStore reloaded = FingerprintStore.load(file);
+
+        Assertions.assertEquals(Optional.of(failed), reloaded.getVerdict(URL, FINGERPRINT, "checkA"));
+        Assertions.assertEquals(Optional.of(new Verdict(List.of(), List.of())), reloaded.getVerdict(URL, FINGERPRINT, "checkB"));
+        Assertions.assertEquals(Optional.empty(), reloaded.getVerdict(URL, FINGERPRINT, "checkC"));
+    }
+
+    @Test
+    void givenAChangedPage_whenAVerdictIsRecorded_thenTheVerdictsOfThePreviousContentAreDropped() {
+        FingerprintStore store = FingerprintStore.load(tempDir.resolve("fingerprints.json"));
+        Fingerprint changed = new Fingerprint("hash2", FINGERPRINT.modifiedTime(), FINGERPRINT.wpTags());
+        store.putVerdict(URL, FINGERPRINT, "checkA", new Verdict(List.of(), List.of()));
+
+        Assertions.assertEquals(Optional.empty(), store.getVerdict(URL, changed, "checkA"));
+
+        store.putVerdict(URL, changed, "checkB", new Verdict(List.of(), List.of()));
+
+        Assertions.assertEquals(Optional.empty(), store.getVerdict(URL, changed, "checkA"));
+        Assertions.assertEquals(Optional.empty(), store.getVerdict(URL, FINGERPRINT, "checkA"));
+        Assertions.assertEquals(1, store.size());
+    }
+
+}
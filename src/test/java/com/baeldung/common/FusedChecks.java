@@ -0,0 +1,22 @@
+package com.baeldung.common;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a concurrent test as fused: each url is loaded once and all checks of the test class
+ * annotated with one of the given {@link CheckGroups} run against it, filtered by their {@link PageTypes}.
+ * The body of the annotated method is not invoked.
+ * <br/>
+ * See {@link AllUrlsConcurrentExtension}.
+ */
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface FusedChecks {
+
+    String[] value();
+
+}
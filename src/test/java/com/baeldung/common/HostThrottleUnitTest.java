@@ -0,0 +1,72 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+
+public class HostThrottleUnitTest {
+
+    private static final String BAELDUNG = "https://www.baeldung.com/java-8-streams";
+    private static final String GITHUB = "https://github.com/eugenp/tutorials";
+
+    @Test
+    void givenSuccessfulResponses_whenTheRateAdapts_thenItGrowsUpToTheMaxRate() {
+        HostThrottle hostThrottle = new HostThrottle(1, 0.2, 4, 1, 0.5);
+
+        hostThrottle.onResponse(BAELDUNG, 200, null);
+        assertEquals(2, hostThrottle.getRate(BAELDUNG), 0.001);
+        for (int i = 0; i < 20; i++) {
+            hostThrottle.onResponse(BAELDUNG, 200, null);
+        }
+
+        assertEquals(4, hostThrottle.getRate(BAELDUNG), 0.001);
+        assertEquals(1, hostThrottle.getRate(GITHUB), 0.001);
+    }
+
+    @Test
+    void givenABurstOfThrottledResponses_whenTheRateAdapts_thenItIsDecreasedOnceAndOnlyForThatHost() {
+        HostThrottle hostThrottle = new HostThrottle(4, 0.2, 4, 1, 0.5);
+        hostThrottle.onResponse(GITHUB, 200, null);
+
+        hostThrottle.onResponse(BAELDUNG, 429, null);
+        hostThrottle.onResponse(BAELDUNG, 503, null);
+        hostThrottle.onResponse(BAELDUNG, 429, null);
+
+        assertEquals(2, hostThrottle.getRate(BAELDUNG), 0.001);
+        assertEquals(4, hostThrottle.getRate(GITHUB), 0.001);
+        assertEquals(3, hostThrottle.getMetrics().get("www.baeldung.com").throttledResponses());
+    }
+
+    @Test
+    void givenARetryAfter_whenTheHostIsAcquired_thenItWaitsForTheDelay() {
+        HostThrottle hostThrottle = new HostThrottle(100, 0.2, 100, 1, 0.5);
+        hostThrottle.onResponse(BAELDUNG, 429, "1");
+
+        long start = System.nanoTime();
+        hostThrottle.acquire(BAELDUNG);
+        hostThrottle.acquire(GITHUB);
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 900);
+        assertEquals(1, hostThrottle.getMetrics().get("www.baeldung.com").requests());
+        assertTrue(hostThrottle.getMetrics().get("www.baeldung.com").waitedMillis() >= 900);
+        assertTrue(hostThrottle.getMetrics().get("github.com").waitedMillis() < 900);
+    }
+
+    @Test
+    void givenRetryAfterHeaders_whenParsed_thenSecondsAndDatesAreSupported() {
+        String inAMinute = ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(60).format(DateTimeFormatter.RFC_1123_DATE_TIME);
+
+        assertEquals(Duration.ofSeconds(120), HostThrottle.parseRetryAfter("120"));
+        assertTrue(HostThrottle.parseRetryAfter(inAMinute).toSeconds() > 50);
+        assertEquals(Duration.ofMinutes(5), HostThrottle.parseRetryAfter("86400"));
+        assertEquals(Duration.ZERO, HostThrottle.parseRetryAfter("soon"));
+        assertEquals(Duration.ZERO, HostThrottle.parseRetryAfter(null));
+    }
+
+}
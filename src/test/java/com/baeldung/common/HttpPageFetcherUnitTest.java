@@ -0,0 +1,50 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class HttpPageFetcherUnitTest {
+
+    private EmbeddedHttpServer server;
+    private String baseURL;
+    private final AtomicInteger throttledRequests = new AtomicInteger();
+    private final HttpPageFetcher httpPageFetcher = new HttpPageFetcher(new HostThrottle(100, 0.2, 100, 1, 0.5), Duration.ofSeconds(5));
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = EmbeddedHttpServer.start()
+            .handle("/throttled", exchange -> {
+                throttledRequests.incrementAndGet();
+                EmbeddedHttpServer.respond(exchange, 429);
+            })
+            .handle("/missing", exchange -> EmbeddedHttpServer.respond(exchange, 404));
+        baseURL = server.getBaseUrl();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void givenAMissingPage_whenThePageIsFetched_thenItsErrorPageIsReturned() throws IOException {
+        HttpPageFetcher.FetchedPage fetchedPage = httpPageFetcher.fetch(baseURL + "/missing");
+
+        assertEquals(404, fetchedPage.statusCode());
+    }
+
+    @Test
+    void givenAHostThrottlingEveryRequest_whenThePageIsFetched_thenTheFetchFailsAfterTheRetries() {
+        assertThrows(IOException.class, () -> httpPageFetcher.fetch(baseURL + "/throttled"));
+        assertEquals(3, throttledRequests.get());
+    }
+
+}
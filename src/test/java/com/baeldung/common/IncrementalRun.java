@@ -0,0 +1,171 @@
+package com.baeldung.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.baeldung.common.FingerprintStore.Finding;
+import com.baeldung.common.FingerprintStore.Fingerprint;
+import com.baeldung.common.FingerprintStore.Verdict;
+import com.baeldung.site.PageSnapshot;
+import com.baeldung.site.SitePage;
+import com.google.common.collect.ForwardingMultimap;
+import com.google.common.collect.Multimap;
+
+/**
+ * Replays the stored outcome of checks on pages whose fingerprint hasn't changed since the previous run,
+ * and records the outcome of the checks that do run.
+ * <br/>
+ * The outcome of a check is what it puts into the results multimap returned by {@link #recording(Multimap)}
+ * while it runs on a page, and what it adds to the executed and failed test counters of the {@link MetricsRegistry}.
+ * <br/>
+ * Verdicts are stored per check along with a hash of the check's exceptions in the YAML files, so that adding or
+ * removing an exception runs the check again.
+ */
+@ThreadSafe
+public class IncrementalRun implements CheckReplay {
+
+    private static final Logger logger = LoggerFactory.getLogger(IncrementalRun.class);
+
+    // the server-rendered HTML of a page differs from the rendered one, their fingerprints are kept apart
+    private static final String HTTP_ONLY_SUFFIX = "#http";
+
+    private static final Set<String> REPLAYED_COUNTERS = Set.of(MetricsRegistry.TESTS_EXECUTED, MetricsRegistry.TESTS_FAILED, MetricsRegistry.FAILURES);
+
+    private final FingerprintStore store;
+    private final Function<String, ?> exceptionsOf;
+    private final MetricsRegistry metricsRegistry;
+    private final Map<String, String> verdictKeys = new ConcurrentHashMap<>();
+    private final Map<String, Fingerprint> fingerprints = new ConcurrentHashMap<>();
+    private final ThreadLocal<List<Finding>> capture = new ThreadLocal<>();
+    private final AtomicInteger replayed = new AtomicInteger();
+    private final AtomicInteger executed = new AtomicInteger();
+
+    private Multimap<String, String> results;
+
+    public IncrementalRun(FingerprintStore store) {
+        this(store, IncrementalRun::yamlExceptionsOf, MetricsRegistry.shared());
+    }
+
+    IncrementalRun(FingerprintStore store, Function<String, ?> exceptionsOf, MetricsRegistry metricsRegistry) {
+        this.store = store;
+        this.exceptionsOf = exceptionsOf;
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    /**
+     * Wraps the results of the run, so that the findings of a running check get recorded and replayed findings get added.
+     */
+    public Multimap<String, String> recording(Multimap<String, String> delegate) {
+        results = new ForwardingMultimap<>() {
+            @Override
+            protected Multimap<String, String> delegate() {
+                return delegate;
+            }
+
+            @Override
+            public boolean put(String key, String value) {
+                final List<Finding> findings = capture.get();
+                if (findings != null) {
+                    findings.add(new Finding(key, value));
+                }
+                return super.put(key, value);
+            }
+        };
+        return results;
+    }
+
+    /**
+     * Fingerprints the loaded page. Must be called once the page snapshot is captured.
+     */
+    public void fingerprint(SitePage page) {
+        final Optional<PageSnapshot> snapshot = page.getSnapshot();
+        if (snapshot.isEmpty()) {
+            fingerprints.remove(keyOf(page));
+            return;
+        }
+        final Fingerprint fingerprint = new Fingerprint(snapshot.get().contentHash(), page.getArticleModifiedTime().orElse(""),
+            page.getWpTags() == null ? Collections.emptySet() : page.getWpTags());
+        fingerprints.put(keyOf(page), fingerprint);
+    }
+
+    @Override
+    public boolean replay(SitePage page, String checkName) {
+        final Fingerprint fingerprint = fingerprints.get(keyOf(page));
+        if (fingerprint == null) {
+            return false;
+        }
+        final Optional<Verdict> verdict = store.getVerdict(keyOf(page), fingerprint, verdictKeyOf(checkName));
+        if (verdict.isEmpty()) {
+            return false;
+        }
+        logger.debug("Replaying {} on unchanged {}", checkName, page.getUrl());
+        verdict.get().findings().forEach(finding -> results.put(finding.key(), finding.value()));
+        verdict.get().counts().forEach(count -> metricsRegistry.add(count.name(), count.label(), count.count()));
+        replayed.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public void beforeCheck(SitePage page, String checkName) {
+        capture.set(new ArrayList<>());
+        metricsRegistry.startCapturingCounts();
+    }
+
+    @Override
+    public void afterCheck(SitePage page, String checkName) {
+        final List<Finding> findings = capture.get();
+        capture.remove();
+        final List<MetricsRegistry.Count> counts = metricsRegistry.stopCapturingCounts()
+            .stream()
+            .filter(count -> REPLAYED_COUNTERS.contains(count.name()))
+            .toList();
+        final Fingerprint fingerprint = fingerprints.get(keyOf(page));
+        if (findings != null && fingerprint != null) {
+            store.putVerdict(keyOf(page), fingerprint, verdictKeyOf(checkName), new Verdict(findings, counts));
+        }
+        executed.incrementAndGet();
+    }
+
+    private String verdictKeyOf(String checkName) {
+        return verdictKeys.computeIfAbsent(checkName, name -> name + "#" + Integer.toHexString(Objects.hashCode(exceptionsOf.apply(name))));
+    }
+
+    /**
+     * The url, level 2 and tag exceptions of the check, keyed by its name in the YAML files.
+     */
+    private static List<List<String>> yamlExceptionsOf(String checkName) {
+        return Arrays.asList(YAMLProperties.exceptionsForTests.get(checkName), YAMLProperties.exceptionsForTestsLevel2.get(checkName),
+            YAMLProperties.exceptionsForTestsBasedOnTags.get(checkName));
+    }
+
+    private static String keyOf(SitePage page) {
+        return page.isHttpOnly() ? page.getUrl() + HTTP_ONLY_SUFFIX : page.getUrl();
+    }
+
+    public int getReplayedCount() {
+        return replayed.get();
+    }
+
+    public int getExecutedCount() {
+        return executed.get();
+    }
+
+    public FingerprintStore getStore() {
+        return store;
+    }
+
+}
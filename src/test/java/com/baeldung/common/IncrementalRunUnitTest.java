@@ -0,0 +1,88 @@
+package com.baeldung.common;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.WebDriver;
+
+import com.baeldung.selenium.config.browserConfig;
+import com.baeldung.site.SitePage;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Multimap;
+
+public class IncrementalRunUnitTest {
+
+    private static final String URL = "https://www.baeldung.com/java-streams";
+    private static final String CHECK = "givenAllArticles_whenAnArticleLoads_thenItIsFine";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void givenACheckRunOnAnUnchangedPage_whenTheNextRunReplaysIt_thenItsFindingsAndTestCountersAreReplayed() {
+        FingerprintStore store = FingerprintStore.load(tempDir.resolve("fingerprints.json"));
+        Function<String, List<String>> exceptions = name -> List.of("/excluded");
+        runFailingCheck(store, exceptions);
+
+        MetricsRegistry metricsRegistry = new MetricsRegistry();
+        IncrementalRun nextRun = new IncrementalRun(store, exceptions, metricsRegistry);
+        Multimap<String, String> results = nextRun.recording(ArrayListMultimap.create());
+        SitePage page = loadedPage();
+        nextRun.fingerprint(page);
+
+        Assertions.assertTrue(nextRun.replay(page, CHECK));
+        Assertions.assertEquals(List.of(URL + "\n"), results.get(CHECK));
+        Assertions.assertEquals(1, metricsRegistry.getCount(MetricsRegistry.TESTS_EXECUTED, CHECK));
+        Assertions.assertEquals(1, metricsRegistry.getCount(MetricsRegistry.TESTS_FAILED, CHECK));
+        Assertions.assertEquals(1, metricsRegistry.getCount(MetricsRegistry.FAILURES, ""));
+        Assertions.assertEquals(0, metricsRegistry.getCount(MetricsRegistry.URLS_SKIPPED, CHECK));
+    }
+
+    @Test
+    void givenANewExceptionForTheCheck_whenTheNextRunLoadsTheUnchangedPage_thenTheCheckRunsAgain() {
+        FingerprintStore store = FingerprintStore.load(tempDir.resolve("fingerprints.json"));
+        runFailingCheck(store, name -> List.of("/excluded"));
+
+        IncrementalRun nextRun = new IncrementalRun(store, name -> List.of("/excluded", "/java-streams"), new MetricsRegistry());
+        nextRun.recording(ArrayListMultimap.create());
+        SitePage page = loadedPage();
+        nextRun.fingerprint(page);
+
+        Assertions.assertFalse(nextRun.replay(page, CHECK));
+    }
+
+    private static void runFailingCheck(FingerprintStore store, Function<String, List<String>> exceptions) {
+        MetricsRegistry metricsRegistry = new MetricsRegistry();
+        IncrementalRun run = new IncrementalRun(store, exceptions, metricsRegistry);
+        Multimap<String, String> results = run.recording(ArrayListMultimap.create());
+        SitePage page = loadedPage();
+        run.fingerprint(page);
+        Assertions.assertFalse(run.replay(page, CHECK));
+
+        run.beforeCheck(page, CHECK);
+        metricsRegistry.increment(MetricsRegistry.TESTS_EXECUTED, CHECK);
+        metricsRegistry.add(MetricsRegistry.TESTS_FAILED, CHECK, 1);
+        metricsRegistry.add(MetricsRegistry.FAILURES, "", 1);
+        metricsRegistry.increment(MetricsRegistry.URLS_SKIPPED, CHECK);
+        results.put(CHECK, URL + "\n");
+        run.afterCheck(page, CHECK);
+    }
+
+    private static SitePage loadedPage() {
+        WebDriver webDriver = mock(WebDriver.class);
+        SitePage page = new SitePage(mock(browserConfig.class));
+        when(page.getWebDriver()).thenReturn(webDriver);
+        when(webDriver.getPageSource()).thenReturn("<html><head><meta property=\"article:modified_time\" content=\"2022-08-01T10:00:00+00:00\"></head><body>An article</body></html>");
+        page.setUrl(URL);
+        page.captureSnapshot();
+        return page;
+    }
+
+}
@@ -1,11 +1,19 @@
 package com.baeldung.common;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 import com.baeldung.common.GlobalConstants.TestMetricTypes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Logs the summary of the run and writes the metrics reports when the JVM exits. The reports go to the
+ * {@code metrics.prometheus-file} and {@code metrics.json-report} system properties.
+ */
 public class JVMShutdownHook {
     private static Logger logger = LoggerFactory.getLogger(JVMShutdownHook.class);
+    private static final int SLOWEST_CHECKS_TO_LOG = 10;
     static {
         Thread hook = new Thread(() -> {
 
@@ -15,7 +23,26 @@ public class JVMShutdownHook {
                     BaseTest.getFailedTestsNames()
             );
             logger.info(summary);
+            writeMetricsReports();
         });
         Runtime.getRuntime().addShutdownHook(hook);
     }
+
+    private static void writeMetricsReports() {
+        final MetricsRegistry metricsRegistry = MetricsRegistry.shared();
+        metricsRegistry.getHistogramSummaries(MetricsRegistry.CHECK_DURATION)
+            .stream()
+            .limit(SLOWEST_CHECKS_TO_LOG)
+            .forEach(check -> logger.info("{}: {} runs, {} ms in total, p95 {} ms", check.label(), check.count(), Math.round(check.totalMillis()), Math.round(check.p95Millis())));
+
+        final String home = System.getProperty("user.home");
+        final Path prometheusFile = Path.of(System.getProperty("metrics.prometheus-file", home + "/.blogwatch/metrics.prom"));
+        final Path jsonReport = Path.of(System.getProperty("metrics.json-report", home + "/.blogwatch/metrics.json"));
+        try {
+            metricsRegistry.writeReports(prometheusFile, jsonReport);
+            logger.info("Metrics written to {} and {}", prometheusFile, jsonReport);
+        } catch (IOException e) {
+            logger.error("Couldn't write the metrics reports", e);
+        }
+    }
 }
@@ -0,0 +1,82 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.baeldung.common.LinkVerifier.LinkVerdict;
+
+public class LinkVerifierUnitTest {
+
+    private EmbeddedHttpServer server;
+    private String baseURL;
+    private final AtomicInteger imageRequests = new AtomicInteger();
+    private final LinkVerifier linkVerifier = new LinkVerifier(new HostThrottle(100, 0.2, 100, 1, 0.5), 4, Duration.ofSeconds(5));
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = EmbeddedHttpServer.start()
+            .handle("/image.png", exchange -> {
+                imageRequests.incrementAndGet();
+                EmbeddedHttpServer.respond(exchange, 200);
+            })
+            .handle("/no-head", exchange -> EmbeddedHttpServer.respond(exchange, "HEAD".equals(exchange.getRequestMethod()) ? 405 : 200))
+            .handle("/throttled", exchange -> EmbeddedHttpServer.respond(exchange, 429))
+            .handle("/missing", exchange -> EmbeddedHttpServer.respond(exchange, 404));
+        baseURL = server.getBaseUrl();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void givenTheSameLinkOnManyPages_whenTheLinksAreVerified_thenItIsRequestedOnce() {
+        Map<String, LinkVerdict> verdicts = linkVerifier.verifyAll(List.of(baseURL + "/image.png", baseURL + "/image.png", baseURL + "/image.png#top"));
+        linkVerifier.verifyAll(List.of(baseURL + "/image.png"));
+
+        assertEquals(2, verdicts.size());
+        assertTrue(verdicts.values().stream().allMatch(LinkVerdict::isOk));
+        assertEquals(1, imageRequests.get());
+    }
+
+    @Test
+    void givenAServerRejectingHead_whenTheLinkIsVerified_thenItIsVerifiedWithGet() {
+        LinkVerdict verdict = linkVerifier.verify(baseURL + "/no-head").join();
+
+        assertEquals(200, verdict.statusCode());
+        assertTrue(verdict.isOk());
+    }
+
+    @Test
+    void givenBrokenLinks_whenTheLinksAreVerified_thenOnlyTheBrokenOnesAreReported() {
+        Map<String, LinkVerdict> brokenLinks = linkVerifier.findBrokenLinks(List.of(baseURL + "/image.png", baseURL + "/missing", "not a url"));
+
+        assertEquals(2, brokenLinks.size());
+        assertEquals(404, brokenLinks.get(baseURL + "/missing").statusCode());
+        assertEquals(-1, brokenLinks.get("not a url").statusCode());
+        assertFalse(brokenLinks.containsKey(baseURL + "/image.png"));
+    }
+
+    @Test
+    void givenAHostThrottlingEveryRequest_whenTheLinksAreVerified_thenTheLinkIsUnknownAndNotReportedAsBroken() {
+        LinkVerdict verdict = linkVerifier.verify(baseURL + "/throttled").join();
+        Map<String, LinkVerdict> brokenLinks = linkVerifier.findBrokenLinks(List.of(baseURL + "/throttled", baseURL + "/missing"));
+
+        assertTrue(verdict.isUnknown());
+        assertFalse(verdict.isOk());
+        assertEquals(List.of(baseURL + "/missing"), List.copyOf(brokenLinks.keySet()));
+    }
+
+}
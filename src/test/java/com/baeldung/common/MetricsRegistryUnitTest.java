@@ -0,0 +1,97 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.baeldung.common.MetricsRegistry.HistogramSummary;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class MetricsRegistryUnitTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final MetricsRegistry metricsRegistry = new MetricsRegistry();
+
+    @Test
+    void givenCountersOfManyTests_whenCountsAreRequested_thenTheyAreSummedPerTest() {
+        metricsRegistry.increment(MetricsRegistry.TESTS_EXECUTED, "testA");
+        metricsRegistry.increment(MetricsRegistry.TESTS_EXECUTED, "testA");
+        metricsRegistry.add(MetricsRegistry.TESTS_EXECUTED, "testB", 3);
+        metricsRegistry.increment(MetricsRegistry.TESTS_FAILED, "testB");
+
+        assertEquals(Map.of("testA", 2L, "testB", 3L), metricsRegistry.getCounts(MetricsRegistry.TESTS_EXECUTED));
+        assertEquals(1, metricsRegistry.getCount(MetricsRegistry.TESTS_FAILED, "testB"));
+        assertEquals(0, metricsRegistry.getCount(MetricsRegistry.TESTS_FAILED, "testA"));
+    }
+
+    @Test
+    void givenRecordedDurations_whenSummarized_thenTheSlowestCheckComesFirstWithItsPercentiles() {
+        for (int i = 0; i < 99; i++) {
+            recordMillis("fastCheck", 3);
+        }
+        recordMillis("fastCheck", 700);
+        recordMillis("slowCheck", 4000);
+
+        List<HistogramSummary> summaries = metricsRegistry.getHistogramSummaries(MetricsRegistry.CHECK_DURATION);
+
+        assertEquals("slowCheck", summaries.get(0).label());
+        HistogramSummary fastCheck = summaries.get(1);
+        assertEquals(100, fastCheck.count());
+        assertEquals(997, fastCheck.totalMillis(), 0.001);
+        assertEquals(5, fastCheck.p50Millis(), 0.001);
+        assertEquals(5, fastCheck.p95Millis(), 0.001);
+        assertEquals(700, fastCheck.maxMillis(), 0.001);
+        assertEquals(4000, summaries.get(0).p99Millis(), 0.001);
+    }
+
+    @Test
+    void givenAQueueDepthGauge_whenPagesAreQueuedAndTaken_thenItKeepsTheCurrentAndTheHighestDepth() {
+        metricsRegistry.addToGauge(MetricsRegistry.CHECK_QUEUE_DEPTH, "browser", 1);
+        metricsRegistry.addToGauge(MetricsRegistry.CHECK_QUEUE_DEPTH, "browser", 1);
+        metricsRegistry.addToGauge(MetricsRegistry.CHECK_QUEUE_DEPTH, "browser", -1);
+        metricsRegistry.addToGauge(MetricsRegistry.CHECK_QUEUE_DEPTH, "http", 1);
+
+        assertEquals(Map.of("browser", new MetricsRegistry.GaugeValue(1, 2), "http", new MetricsRegistry.GaugeValue(1, 1)),
+            metricsRegistry.getGauges(MetricsRegistry.CHECK_QUEUE_DEPTH));
+        assertTrue(metricsRegistry.toPrometheusText()
+            .contains("# TYPE blogwatch_check_queue_depth_max gauge\nblogwatch_check_queue_depth_max{name=\"browser\"} 2\n"));
+    }
+
+    @Test
+    void givenMetrics_whenReportsAreWritten_thenThePrometheusFileAndTheJsonReportHoldThem() throws IOException {
+        metricsRegistry.increment(MetricsRegistry.TESTS_EXECUTED, "testA");
+        recordMillis("check\"A", 30);
+        recordMillis("check\"A", 3);
+        Path prometheusFile = tempDir.resolve("metrics/metrics.prom");
+        Path jsonReport = tempDir.resolve("metrics/metrics.json");
+
+        metricsRegistry.writeReports(prometheusFile, jsonReport);
+
+        String prometheusText = Files.readString(prometheusFile);
+        assertTrue(prometheusText.contains("blogwatch_tests_executed_total{name=\"testA\"} 1\n"));
+        assertTrue(prometheusText.contains("blogwatch_check_duration_seconds_bucket{name=\"check\\\"A\",le=\"0.005\"} 1\n"));
+        assertTrue(prometheusText.contains("blogwatch_check_duration_seconds_bucket{name=\"check\\\"A\",le=\"0.05\"} 2\n"));
+        assertTrue(prometheusText.contains("blogwatch_check_duration_seconds_count{name=\"check\\\"A\"} 2\n"));
+
+        JsonNode report = new ObjectMapper().readTree(jsonReport.toFile());
+        assertEquals(1, report.at("/counters/tests_executed/testA").asLong());
+        assertEquals(2, report.at("/histograms/check_duration/0/count").asLong());
+    }
+
+    private void recordMillis(String check, long millis) {
+        metricsRegistry.recordNanos(MetricsRegistry.CHECK_DURATION, check, TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+}
@@ -0,0 +1,200 @@
+package com.baeldung.common;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The time each url of an all-urls run spends in each phase: navigating to it or fetching it over HTTP, reading its
+ * DOM, probing it in the browser, the published date and tags lookups, and every check run on it.
+ * <br/>
+ * Phases are also recorded in the {@link MetricsRegistry}, and {@link #report(int)} lists the p50/p95/p99 of each
+ * phase with the slowest urls and checks.
+ */
+@ThreadSafe
+public class PageTimings {
+
+    public static final String NAVIGATION = "navigation";
+    public static final String HTTP_FETCH = "http_fetch";
+    public static final String DOM_SNAPSHOT = "dom_snapshot";
+    public static final String PAGE_PROBE = "page_probe";
+    public static final String NEWER_CHECK = "newer_check";
+    public static final String TAG_EXTRACTION = "tag_extraction";
+    public static final String FINGERPRINT = "fingerprint";
+
+    public static final String PAGE_PHASE = "page_phase";
+
+    private static final String CHECK_PREFIX = "check:";
+
+    private final ConcurrentMap<String, ConcurrentMap<String, LongAdder>> nanosByUrl = new ConcurrentHashMap<>();
+
+    public void record(String url, String phase, long nanos) {
+        nanosByUrl.computeIfAbsent(url, newUrl -> new ConcurrentHashMap<>())
+            .computeIfAbsent(phase, newPhase -> new LongAdder())
+            .add(nanos);
+        if (!phase.startsWith(CHECK_PREFIX)) {
+            MetricsRegistry.shared()
+                .recordNanos(PAGE_PHASE, phase, nanos);
+        }
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos}, a {@link System#nanoTime()}.
+     */
+    public void recordSince(String url, String phase, long startNanos) {
+        record(url, phase, System.nanoTime() - startNanos);
+    }
+
+    public void recordCheck(String url, String checkName, long nanos) {
+        record(url, CHECK_PREFIX + checkName, nanos);
+    }
+
+    public void time(String url, String phase, Runnable action) {
+        final long start = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            recordSince(url, phase, start);
+        }
+    }
+
+    public <T> T time(String url, String phase, Supplier<T> action) {
+        final long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            recordSince(url, phase, start);
+        }
+    }
+
+    public int getUrlCount() {
+        return nanosByUrl.size();
+    }
+
+    /**
+     * @return the total time of the url in each phase, in nanoseconds
+     */
+    public Map<String, Long> getPhases(String url) {
+        final Map<String, Long> phases = new TreeMap<>();
+        nanosByUrl.getOrDefault(url, new ConcurrentHashMap<>())
+            .forEach((phase, nanos) -> phases.put(phase, nanos.sum()));
+        return phases;
+    }
+
+    /**
+     * Lists the percentiles of each phase and of the total time of a url, the {@code topN} slowest urls with their
+     * slowest phases, and the {@code topN} checks taking the most time.
+     */
+    public String report(int topN) {
+        final Map<String, Long> totalByUrl = new HashMap<>();
+        final Map<String, List<Long>> valuesByPhase = new TreeMap<>();
+        final Map<String, List<Long>> valuesByCheck = new HashMap<>();
+        nanosByUrl.forEach((url, phases) -> {
+            long total = 0;
+            for (Map.Entry<String, LongAdder> phase : phases.entrySet()) {
+                final long nanos = phase.getValue()
+                    .sum();
+                total += nanos;
+                if (phase.getKey()
+                    .startsWith(CHECK_PREFIX)) {
+                    valuesByCheck.computeIfAbsent(phase.getKey()
+                        .substring(CHECK_PREFIX.length()), check -> new ArrayList<>())
+                        .add(nanos);
+                } else {
+                    valuesByPhase.computeIfAbsent(phase.getKey(), name -> new ArrayList<>())
+                        .add(nanos);
+                }
+            }
+            totalByUrl.put(url, total);
+        });
+
+        final StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "Timings of %d urls%n%n", totalByUrl.size()));
+        report.append(String.format(Locale.ROOT, "%-40s %8s %10s %10s %10s %12s%n", "phase", "urls", "p50 ms", "p95 ms", "p99 ms", "total s"));
+        valuesByPhase.forEach((phase, values) -> report.append(percentilesLine(phase, values)));
+        report.append(percentilesLine("all phases and checks", List.copyOf(totalByUrl.values())));
+
+        report.append(String.format(Locale.ROOT, "%nSlowest %d urls%n", topN));
+        totalByUrl.entrySet()
+            .stream()
+            .sorted(Map.Entry.<String, Long> comparingByValue()
+                .reversed())
+            .limit(topN)
+            .forEach(url -> report.append(String.format(Locale.ROOT, "%10d ms  %s%n              %s%n", toMillis(url.getValue()), url.getKey(), slowestPhases(url.getKey()))));
+
+        report.append(String.format(Locale.ROOT, "%nSlowest %d checks%n", topN));
+        report.append(String.format(Locale.ROOT, "%-40s %8s %10s %10s %10s %12s%n", "check", "urls", "p50 ms", "p95 ms", "p99 ms", "total s"));
+        valuesByCheck.entrySet()
+            .stream()
+            .sorted(Comparator.comparingLong((Map.Entry<String, List<Long>> check) -> sum(check.getValue()))
+                .reversed())
+            .limit(topN)
+            .forEach(check -> report.append(percentilesLine(check.getKey(), check.getValue())));
+        return report.toString();
+    }
+
+    public void writeReport(Path file, int topN) throws IOException {
+        Files.createDirectories(file.toAbsolutePath()
+            .getParent());
+        Files.writeString(file, report(topN), StandardCharsets.UTF_8);
+    }
+
+    private String slowestPhases(String url) {
+        return getPhases(url).entrySet()
+            .stream()
+            .sorted(Map.Entry.<String, Long> comparingByValue()
+                .reversed())
+            .limit(5)
+            .map(phase -> phase.getKey() + " " + toMillis(phase.getValue()) + " ms")
+            .collect(Collectors.joining(", "));
+    }
+
+    private static String percentilesLine(String name, List<Long> values) {
+        final long[] sorted = values.stream()
+            .mapToLong(Long::longValue)
+            .sorted()
+            .toArray();
+        return String.format(Locale.ROOT, "%-40s %8d %10d %10d %10d %12.1f%n", name, sorted.length, toMillis(percentile(sorted, 0.5)), toMillis(percentile(sorted, 0.95)),
+            toMillis(percentile(sorted, 0.99)), Arrays.stream(sorted)
+                .sum() / 1e9);
+    }
+
+    /**
+     * @return the nearest-rank percentile of the sorted values
+     */
+    static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        final int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static long sum(List<Long> values) {
+        return values.stream()
+            .mapToLong(Long::longValue)
+            .sum();
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+}
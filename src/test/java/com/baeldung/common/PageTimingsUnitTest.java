@@ -0,0 +1,63 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class PageTimingsUnitTest {
+
+    private final PageTimings pageTimings = new PageTimings();
+
+    @Test
+    void givenPhasesRecordedTwice_whenPhasesAreRequested_thenTheyAreSummedPerUrl() {
+        pageTimings.record("/first", PageTimings.NAVIGATION, millis(100));
+        pageTimings.record("/first", PageTimings.NAVIGATION, millis(50));
+        pageTimings.recordCheck("/first", "givenAllArticles_whenAnArticleLoads_thenItHasAFeaturedImage", millis(20));
+
+        assertEquals(Map.of(PageTimings.NAVIGATION, millis(150), "check:givenAllArticles_whenAnArticleLoads_thenItHasAFeaturedImage", millis(20)),
+            pageTimings.getPhases("/first"));
+        assertEquals(1, pageTimings.getUrlCount());
+    }
+
+    @Test
+    void givenTimingsOfManyUrls_whenReported_thenTheSlowestUrlAndCheckAreListedFirst() {
+        for (int i = 0; i < 10; i++) {
+            pageTimings.record("/page-" + i, PageTimings.NAVIGATION, millis(100));
+            pageTimings.recordCheck("/page-" + i, "fastCheck", millis(1));
+        }
+        pageTimings.record("/slow-page", PageTimings.NAVIGATION, millis(9000));
+        pageTimings.recordCheck("/slow-page", "slowCheck", millis(500));
+
+        String report = pageTimings.report(1);
+
+        assertTrue(report.contains("Timings of 11 urls"));
+        assertTrue(report.contains("9500 ms  /slow-page"));
+        assertTrue(report.contains("navigation 9000 ms, check:slowCheck 500 ms"));
+        String slowestChecks = report.substring(report.indexOf("Slowest 1 checks"));
+        assertTrue(slowestChecks.contains("slowCheck"));
+        assertFalse(slowestChecks.contains("fastCheck"));
+    }
+
+    @Test
+    void givenSortedValues_whenPercentilesAreComputed_thenTheNearestRankIsUsed() {
+        long[] sorted = new long[100];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i + 1;
+        }
+
+        assertEquals(50, PageTimings.percentile(sorted, 0.5));
+        assertEquals(95, PageTimings.percentile(sorted, 0.95));
+        assertEquals(99, PageTimings.percentile(sorted, 0.99));
+        assertEquals(0, PageTimings.percentile(new long[0], 0.5));
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+}
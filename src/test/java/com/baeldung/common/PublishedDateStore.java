@@ -0,0 +1,81 @@
+package com.baeldung.common;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Persisted publication dates of the urls of all-urls runs, so that a run can tell a url is new before loading it.
+ * <br/>
+ * A publication date doesn't change, so a stored date is kept until the page reports another one.
+ */
+@ThreadSafe
+public class PublishedDateStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublishedDateStore.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Path file;
+    private final Map<String, LocalDate> publishedDates;
+
+    private PublishedDateStore(Path file, Map<String, LocalDate> publishedDates) {
+        this.file = file;
+        this.publishedDates = publishedDates;
+    }
+
+    public static PublishedDateStore load(Path file) {
+        final Map<String, LocalDate> publishedDates = new ConcurrentHashMap<>();
+        if (Files.isRegularFile(file)) {
+            try {
+                Map<String, String> stored = objectMapper.readValue(file.toFile(), new TypeReference<Map<String, String>>() {
+                });
+                stored.forEach((url, date) -> publishedDates.put(url, LocalDate.parse(date)));
+                logger.info("Loaded published dates of {} urls from {}", publishedDates.size(), file);
+            } catch (IOException | DateTimeParseException e) {
+                logger.warn("Ignoring unreadable published date store {}: {}", file, e.getMessage());
+                publishedDates.clear();
+            }
+        }
+        return new PublishedDateStore(file, publishedDates);
+    }
+
+    public Optional<LocalDate> get(String url) {
+        return Optional.ofNullable(publishedDates.get(url));
+    }
+
+    public void put(String url, LocalDate publishedDate) {
+        publishedDates.put(url, publishedDate);
+    }
+
+    public int size() {
+        return publishedDates.size();
+    }
+
+    public synchronized void save() throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        final Map<String, String> stored = new TreeMap<>();
+        publishedDates.forEach((url, date) -> stored.put(url, date.toString()));
+        final Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), "published-dates", ".tmp");
+        objectMapper.writeValue(temp.toFile(), stored);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.info("Saved published dates of {} urls to {}", publishedDates.size(), file);
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.baeldung.common;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a concurrent check which needs the page rendered by a browser, e.g. to tell whether an element is displayed.
+ * Other checks only inspect the server-rendered HTML and run on pages fetched over HTTP when the
+ * {@link AllUrlsConcurrentExtension} has an HTTP pipeline.
+ */
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface RequiresJavaScript {
+
+}
@@ -0,0 +1,230 @@
+package com.baeldung.common;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ForwardingMultimap;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.Multimap;
+
+/**
+ * Streams the failures of a run to an append-only JSON Lines file as they are reported, instead of keeping them in
+ * memory until the end of the run.
+ * <br/>
+ * Reporting threads only add to a lock-free queue; a single writer thread drains it to the file and flushes whenever
+ * the queue is empty, so the failures reported before a crash are on disk. Once the sink is closed,
+ * {@link #summarize(Path)} builds the failure message from the file.
+ */
+@ThreadSafe
+public class ResultSink implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResultSink.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    /**
+     * A single failure of a check, with the HTTP status it is grouped under for the checks reporting one, null otherwise.
+     */
+    public record Failure(String check, Integer status, String value) {
+    }
+
+    private final Path file;
+    private final Queue<Failure> queue = new ConcurrentLinkedQueue<>();
+    private final LongAdder count = new LongAdder();
+    private final Thread writer;
+    private volatile boolean closed;
+    private volatile IOException writeFailure;
+
+    /**
+     * Starts a sink writing to the file, replacing the failures of a previous run.
+     */
+    public ResultSink(Path file) throws IOException {
+        this.file = file;
+        Files.createDirectories(file.toAbsolutePath()
+            .getParent());
+        final BufferedWriter fileWriter = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        writer = new Thread(() -> drain(fileWriter), "result-sink-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public void record(String check, String value) {
+        record(new Failure(check, null, value));
+    }
+
+    public void record(String check, int status, String value) {
+        record(new Failure(check, status, value));
+    }
+
+    private void record(Failure failure) {
+        if (closed) {
+            throw new IllegalStateException("The result sink " + file + " is closed");
+        }
+        queue.add(failure);
+        count.increment();
+    }
+
+    /**
+     * @return the number of failures recorded so far
+     */
+    public long size() {
+        return count.sum();
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * A write-only view for the checks putting their failures into a multimap keyed by the check name. Only
+     * {@code put} is supported, {@code size} being the number of failures of the whole sink; the failures themselves
+     * are read back with {@link #summarize(Path)}.
+     */
+    public Multimap<String, String> asMultimap() {
+        return new WriteOnlyMultimap<>() {
+            @Override
+            public boolean put(String check, String value) {
+                record(check, value);
+                return true;
+            }
+        };
+    }
+
+    /**
+     * A write-only view for a check putting its failures into a multimap keyed by HTTP status.
+     *
+     * @see #asMultimap()
+     */
+    public Multimap<Integer, String> asStatusMultimap(String check) {
+        return new WriteOnlyMultimap<>() {
+            @Override
+            public boolean put(Integer status, String value) {
+                record(check, status, value);
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Waits until every recorded failure is written and closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            throw new IOException("Interrupted while closing the result sink " + file, e);
+        }
+        if (writeFailure != null) {
+            throw writeFailure;
+        }
+    }
+
+    /**
+     * Builds the failure message of the failures in the file, grouped by check in the order they were first reported.
+     */
+    public static String summarize(Path file) throws IOException {
+        final Map<String, List<Failure>> failuresByCheck = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // the last line is cut when the run crashed while writing it
+                if (StringUtils.isNotBlank(line)) {
+                    readFailure(file, line).ifPresent(failure -> failuresByCheck.computeIfAbsent(failure.check(), check -> new ArrayList<>())
+                        .add(failure));
+                }
+            }
+        }
+
+        final StringBuilder summary = new StringBuilder();
+        failuresByCheck.forEach((check, failures) -> {
+            if (failures.get(0)
+                .status() == null) {
+                summary.append(Utils.formatResults(failures.stream()
+                    .map(Failure::value)
+                    .toList(), check));
+            } else {
+                final Multimap<Integer, String> failuresByStatus = ArrayListMultimap.create();
+                failures.forEach(failure -> failuresByStatus.put(failure.status(), failure.value()));
+                summary.append(Utils.formatResults(failuresByStatus, check));
+            }
+        });
+        return summary.toString();
+    }
+
+    private static Optional<Failure> readFailure(Path file, String line) {
+        try {
+            return Optional.of(objectMapper.readValue(line, Failure.class));
+        } catch (IOException e) {
+            logger.warn("Skipping a malformed line of the result file {}", file);
+            return Optional.empty();
+        }
+    }
+
+    private void drain(BufferedWriter fileWriter) {
+        try (fileWriter) {
+            while (true) {
+                final Failure failure = queue.poll();
+                if (failure != null) {
+                    fileWriter.write(objectMapper.writeValueAsString(failure));
+                    fileWriter.newLine();
+                } else if (closed && queue.isEmpty()) {
+                    return;
+                } else {
+                    fileWriter.flush();
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Couldn't write to the result file {}", file, e);
+            writeFailure = e;
+        }
+    }
+
+    private abstract class WriteOnlyMultimap<K> extends ForwardingMultimap<K, String> {
+
+        @Override
+        protected Multimap<K, String> delegate() {
+            return ImmutableListMultimap.of();
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.min(Integer.MAX_VALUE, count.sum());
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return count.sum() == 0;
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Multimap;
+
+public class ResultSinkUnitTest {
+
+    private static final String CHECK = "givenAllArticles_whenAnArticleLoads_thenItHasAFeaturedImage";
+    private static final String STATUS_CHECK = "givenAllArticlesLinkingToGitHubModule_whenAnArticleLoads_thenLinkedGitHubModulesReturns200OK";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void givenFailuresFromManyThreads_whenTheSinkIsClosed_thenEveryFailureIsInTheFile() throws IOException, InterruptedException {
+        Path file = tempDir.resolve("results/test.jsonl");
+        ResultSink resultSink = new ResultSink(file);
+        Multimap<String, String> badURLs = resultSink.asMultimap();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        IntStream.range(0, 1000)
+            .forEach(i -> executor.submit(() -> badURLs.put(CHECK, "/page-" + i)));
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        resultSink.close();
+
+        assertEquals(1000, resultSink.size());
+        assertEquals(1000, Files.readAllLines(file).size());
+        assertThrows(IllegalStateException.class, () -> badURLs.put(CHECK, "/too-late"));
+    }
+
+    @Test
+    void givenRecordedFailures_whenSummarized_thenTheMessageMatchesTheInMemoryOne() throws IOException {
+        Path file = tempDir.resolve("test.jsonl");
+        ResultSink resultSink = new ResultSink(file);
+        resultSink.asMultimap().put(CHECK, "\n/first");
+        resultSink.asStatusMultimap(STATUS_CHECK).put(404, "/first --> https://github.com/eugenp/tutorials/tree/master/missing");
+        resultSink.asMultimap().put(CHECK, "\n/second");
+        resultSink.close();
+
+        Multimap<Integer, String> statusResults = ArrayListMultimap.create();
+        statusResults.put(404, "/first --> https://github.com/eugenp/tutorials/tree/master/missing");
+        String expected = Utils.formatResults(List.of("\n/first", "\n/second"), CHECK) + Utils.formatResults(statusResults, STATUS_CHECK);
+        assertEquals(expected, ResultSink.summarize(file));
+    }
+
+    @Test
+    void givenAFileCutByACrash_whenSummarized_thenTheCompleteLinesAreKept() throws IOException {
+        Path file = tempDir.resolve("test.jsonl");
+        Files.writeString(file, "{\"check\":\"" + CHECK + "\",\"status\":null,\"value\":\"/first\"}\n{\"check\":\"" + CHECK + "\",\"sta");
+
+        assertEquals(Utils.formatResults(List.of("/first"), CHECK), ResultSink.summarize(file));
+    }
+
+}
@@ -1,20 +1,37 @@
 package com.baeldung.common;
 
 import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 
 import static com.baeldung.common.GlobalConstants.TestMetricTypes.FAILED;
 
-public class TestMetricsExtension implements AfterTestExecutionCallback {
+/**
+ * Records the executions, the failures and the duration of each test into the {@link MetricsRegistry}.
+ */
+public class TestMetricsExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(TestMetricsExtension.class);
+    private static final String START_NANOS = "startNanos";
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(START_NANOS, System.nanoTime());
+    }
 
     @Override
     public void afterTestExecution(ExtensionContext context) {
-        BaseTest.recordExecution(context.getTestMethod().get().getName());
+        final String testName = context.getTestMethod().get().getName();
+        BaseTest.recordExecution(testName);
+        final Long startNanos = context.getStore(NAMESPACE).remove(START_NANOS, Long.class);
+        if (startNanos != null) {
+            MetricsRegistry.shared().recordSince(MetricsRegistry.TEST_DURATION, testName, startNanos);
+        }
 
         if (context.getExecutionException().isPresent()) {
             if (!context.getTags().contains(GlobalConstants.TAG_SKIP_METRICS)) {
                 BaseTest.recordMetrics(1, FAILED);
-                BaseTest.recordFailure(context.getTestMethod().get().getName());
+                BaseTest.recordFailure(testName);
             }
         }
     }
@@ -0,0 +1,83 @@
+package com.baeldung.common;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Decides before a url is loaded whether an all-urls run skips it, so that a skipped url costs no page load.
+ * <br/>
+ * A url is skipped when it is excluded in exceptions-for-tests.yaml, compared like
+ * {@link Utils#excludePage(String, List, boolean)} with trailing slashes, or when the {@link PublishedDateStore} knows it
+ * was published less than the given weeks ago. Urls with no stored date are loaded, and left to the checks done after
+ * loading.
+ */
+@ThreadSafe
+public class UrlFilter {
+
+    public enum Verdict {
+        LOAD("load"), EXCLUDED("excluded"), NEWER("newer");
+
+        private final String label;
+
+        Verdict(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private final String[] excludedEntries;
+    private final int ignoreUrlsNewerThanWeeks;
+    private final PublishedDateStore publishedDateStore;
+
+    public UrlFilter(List<String> excludedEntries, int ignoreUrlsNewerThanWeeks, PublishedDateStore publishedDateStore) {
+        // normalized once, instead of once per url
+        this.excludedEntries = excludedEntries == null ? new String[0]
+            : excludedEntries.stream()
+                .map(entry -> entry.endsWith("/") ? entry : entry + "/")
+                .toArray(String[]::new);
+        this.ignoreUrlsNewerThanWeeks = ignoreUrlsNewerThanWeeks;
+        this.publishedDateStore = publishedDateStore;
+    }
+
+    public Verdict verdictOf(String url) {
+        if (isExcluded(url)) {
+            return Verdict.EXCLUDED;
+        }
+        final Optional<LocalDate> publishedDate = publishedDateStore.get(url);
+        if (publishedDate.isPresent() && isNewer(publishedDate.get())) {
+            return Verdict.NEWER;
+        }
+        return Verdict.LOAD;
+    }
+
+    /**
+     * @return whether the date is less than the given weeks ago, the same comparison as SitePage.isNewerThan
+     */
+    public boolean isNewer(LocalDate publishedDate) {
+        return ChronoUnit.WEEKS.between(publishedDate, LocalDate.now()) < ignoreUrlsNewerThanWeeks;
+    }
+
+    private boolean isExcluded(String url) {
+        if (excludedEntries.length == 0) {
+            return false;
+        }
+        String normalizedUrl = url.replace('\\', '/'); // workaround for windows
+        if (!normalizedUrl.endsWith("/")) {
+            normalizedUrl = normalizedUrl + "/";
+        }
+        for (String entry : excludedEntries) {
+            if (normalizedUrl.contains(entry)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.baeldung.common;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.baeldung.common.UrlFilter.Verdict;
+
+public class UrlFilterUnitTest {
+
+    private static final String BASE_URL = "https://www.baeldung.com";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void givenExcludedEntries_whenFilteringUrls_thenTheyAreComparedWithTrailingSlashesLikeExcludePage() {
+        List<String> excluded = List.of("/java-streams", "/spring-boot/");
+        UrlFilter urlFilter = new UrlFilter(excluded, 4, PublishedDateStore.load(tempDir.resolve("published-dates.json")));
+
+        for (String url : List.of(BASE_URL + "/java-streams", BASE_URL + "/java-streams/", BASE_URL + "/spring-boot", BASE_URL + "/java-streams-intro", BASE_URL + "/spring-boot-start")) {
+            Assertions.assertEquals(Utils.excludePage(url, excluded, true), urlFilter.verdictOf(url) == Verdict.EXCLUDED, url);
+        }
+    }
+
+    @Test
+    void givenAStoredPublishedDate_whenFilteringTheUrl_thenOnlyANewUrlIsSkipped() throws IOException {
+        Path file = tempDir.resolve("published-dates.json");
+        PublishedDateStore store = PublishedDateStore.load(file);
+        store.put(BASE_URL + "/new-article", LocalDate.now()
+            .minusWeeks(1));
+        store.put(BASE_URL + "/old-article", LocalDate.now()
+            .minusWeeks(10));
+        store.save();
+
+        UrlFilter urlFilter = new UrlFilter(null, 4, PublishedDateStore.load(file));
+
+        Assertions.assertEquals(Verdict.NEWER, urlFilter.verdictOf(BASE_URL + "/new-article"));
+        Assertions.assertEquals(Verdict.LOAD, urlFilter.verdictOf(BASE_URL + "/old-article"));
+        Assertions.assertEquals(Verdict.LOAD, urlFilter.verdictOf(BASE_URL + "/unknown-article"));
+    }
+
+}
@@ -1,52 +1,83 @@
 package com.baeldung.common;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * To iterate {@link com.baeldung.site.SitePage} urls by combining multiple iterator in a thread safe way.
+ * <br/>
+ * Appended iterators are drained into an array which is consumed through an atomic cursor, so concurrent
+ * readers never block each other. Appending is copy-on-write and is expected to happen before consumers start.
+ * <br/>
+ * Appending a tag again replaces the urls of that tag which weren't consumed yet, and restarts its progress.
  */
 @ThreadSafe
 public class UrlIterator implements Iterator<UrlIterator.UrlElement> {
 
-    Map<String, Iterator<String>> iterators = new HashMap<>();
+    private static final Entry[] EMPTY = new Entry[0];
+
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final Map<String, TagCounter> counters = new ConcurrentHashMap<>();
+
+    private volatile Entry[] entries = EMPTY;
 
     public synchronized void append(Object tag, Iterator<String> iterator) {
         if (tag == null) {
             throw new IllegalArgumentException("tag must not be null");
         }
-        iterators.put(tag.toString(), iterator);
+        final String tagName = tag.toString();
+        final TagCounter counter = new TagCounter();
+        final TagCounter replaced = counters.put(tagName, counter);
+
+        Entry[] appended = replaced == null ? entries : withoutPending(entries, replaced);
+        int size = appended.length;
+        while (iterator.hasNext()) {
+            if (size == appended.length) {
+                Entry[] grown = new Entry[Math.max(16, size * 2)];
+                System.arraycopy(appended, 0, grown, 0, size);
+                appended = grown;
+            }
+            appended[size++] = new Entry(new UrlElement(tagName, iterator.next()), counter);
+            counter.total++;
+        }
+        if (size != appended.length) {
+            Entry[] trimmed = new Entry[size];
+            System.arraycopy(appended, 0, trimmed, 0, size);
+            appended = trimmed;
+        }
+        entries = appended;
     }
 
-    @Override
-    public synchronized boolean hasNext() {
-        if (this.iterators.size() == 0)
-            return false;
-        boolean hasNext = false;
-        for (Iterator<String> it : iterators.values()) {
-            hasNext |= it.hasNext();
+    private Entry[] withoutPending(Entry[] current, TagCounter replaced) {
+        final int consumed = Math.min(cursor.get(), current.length);
+        final Entry[] kept = new Entry[current.length];
+        System.arraycopy(current, 0, kept, 0, consumed);
+        int size = consumed;
+        for (int i = consumed; i < current.length; i++) {
+            if (current[i].counter != replaced) {
+                kept[size++] = current[i];
+            }
         }
-        return hasNext;
+        return Arrays.copyOf(kept, size);
     }
 
     @Override
-    public synchronized UrlElement next() {
-        if (this.iterators.size() == 0)
-            throw new NoSuchElementException();
-
-        final String found = iterators.keySet()
-            .stream()
-            .filter(tag -> iterators.get(tag)
-                .hasNext())
-            .findAny()
-            .orElseThrow();
-
-        return new UrlElement(found, iterators.get(found).next());
+    public boolean hasNext() {
+        return cursor.get() < entries.length;
+    }
+
+    @Override
+    public UrlElement next() {
+        return getNext().orElseThrow(NoSuchElementException::new);
     }
 
     /**
@@ -54,13 +85,49 @@ public class UrlIterator implements Iterator<UrlIterator.UrlElement> {
      *
      * @return UrlElement
      */
-    public synchronized Optional<UrlElement> getNext() {
-        if (!hasNext()) {
-            return Optional.empty();
+    public Optional<UrlElement> getNext() {
+        final Entry[] current = entries;
+        int index;
+        do {
+            index = cursor.get();
+            if (index >= current.length) {
+                return Optional.empty();
+            }
+        } while (!cursor.compareAndSet(index, index + 1));
+
+        final Entry entry = current[index];
+        entry.counter.consumed.incrementAndGet();
+        return Optional.of(entry.element);
+    }
+
+    /**
+     * @return consumed and total url counts per tag, in the order the tags were appended
+     */
+    public Map<String, Progress> getProgress() {
+        final Map<String, Progress> progress = new LinkedHashMap<>();
+        for (Entry entry : entries) {
+            progress.computeIfAbsent(entry.element.tag(), tag -> {
+                final TagCounter counter = counters.get(tag);
+                return new Progress(counter.consumed.get(), counter.total);
+            });
         }
-        return Optional.of(next());
+        return Collections.unmodifiableMap(progress);
     }
 
     public record UrlElement(String tag, String url) {
     }
+
+    public record Progress(int consumed, int total) {
+    }
+
+    private record Entry(UrlElement element, TagCounter counter) {
+    }
+
+    private static final class TagCounter {
+
+        final AtomicInteger consumed = new AtomicInteger();
+
+        // written under the append lock, published through the volatile entries array
+        int total;
+    }
 }
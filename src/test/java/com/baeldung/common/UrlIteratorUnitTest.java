@@ -2,8 +2,17 @@ package com.baeldung.common;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -61,4 +70,49 @@ public class UrlIteratorUnitTest {
         Assertions.assertThrows(NoSuchElementException.class, iterator::next);
     }
 
+    @Test
+    void whenConsumedConcurrently_thenEachUrlIsReturnedOnceAndProgressIsTracked() throws InterruptedException {
+
+        List<String> articles = IntStream.range(0, 1000).mapToObj(i -> "article" + i).collect(Collectors.toList());
+        List<String> pages = IntStream.range(0, 500).mapToObj(i -> "page" + i).collect(Collectors.toList());
+
+        final UrlIterator iterator = new UrlIterator();
+        iterator.append(SampleTag.LIST1, articles.iterator());
+        iterator.append(SampleTag.LIST2, pages.iterator());
+
+        final Queue<String> consumed = new ConcurrentLinkedQueue<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                Optional<UrlIterator.UrlElement> next;
+                while ((next = iterator.getNext()).isPresent()) {
+                    consumed.add(next.get().url());
+                }
+            });
+        }
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        Assertions.assertEquals(1500, consumed.size());
+        Assertions.assertEquals(1500, new HashSet<>(consumed).size());
+        Assertions.assertFalse(iterator.hasNext());
+        Assertions.assertEquals(new UrlIterator.Progress(1000, 1000), iterator.getProgress().get(SampleTag.LIST1.name()));
+        Assertions.assertEquals(new UrlIterator.Progress(500, 500), iterator.getProgress().get(SampleTag.LIST2.name()));
+    }
+
+    @Test
+    void givenATagAppendedTwice_whenIterating_thenTheSecondIteratorReplacesTheFirst() {
+        final UrlIterator iterator = new UrlIterator();
+        iterator.append(SampleTag.LIST1, List.of("url1", "url2").iterator());
+        iterator.append(SampleTag.LIST2, List.of("url3").iterator());
+        iterator.append(SampleTag.LIST1, List.of("url4").iterator());
+
+        List<String> urls = new ArrayList<>();
+        iterator.forEachRemaining(element -> urls.add(element.url()));
+
+        Assertions.assertEquals(List.of("url3", "url4"), urls);
+        Assertions.assertEquals(new UrlIterator.Progress(1, 1), iterator.getProgress().get(SampleTag.LIST1.name()));
+        Assertions.assertEquals(new UrlIterator.Progress(1, 1), iterator.getProgress().get(SampleTag.LIST2.name()));
+    }
+
 }
@@ -1,21 +1,28 @@
 package com.baeldung.crawler4j;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 
 import com.baeldung.common.GlobalConstants;
-import org.jsoup.nodes.Document;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Value;
 
 
+import com.baeldung.common.GitRepoSync;
 import com.baeldung.common.GlobalConstants.TestMetricTypes;
+import com.baeldung.common.HostThrottle;
+import com.baeldung.common.JavaConstructExtractor;
+import com.baeldung.common.JavaConstructIndex;
+import com.baeldung.common.JavaConstructSet;
 import com.baeldung.common.Utils;
 import com.baeldung.common.vo.JavaConstruct;
 
-import com.baeldung.crawler4j.crawler.CrawlerForFindingJavaCode;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
 
@@ -24,6 +31,16 @@ public class Crawler4JTest extends BaseCrawler4JTest {
     @Value("${givenAllTheArticles_whenAnArticleLoads_thenJavaClassesAndMethodsCanBeFoundOnGitHub.file-for-javaConstructs-test}")
     private String fileForJavaConstructsTest;   
 
+    /**
+     * local: constructs on GitHub are read from the local checkouts of the tutorials repos, modules missing there are crawled
+     * crawler: all modules are crawled on GitHub
+     */
+    @Value("${givenAllTheArticles_whenAnArticleLoads_thenJavaClassesAndMethodsCanBeFoundOnGitHub.github-constructs-source:local}")
+    private String gitHubConstructsSource;
+
+    @Value("${givenAllTheArticles_whenAnArticleLoads_thenJavaClassesAndMethodsCanBeFoundOnGitHub.java-constructs-index}")
+    private String javaConstructsIndexFile;
+
     @Tag("matchJavaConstructs")
     @Test
     public final void givenAllTheArticles_whenAnArticleLoads_thenJavaClassesAndMethodsCanBeFoundOnGitHub() throws IOException {
@@ -35,37 +52,40 @@ public class Crawler4JTest extends BaseCrawler4JTest {
         Multimap<String, String> gitHubModuleAndPostsMap = null;
 
         logger.info("Start - creating Map for GitHub modules and Posts");
-        gitHubModuleAndPostsMap = Utils.createMapForGitHubModuleAndPosts(codeSnippetCrawlerController.getBaseURL(), fileForJavaConstructsTest, rateLimiter);
+        gitHubModuleAndPostsMap = Utils.createMapForGitHubModuleAndPosts(codeSnippetCrawlerController.getBaseURL(), fileForJavaConstructsTest);
         logger.info("Finished - creating Map for GitHub modules and Posts");
 
+        JavaConstructIndex javaConstructIndex = null;
+        if ("local".equalsIgnoreCase(gitHubConstructsSource)) {
+            GitRepoSync.shared().syncAll(GlobalConstants.tutorialsRepos);
+            javaConstructIndex = JavaConstructIndex.load(Path.of(javaConstructsIndexFile), GlobalConstants.tutorialsRepos, JavaConstructExtractor.shared());
+        }
+        final JavaConstructIndex index = javaConstructIndex;
+
+        // modules which aren't in the local checkouts are crawled together, on one controller shared by all of them
+        List<String> modulesToCrawl = gitHubModuleAndPostsMap.keySet()
+            .stream()
+            .filter(gitHubUrl -> index == null || index.getModuleConstructs(gitHubUrl).isEmpty())
+            .toList();
+        Map<String, CompletableFuture<List<JavaConstruct>>> crawledModules = modulesToCrawl.isEmpty() ? Map.of() : codeSnippetCrawlerController.crawlModules(modulesToCrawl);
+
         gitHubModuleAndPostsMap.asMap().forEach((gitHubUrl, posts) -> {
 
             logger.info("Getting Java Constructs from Github Module:  " + gitHubUrl);
-            codeSnippetCrawlerController.setSeedURL(gitHubUrl);
-            CrawlerForFindingJavaCode.baseURL = gitHubUrl;
-
             // get Java constructs from GitHub module
-            codeSnippetCrawlerController.startCrawlingWithAFreshController(CrawlerForFindingJavaCode.class, Runtime.getRuntime().availableProcessors());
-            List<JavaConstruct> javaConstructsOnGitHub = Utils.getDiscoveredJavaArtifacts(codeSnippetCrawlerController.getDiscoveredJacaConstructs());
-            codeSnippetCrawlerController.shutdownCrawler();
-            for (String postUrl : posts) {
-                rateLimiter.acquire();
-                try {
-                    logger.info("Getting Java Constructs from: " + postUrl);
-                    // get HTML of the post
-                    Document jSoupDocument = Utils.getJSoupDocument(postUrl);
-
-                    // get Java constructs from a post
-                    List<JavaConstruct> javaConstructsOnPost = Utils.getJavaConstructsFromPreTagsInTheJSoupDocument(jSoupDocument);
-
-                    // find Java constructs not found in GitHub module
-                    Utils.filterAndCollectJacaConstructsNotFoundOnGitHub(javaConstructsOnPost, javaConstructsOnGitHub, results, postUrl);
-                } catch (Exception e) {
-                    logger.error("Error occurened while process:" + postUrl + " .Error message:" + e.getMessage());
-                }
-            }
+            JavaConstructSet javaConstructsOnGitHub = getJavaConstructsOnGitHub(gitHubUrl, index, crawledModules);
+
+            // get Java constructs from the posts, in parallel
+            Map<String, List<JavaConstruct>> javaConstructsOnPosts = JavaConstructExtractor.shared().extractAll(posts, postUrl -> {
+                logger.info("Getting Java Constructs from: " + postUrl);
+                return Utils.getJavaCodeFromPreTagsInTheJSoupDocument(Utils.getJSoupDocument(postUrl));
+            });
+
+            // find Java constructs not found in GitHub module
+            javaConstructsOnPosts.forEach((postUrl, javaConstructsOnPost) -> Utils.filterAndCollectJacaConstructsNotFoundOnGitHub(javaConstructsOnPost, javaConstructsOnGitHub, results, postUrl));
 
         });
+        HostThrottle.shared().logMetrics();
 
         final int failingArticles = Utils.countArticlesWithProblems(results);
         if (failingArticles > 0) {
@@ -76,4 +96,16 @@ public class Crawler4JTest extends BaseCrawler4JTest {
 
     }
 
+    private JavaConstructSet getJavaConstructsOnGitHub(String gitHubUrl, JavaConstructIndex index, Map<String, CompletableFuture<List<JavaConstruct>>> crawledModules) {
+        if (index != null) {
+            Optional<JavaConstructSet> javaConstructs = index.getModuleConstructs(gitHubUrl);
+            if (javaConstructs.isPresent()) {
+                return javaConstructs.get();
+            }
+            logger.info("{} isn't in the local checkouts, waiting for the crawl", gitHubUrl);
+        }
+
+        return new JavaConstructSet(crawledModules.get(gitHubUrl).join());
+    }
+
 }
@@ -0,0 +1,75 @@
+package com.baeldung.crawler4j.unittest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.baeldung.common.GlobalConstants;
+import com.baeldung.common.vo.JavaConstruct;
+import com.baeldung.crawler4j.controller.SeedRouter;
+
+class SeedRouterUnitTest {
+
+    private static final String MODULE = "https://github.com/eugenp/tutorials/tree/master/core-java";
+    private static final String NESTED_MODULE = MODULE + "/core-java-lang";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void givenSeeds_whenPagesAreChecked_thenOnlyPagesUnderASeedAreInScope() {
+        SeedRouter<String> router = new SeedRouter<>(String.class, null);
+        router.addSeeds(List.of(MODULE + "/"));
+
+        assertTrue(router.isInScope(MODULE));
+        assertTrue(router.isInScope("https://github.com/eugenp/tutorials/blob/master/core-java/src/main/java/Greeter.java"));
+        assertTrue(router.isInScope(MODULE.toUpperCase()));
+        assertFalse(router.isInScope(MODULE + "-2/src/main/java/Greeter.java"));
+        assertFalse(router.isInScope("https://github.com/eugenp/tutorials/tree/master"));
+    }
+
+    @Test
+    void givenNestedSeeds_whenResultsAreCollected_thenEachSeedGetsThePagesUnderIt() {
+        SeedRouter<String> router = new SeedRouter<>(String.class, null);
+        router.addSeeds(List.of(MODULE, NESTED_MODULE));
+
+        router.collect(MODULE.replace("/tree/", "/blob/") + "/A.java", List.of("A"));
+        router.collect(NESTED_MODULE + "/B.java", List.of("B"));
+        router.collect(MODULE + "-2/C.java", List.of("C"));
+        router.collect(NESTED_MODULE, List.of());
+
+        assertEquals(List.of("A", "B"), router.getResults(MODULE));
+        assertEquals(List.of("B"), router.getResults(NESTED_MODULE));
+        assertTrue(router.wasVisited(NESTED_MODULE));
+        assertFalse(router.wasVisited(MODULE));
+    }
+
+    @Test
+    void givenAJournal_whenTheRouterIsCreatedAgain_thenTheVisitedPagesAreResumed() throws IOException {
+        Path journal = tempDir.resolve("crawl/seed-results.jsonl");
+        SeedRouter<JavaConstruct> interrupted = new SeedRouter<>(JavaConstruct.class, journal);
+        interrupted.addSeeds(List.of(MODULE));
+        interrupted.collect(MODULE + "/Greeter.java", List.of(new JavaConstruct(GlobalConstants.CONSTRUCT_TYPE_METHOD, "Greeter", "greet")));
+        interrupted.collect(MODULE, List.of());
+        // a line cut by killing the crawl
+        Files.writeString(journal, "{\"pageURL\":", StandardOpenOption.APPEND);
+
+        SeedRouter<JavaConstruct> resumed = new SeedRouter<>(JavaConstruct.class, journal);
+
+        assertTrue(resumed.wasVisited(MODULE));
+        assertEquals(List.of("greet"), resumed.getResults(MODULE).stream().map(JavaConstruct::getConstructName).toList());
+
+        resumed.deleteJournal();
+        assertFalse(Files.exists(journal));
+    }
+
+}
@@ -9,7 +9,6 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,7 +30,7 @@ public class CommonJsoupTest extends BaseJsoupTest{
     public final void givenAThankYouPage_whenThePageLoads_thenTheItHasTheFacebookEventTrackingCode(String url) throws IOException {      
                 
         logger.info("Processing " + url);
-        Document doc = Jsoup.connect(url).get();       
+        Document doc = JsoupResponseCache.shared().get(url);       
         assertAll(() -> assertTrue(TestUtils.facebookMainEventTrackingScriptExistsOnTKP.apply(doc, url), String.format("Facebook main tracking code not found on %s", url)),
                   () -> assertTrue(TestUtils.facebookEventConversionTrackingScriptExistsOnTKP.apply(doc, url), String.format("Facebook event price tracking code not found on %s", url)));
        
@@ -43,7 +42,7 @@ public class CommonJsoupTest extends BaseJsoupTest{
     public final void givenAThankYouPage_whenThePageLoads_thenTheItHasTheDripEventTrackingCode(String url) throws IOException {      
                 
         logger.info("Processing " + url);
-        Document doc = Jsoup.connect(url).get();       
+        Document doc = JsoupResponseCache.shared().get(url);       
         assertAll(() -> assertTrue(TestUtils.dripMainEventTrackingScriptExistsOnTKP.apply(doc, url), String.format("Drip main tracking code not found on %s", url)),
                   () -> assertTrue(TestUtils.dripEventConversionTrackingScriptExistsOnTKP.apply(doc, url), String.format("Drip[ event price tracking code not found on %s", url)));
        
@@ -55,7 +54,7 @@ public class CommonJsoupTest extends BaseJsoupTest{
     public final void givenAThankYouPage_whenThePageLoads_thenTheItHasTheGoogleEventTrackingCode(String url) throws IOException {
 
         logger.info("Processing " + url);
-        Document doc = Jsoup.connect(url).get();
+        Document doc = JsoupResponseCache.shared().get(url);
         assertAll(() -> assertTrue(TestUtils.googleMainEventTrackingScriptExistsOnTKP.apply(doc, url), String.format("Google main tracking code not found on %s", url)),
                 () -> assertTrue(TestUtils.googleEventConversionTrackingScriptExistsOnTKP.apply(doc, url), String.format("Goole[ event price tracking code not found on %s", url)));
 
@@ -67,7 +66,7 @@ public class CommonJsoupTest extends BaseJsoupTest{
         String fullUrl = baseURL + url;
                  
         logger.info(greenBoldMessage("inspecting:{}  "), fullUrl);
-        Document doc = Jsoup.connect(fullUrl).get(); 
+        Document doc = JsoupResponseCache.shared().get(fullUrl); 
         List<Executable> tests = new ArrayList<>();
         
         for(String slotId: slotIds) {
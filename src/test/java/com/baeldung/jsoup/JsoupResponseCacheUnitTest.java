@@ -0,0 +1,124 @@
+package com.baeldung.jsoup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jsoup.HttpStatusException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.baeldung.common.EmbeddedHttpServer;
+import com.baeldung.common.HostThrottle;
+
+public class JsoupResponseCacheUnitTest {
+
+    private static final String ETAG = "\"v1\"";
+
+    @TempDir
+    Path cacheDir;
+
+    private EmbeddedHttpServer server;
+    private String baseUrl;
+    private final AtomicInteger fullResponses = new AtomicInteger();
+    private final AtomicInteger notModifiedResponses = new AtomicInteger();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = EmbeddedHttpServer.start().handle("/", exchange -> {
+            if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModifiedResponses.incrementAndGet();
+                EmbeddedHttpServer.respond(exchange, 304);
+            } else {
+                fullResponses.incrementAndGet();
+                exchange.getResponseHeaders().add("ETag", ETAG);
+                EmbeddedHttpServer.respondWithHtml(exchange, "<html><body><p id='path'>" + exchange.getRequestURI().getPath() + "</p></body></html>");
+            }
+        });
+        baseUrl = server.getBaseUrl();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    void givenAFreshEntry_whenFetchedAgain_thenTheServerIsHitOnce() throws IOException {
+        JsoupResponseCache cache = new JsoupResponseCache(cacheDir, 10, 1024 * 1024, 60000);
+
+        cache.get(baseUrl + "/thank-you");
+        String path = cache.get(baseUrl + "/thank-you").getElementById("path").text();
+
+        assertEquals("/thank-you", path);
+        assertEquals(1, fullResponses.get());
+        assertEquals(0, notModifiedResponses.get());
+    }
+
+    @Test
+    void givenAnEntryOnDisk_whenANewCacheFetchesIt_thenItIsRevalidatedWithTheETag() throws IOException {
+        new JsoupResponseCache(cacheDir, 10, 1024 * 1024, 60000).get(baseUrl + "/article");
+
+        String path = new JsoupResponseCache(cacheDir, 10, 1024 * 1024, 60000).get(baseUrl + "/article").getElementById("path").text();
+
+        assertEquals("/article", path);
+        assertEquals(1, fullResponses.get());
+        assertEquals(1, notModifiedResponses.get());
+    }
+
+    @Test
+    void givenADiskLimit_whenItIsExceeded_thenTheLeastRecentlyUsedEntriesAreEvicted() throws IOException {
+        JsoupResponseCache cache = new JsoupResponseCache(cacheDir, 10, 300, 0);
+
+        cache.get(baseUrl + "/first");
+        Files.setLastModifiedTime(cache.fileOf(baseUrl + "/first"), FileTime.fromMillis(0));
+        cache.get(baseUrl + "/second");
+        cache.get(baseUrl + "/third");
+
+        assertFalse(Files.exists(cache.fileOf(baseUrl + "/first")));
+        assertTrue(Files.exists(cache.fileOf(baseUrl + "/third")));
+        assertTrue(cache.getDiskBytes() <= 300);
+    }
+
+    @Test
+    void givenAThrottlingServer_whenFetched_thenTheRequestIsRetriedAndTheHostSlowedDown() throws IOException {
+        AtomicInteger busyResponses = new AtomicInteger();
+        server.handle("/busy", exchange -> {
+            if (busyResponses.getAndIncrement() == 0) {
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                EmbeddedHttpServer.respond(exchange, 429);
+            } else {
+                EmbeddedHttpServer.respondWithHtml(exchange, "<html><body><p id='path'>busy</p></body></html>");
+            }
+        });
+        HostThrottle hostThrottle = new HostThrottle(8, 0.2, 8, 1, 0.5);
+        JsoupResponseCache cache = new JsoupResponseCache(cacheDir, 10, 1024 * 1024, 60000, hostThrottle);
+
+        String path = cache.get(baseUrl + "/busy").getElementById("path").text();
+
+        assertEquals("busy", path);
+        assertEquals(2, busyResponses.get());
+        assertEquals(1, hostThrottle.getMetrics().get("localhost").throttledResponses());
+        assertTrue(hostThrottle.getMetrics().get("localhost").waitedMillis() >= 900);
+    }
+
+    @Test
+    void givenAnErrorStatus_whenFetched_thenAnHttpStatusExceptionIsThrown() {
+        server.handle("/missing", exchange -> EmbeddedHttpServer.respond(exchange, 404));
+        JsoupResponseCache cache = new JsoupResponseCache(cacheDir, 10, 1024 * 1024, 60000, new HostThrottle(8, 0.2, 8, 1, 0.5));
+
+        HttpStatusException exception = assertThrows(HttpStatusException.class, () -> cache.get(baseUrl + "/missing"));
+
+        assertEquals(404, exception.getStatusCode());
+    }
+
+}
@@ -1,7 +1,9 @@
 package com.baeldung.selenium.common;
 
 import java.io.IOException;
-import java.nio.file.Paths;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -19,27 +21,40 @@ import org.junit.jupiter.api.extension.support.TypeBasedParameterResolver;
 import org.springframework.beans.factory.annotation.Value;
 
 import com.baeldung.common.AllUrlsConcurrentExtension;
+import com.baeldung.common.CheckReplay;
+import com.baeldung.common.FingerprintStore;
+import com.baeldung.common.GitRepoSync;
 import com.baeldung.common.GlobalConstants;
+import com.baeldung.common.IncrementalRun;
+import com.baeldung.common.MetricsRegistry;
+import com.baeldung.common.PageTimings;
+import com.baeldung.common.PublishedDateStore;
+import com.baeldung.common.ResultSink;
+import com.baeldung.common.UrlFilter;
 import com.baeldung.common.UrlIterator;
 import com.baeldung.common.Utils;
 import com.baeldung.common.YAMLProperties;
-import com.baeldung.common.vo.GitHubRepoVO;
 import com.baeldung.site.SitePage;
-import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
-import com.google.common.collect.Multimaps;
 
 /**
  * Enables {@link AllUrlsConcurrentExtension} Junit extension.
  */
 public class AllUrlsUIBaseTest extends ConcurrentBaseUISeleniumTest {
 
+    /**
+     * The results key of the urls which couldn't be fetched over HTTP.
+     */
+    protected static final String HTTP_FETCH_FAILURES = "givenAllUrls_whenFetchingOverHttp_thenThePagesAreFetched";
+
     /**
      * Overwrites ConcurrentBaseTest.extension
      */
     @RegisterExtension
     AllUrlsConcurrentExtension extension = new AllUrlsConcurrentExtension(
-        CONCURRENCY_LEVEL, this, () -> logger, this::loadNextURL);
+        CONCURRENCY_LEVEL, this, () -> logger, this::loadNextURL, () -> this.incrementalRun != null ? this.incrementalRun : CheckReplay.NONE, () -> this.pageTimings)
+            .withHttpPipeline(this::loadNextURLOverHttp, () -> this.httpPipelineEnabled ? this.httpPipelineConcurrency : 0)
+            .withCheckPipeline(() -> this.checkPipelineWorkers, () -> this.checkPipelineQueueCapacity);
 
     @RegisterExtension
     static ParameterResolver nullResolver = new TypeBasedParameterResolver<SitePage>() {
@@ -63,11 +78,66 @@ public class AllUrlsUIBaseTest extends ConcurrentBaseUISeleniumTest {
     @Value("${single-url-to-run-all-tests}")
     protected String singleURL;
 
-    @Value("${redownload-repo}")
-    protected String redownloadRepo;
+    @Value("${all-urls.incremental:false}")
+    protected boolean incremental;
+
+    @Value("${all-urls.fingerprint-store}")
+    protected String fingerprintStorePath;
+
+    @Value("${all-urls.published-dates-store}")
+    protected String publishedDatesStorePath;
+
+    @Value("${all-urls.results-folder}")
+    protected String resultsFolder;
+
+    @Value("${all-urls.slow-pages-report.top:20}")
+    protected int slowPagesReportTop;
+
+    @Value("${all-urls.http-pipeline.enabled:false}")
+    protected boolean httpPipelineEnabled;
+
+    @Value("${all-urls.http-pipeline.concurrency:32}")
+    protected int httpPipelineConcurrency;
+
+    @Value("${all-urls.check-pipeline.workers:8}")
+    protected int checkPipelineWorkers;
+
+    @Value("${all-urls.check-pipeline.queue-capacity:16}")
+    protected int checkPipelineQueueCapacity;
 
     protected UrlIterator urlIterator;
 
+    /**
+     * The same urls as {@link #urlIterator}, for the checks running on pages loaded over HTTP.
+     */
+    protected UrlIterator httpUrlIterator;
+
+    /**
+     * Set in incremental mode only, replays the outcome of checks on pages unchanged since the previous run.
+     */
+    protected IncrementalRun incrementalRun;
+
+    /**
+     * The published dates seen by this run and the previous ones, which let {@link #urlFilter} skip new urls.
+     */
+    protected PublishedDateStore publishedDateStore;
+
+    /**
+     * Skips the excluded and the known new urls before they are loaded.
+     */
+    protected UrlFilter urlFilter;
+
+    /**
+     * Streams the failures put into {@link #badURLs} and {@link #resultsForGitHubHttpStatusTest} to a file.
+     */
+    protected ResultSink resultSink;
+
+    /**
+     * The time each url spends in each phase, reported to {@code <results-folder>/<test method>-timings.txt}.
+     */
+    protected PageTimings pageTimings;
+    private Path timingsReport;
+
     protected Multimap<String, String> badURLs;
     protected Multimap<Integer, String> resultsForGitHubHttpStatusTest;
 
@@ -76,19 +146,38 @@ public class AllUrlsUIBaseTest extends ConcurrentBaseUISeleniumTest {
     protected List<String> level2ExceptionsForTitleProperDotsTest= YAMLProperties.exceptionsForTestsLevel2.get(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenTheArticleHasProperDotsInTitle);
 
     @BeforeEach
-    public void setup() throws IOException {
+    public void setup(TestInfo testInfo) throws IOException {
         logger.info("The test will ignore URls newer than {} weeks", ignoreUrlsNewerThanWeeks);
-        urlIterator = new UrlIterator();
+        urlIterator = newUrlIterator();
+        httpUrlIterator = newUrlIterator();
+        publishedDateStore = PublishedDateStore.load(Path.of(publishedDatesStorePath));
+        urlFilter = new UrlFilter(YAMLProperties.exceptionsForTests.get(GlobalConstants.givenAllLongRunningTests_whenHittingAllUrls_thenOK), ignoreUrlsNewerThanWeeks, publishedDateStore);
+        final String testName = testInfo.getTestMethod()
+            .map(Method::getName)
+            .orElse("all-urls");
+        resultSink = new ResultSink(Path.of(resultsFolder, testName + ".jsonl"));
+        pageTimings = new PageTimings();
+        timingsReport = Path.of(resultsFolder, testName + "-timings.txt");
+        badURLs = resultSink.asMultimap();
+        resultsForGitHubHttpStatusTest = resultSink.asStatusMultimap(GlobalConstants.givenAllArticlesLinkingToGitHubModule_whenAnArticleLoads_thenLinkedGitHubModulesReturns200OK);
+        if (incremental && StringUtils.isEmpty(singleURL)) {
+            logger.info("Incremental mode, unchanged pages replay the stored results from {}", fingerprintStorePath);
+            incrementalRun = new IncrementalRun(FingerprintStore.load(Path.of(fingerprintStorePath)));
+            badURLs = incrementalRun.recording(badURLs);
+        }
+    }
+
+    private UrlIterator newUrlIterator() throws IOException {
+        final UrlIterator iterator = new UrlIterator();
         if (StringUtils.isNotEmpty(singleURL)) {
             // when a single url is given, all tests run against only that url
-            urlIterator.append(SitePage.Type.ARTICLE, Collections.singleton(singleURL).iterator());
+            iterator.append(SitePage.Type.ARTICLE, Collections.singleton(singleURL).iterator());
         } else {
             // otherwise load all pages
-            urlIterator.append(SitePage.Type.ARTICLE, Utils.fetchAllArtilcesAsListIterator());
-            urlIterator.append(SitePage.Type.PAGE, Utils.fetchAllPagesAsListIterator());
+            iterator.append(SitePage.Type.ARTICLE, Utils.fetchAllArtilcesAsListIterator());
+            iterator.append(SitePage.Type.PAGE, Utils.fetchAllPagesAsListIterator());
         }
-        badURLs = Multimaps.synchronizedListMultimap(ArrayListMultimap.create());
-        resultsForGitHubHttpStatusTest = Multimaps.synchronizedListMultimap(ArrayListMultimap.create());
+        return iterator;
     }
 
     @BeforeEach
@@ -98,47 +187,159 @@ public class AllUrlsUIBaseTest extends ConcurrentBaseUISeleniumTest {
             return;
         }
         logger.info("Loading Github repositories into local");
-        for (GitHubRepoVO gitHubRepo : GlobalConstants.tutorialsRepos) {
-            try {
-               Utils.fetchGitRepo(redownloadRepo, Paths.get(gitHubRepo.repoLocalPath()), gitHubRepo.repoUrl());
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
+        try {
+            GitRepoSync.shared().syncAll(GlobalConstants.tutorialsRepos);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
         }
     }
 
     @AfterEach
-    public void clear() {
+    public void clear() throws IOException {
+        urlIterator.getProgress()
+            .forEach((tag, progress) -> logger.info("Processed {} of {} {} urls in the browser", progress.consumed(), progress.total(), tag));
+        httpUrlIterator.getProgress()
+            .forEach((tag, progress) -> logger.info("Processed {} of {} {} urls over HTTP", progress.consumed(), progress.total(), tag));
+        MetricsRegistry.shared()
+            .getGauges(MetricsRegistry.CHECK_QUEUE_DEPTH)
+            .forEach((stage, depth) -> logger.info("Up to {} {} pages waited for a check worker", depth.max(), stage));
+        MetricsRegistry.shared()
+            .getCounts(MetricsRegistry.URLS_SKIPPED)
+            .forEach((reason, count) -> logger.info("Skipped {} urls: {}", count, reason));
+        try {
+            publishedDateStore.save();
+        } catch (IOException e) {
+            logger.error("Couldn't save published dates to {}", publishedDatesStorePath, e);
+        }
+        if (incrementalRun != null) {
+            logger.info("Checks executed: {}, replayed: {}", incrementalRun.getExecutedCount(), incrementalRun.getReplayedCount());
+            try {
+                incrementalRun.getStore().save();
+            } catch (IOException e) {
+                logger.error("Couldn't save fingerprints to {}", fingerprintStorePath, e);
+            }
+        }
+        if (pageTimings.getUrlCount() > 0) {
+            try {
+                pageTimings.writeReport(timingsReport, slowPagesReportTop);
+                logger.info("Timings of {} urls written to {}", pageTimings.getUrlCount(), timingsReport);
+            } catch (IOException e) {
+                logger.error("Couldn't write the timings to {}", timingsReport, e);
+            }
+        }
+        resultSink.close();
         // if any bad urls in each test then fail
-        if (badURLs.size() > 0 || resultsForGitHubHttpStatusTest.size() > 0) {
-            triggerTestFailure(badURLs, resultsForGitHubHttpStatusTest);
+        if (resultSink.size() > 0) {
+            logger.info("{} failures written to {}", resultSink.size(), resultSink.getFile());
+            Utils.triggerTestFailure(ResultSink.summarize(resultSink.getFile()));
         }
     }
 
     protected boolean loadNextURL(SitePage page) {
+        while (true) {
+            if (!nextUrlToLoad(urlIterator, page)) {
+                return false;
+            }
+            final String url = page.getUrl();
 
-        Optional<UrlIterator.UrlElement> next = urlIterator.getNext();
-        if (next.isEmpty()) {
-            return false;
+            logger.info("Loading - {}", url);
+            // paced with the HTTP fetches of the same host, the probe reports the status of the page back
+            pageTimings.time(url, PageTimings.NAVIGATION, page::loadUrlWithThrottling);
+            // all static DOM checks on this url are answered from the snapshot
+            pageTimings.time(url, PageTimings.DOM_SNAPSHOT, page::captureSnapshot);
+            // visibility checks and the WordPress tags are answered from a single script
+            pageTimings.time(url, PageTimings.PAGE_PROBE, page::captureProbe);
+            if (!isSkippedAfterLoading(page)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Like {@link #loadNextURL(SitePage)}, for the checks which don't need JavaScript: the page is fetched over HTTP
+     * and its server-rendered HTML becomes the snapshot. A url which can't be fetched is reported under
+     * {@link #HTTP_FETCH_FAILURES} and the next one is fetched.
+     */
+    protected boolean loadNextURLOverHttp(SitePage page) {
+        while (true) {
+            if (!nextUrlToLoad(httpUrlIterator, page)) {
+                return false;
+            }
+            final String url = page.getUrl();
+
+            logger.info("Fetching - {}", url);
+            final long fetchStart = System.nanoTime();
+            try {
+                page.loadUrlOverHttp();
+            } catch (IOException e) {
+                logger.error("Couldn't fetch {}: {}", url, e.getMessage());
+                badURLs.put(HTTP_FETCH_FAILURES, url + " --> " + e.getMessage());
+                continue;
+            } finally {
+                pageTimings.recordSince(url, PageTimings.HTTP_FETCH, fetchStart);
+            }
+            if (!isSkippedAfterLoading(page)) {
+                return true;
+            }
         }
-        UrlIterator.UrlElement element = next.get();
-        page.setUrl(page.getBaseURL() + element.url());
-        page.setType(SitePage.Type.valueOf(element.tag()));
+    }
 
-        logger.info("Loading - {}", page.getUrl());
-        page.loadUrl();
-        if (page.isNewerThan(ignoreUrlsNewerThanWeeks)) {
-            logger.info("Skipping {} as it's newer than {} weeks", page.getUrl(), ignoreUrlsNewerThanWeeks);
-            loadNextURL(page);
+    /**
+     * Sets the next url of the iterator the {@link #urlFilter} lets through on the page, skipping the others without
+     * loading them.
+     *
+     * @return false once the iterator is exhausted
+     */
+    private boolean nextUrlToLoad(UrlIterator iterator, SitePage page) {
+        Optional<UrlIterator.UrlElement> next;
+        while ((next = iterator.getNext()).isPresent()) {
+            final UrlIterator.UrlElement element = next.get();
+            final String url = page.getBaseURL() + element.url();
+            final UrlFilter.Verdict verdict = urlFilter.verdictOf(url);
+            if (verdict == UrlFilter.Verdict.LOAD) {
+                page.setUrl(url);
+                page.setType(SitePage.Type.valueOf(element.tag()));
+                return true;
+            }
+            logger.debug("Skipping {} without loading it: {}", url, verdict);
+            MetricsRegistry.shared()
+                .increment(MetricsRegistry.URLS_SKIPPED, verdict.getLabel());
         }
-        page.setWpTags();
+        return false;
+    }
 
-        if (shouldSkipUrl(page, GlobalConstants.givenAllLongRunningTests_whenHittingAllUrls_thenOK)) {
-            loadNextURL(page);
+    /**
+     * Skips the loaded page when it's newer than {@link #ignoreUrlsNewerThanWeeks} or has skip tags. Its published
+     * date is recorded for the next runs.
+     */
+    private boolean isSkippedAfterLoading(SitePage page) {
+        final String url = page.getUrl();
+        if (pageTimings.time(url, PageTimings.NEWER_CHECK, () -> isNewer(page))) {
+            logger.info("Skipping {} as it's newer than {} weeks", url, ignoreUrlsNewerThanWeeks);
+            MetricsRegistry.shared()
+                .increment(MetricsRegistry.URLS_SKIPPED, "newer_after_loading");
+            return true;
+        }
+        pageTimings.time(url, PageTimings.TAG_EXTRACTION, page::setWpTags);
+        if (incrementalRun != null) {
+            pageTimings.time(url, PageTimings.FINGERPRINT, () -> incrementalRun.fingerprint(page));
         }
 
-        return true;
+        if (shouldSkipUrl(page, GlobalConstants.givenAllLongRunningTests_whenHittingAllUrls_thenOK)) {
+            MetricsRegistry.shared()
+                .increment(MetricsRegistry.URLS_SKIPPED, "excluded_after_loading");
+            return true;
+        }
+        return false;
     }
 
+    private boolean isNewer(SitePage page) {
+        final Optional<LocalDate> publishedDate = page.getPublishedDate();
+        if (publishedDate.isEmpty()) {
+            return false;
+        }
+        publishedDateStore.put(page.getUrl(), publishedDate.get());
+        return urlFilter.isNewer(publishedDate.get());
+    }
 
 }
@@ -7,15 +7,17 @@ import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringEscapeUtils;
 import org.junit.jupiter.api.Tag;
-import org.openqa.selenium.WebElement;
 import org.springframework.util.CollectionUtils;
 
-import com.baeldung.common.AllUrlsConcurrentExtension;
+import com.baeldung.common.CheckGroups;
+import com.baeldung.common.FusedChecks;
 import com.baeldung.common.GlobalConstants;
 import com.baeldung.common.GlobalConstants.TestMetricTypes;
 import com.baeldung.common.LogOnce;
 import com.baeldung.common.PageTypes;
+import com.baeldung.common.RequiresJavaScript;
 import com.baeldung.common.Utils;
+import com.baeldung.common.vo.LinkVO;
 import com.baeldung.site.InvalidTitles;
 import com.baeldung.site.SitePage;
 import com.baeldung.utility.TestUtils;
@@ -34,12 +36,16 @@ import dev.yavuztas.junit.ConcurrentTest;
  *
  * Default parallel thread count is 8. This configuration can be set via the system property -Dconcurrency.level=8.
  * For details see: {@link com.baeldung.common.BaseTest}
+ * <br/>
+ * Checks run in the browser. With {@code all-urls.http-pipeline.enabled}, the checks not annotated with
+ * {@link RequiresJavaScript} run on pages fetched over HTTP instead.
  */
 public class AllUrlsUITest extends AllUrlsUIBaseTest {
 
     @ConcurrentTest
     @PageTypes({ SitePage.Type.PAGE, SitePage.Type.ARTICLE })
     @LogOnce(GlobalConstants.givenAllArticlesAndPages_whenAnalysingImages_thenImagesDoNotPoinToTheDraftsSite)
+    @CheckGroups(GlobalConstants.TAG_TECHNICAL)
     public final void givenAllArticlesAndPages_whenAnalysingImages_thenImagesDoNotPoinToTheDraftsSite(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticlesAndPages_whenAnalysingImages_thenImagesDoNotPoinToTheDraftsSite);
 
@@ -47,21 +53,21 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
             return;
         }
 
-        final List<WebElement> imgTags = page.findImagesPointingToDraftSite();
-        final List<WebElement> anchorTags = page.findAnchorsPointingToAnImageAndDraftSiteOnTheArticle();
+        final List<String> imgTags = page.findImagesPointingToDraftSite();
+        final List<String> anchorTags = page.findAnchorsPointingToAnImageAndDraftSiteOnTheArticle();
 
         if (imgTags.size() > 0) {
             recordMetrics(imgTags.size(), TestMetricTypes.FAILED);
             recordFailure(GlobalConstants.givenAllArticlesAndPages_whenAnalysingImages_thenImagesDoNotPoinToTheDraftsSite, imgTags.size());
             badURLs.put(GlobalConstants.givenAllArticlesAndPages_whenAnalysingImages_thenImagesDoNotPoinToTheDraftsSite,
-                page.getUrlWithNewLineFeed() + " ( " + imgTags.stream().map(webElement -> webElement.getAttribute("src") + " , ").collect(Collectors.joining()) + ")\n");
+                page.getUrlWithNewLineFeed() + " ( " + imgTags.stream().map(src -> src + " , ").collect(Collectors.joining()) + ")\n");
         }
 
         if (anchorTags.size() > 0) {
             recordMetrics(anchorTags.size(), TestMetricTypes.FAILED);
             recordFailure(GlobalConstants.givenAllArticlesAndPages_whenAnalysingImages_thenImagesDoNotPoinToTheDraftsSite, anchorTags.size());
             badURLs.put(GlobalConstants.givenAllArticlesAndPages_whenAnalysingImages_thenImagesDoNotPoinToTheDraftsSite,
-                page.getUrlWithNewLineFeed() + " ( " + anchorTags.stream().map(webElement -> webElement.getAttribute("href") + " , ").collect(Collectors.joining()) + ")\n");
+                page.getUrlWithNewLineFeed() + " ( " + anchorTags.stream().map(href -> href + " , ").collect(Collectors.joining()) + ")\n");
         }
     }
 
@@ -69,6 +75,7 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
     @ConcurrentTest
     @PageTypes({ SitePage.Type.PAGE, SitePage.Type.ARTICLE })
     @LogOnce(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenMetaOGImageAndTwitterImagePointToTheAbsolutePath)
+    @CheckGroups(GlobalConstants.TAG_TECHNICAL)
     public final void givenAllArticlesAndPages_whenAPageLoads_thenMetaOGImageAndTwitterImagePointToTheAbsolutePath(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenMetaOGImageAndTwitterImagePointToTheAbsolutePath);
 
@@ -87,6 +94,7 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
     @ConcurrentTest
     @PageTypes({ SitePage.Type.PAGE, SitePage.Type.ARTICLE })
     @LogOnce(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItHasAFeaturedImage)
+    @CheckGroups(GlobalConstants.TAG_TECHNICAL)
     public final void givenAllArticlesAndPages_whenAPageLoads_thenItHasAFeaturedImage(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItHasAFeaturedImage);
 
@@ -105,6 +113,8 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
     @ConcurrentTest
     @PageTypes({ SitePage.Type.PAGE, SitePage.Type.ARTICLE })
     @LogOnce(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItDoesNotContainOverlappingText)
+    @CheckGroups(GlobalConstants.TAG_TECHNICAL)
+    @RequiresJavaScript
     public final void givenAllArticlesAndPages_whenAPageLoads_thenItDoesNotContainOverlappingText(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItDoesNotContainOverlappingText);
 
@@ -122,12 +132,13 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
     @ConcurrentTest
     @PageTypes(SitePage.Type.ARTICLE)
     @LogOnce(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenArticleHasNoEmptyCodeBlock)
+    @CheckGroups(GlobalConstants.TAG_TECHNICAL)
     public final void givenAllArticles_whenAnArticleLoads_thenArticleHasNoEmptyCodeBlock(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenArticleHasNoEmptyCodeBlock);
         if (shouldSkipUrl(page, GlobalConstants.givenAllArticles_whenAnArticleLoads_thenArticleHasNoEmptyCodeBlock)) {
             return;
         }
-        if (page.findEmptyCodeBlocks().size() > 0) {
+        if (page.getCountOfEmptyCodeBlocks() > 0) {
             recordMetrics(1, TestMetricTypes.FAILED);
             recordFailure(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenArticleHasNoEmptyCodeBlock);
             badURLs.put(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenArticleHasNoEmptyCodeBlock, page.getUrlWithNewLineFeed());
@@ -137,12 +148,14 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
     @ConcurrentTest
     @PageTypes(SitePage.Type.ARTICLE)
     @LogOnce(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItHasSingleShortcodeAtTheTop)
+    @CheckGroups(GlobalConstants.TAG_TECHNICAL)
+    @RequiresJavaScript
     public final void givenAllArticles_whenAnArticleLoads_thenItHasSingleShortcodeAtTheTop(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItHasSingleShortcodeAtTheTop);
         if (shouldSkipUrl(page, GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItHasSingleShortcodeAtTheTop) || Utils.excludePage(page.getUrl(), GlobalConstants.ARTILCE_JAVA_WEEKLY, false)) {
             return;
         }
-        if (page.findShortCodesAtTheTopOfThePage().size() != 1) {
+        if (page.getCountOfShortCodesAtTheTopOfThePage() != 1) {
             recordMetrics(1, TestMetricTypes.FAILED);
             recordFailure(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItHasSingleShortcodeAtTheTop);
             badURLs.put(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItHasSingleShortcodeAtTheTop, page.getUrlWithNewLineFeed());
@@ -152,13 +165,15 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
     @ConcurrentTest
     @PageTypes(SitePage.Type.ARTICLE)
     @LogOnce(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItHasSingleShortcodeAtTheEnd)
+    @CheckGroups(GlobalConstants.TAG_TECHNICAL)
+    @RequiresJavaScript
     public final void givenAllArticles_whenAnArticleLoads_thenItHasSingleShortcodeAtTheEnd(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItHasSingleShortcodeAtTheEnd);
 
         if (shouldSkipUrl(page, GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItHasSingleShortcodeAtTheEnd) || Utils.excludePage(page.getUrl(), GlobalConstants.ARTILCE_JAVA_WEEKLY, false)) {
             return;
         }
-        if (page.findShortCodesAtTheEndOfThePage().size() != 1) {
+        if (page.getCountOfShortCodesAtTheEndOfThePage() != 1) {
             recordMetrics(1, TestMetricTypes.FAILED);
             recordFailure(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItHasSingleShortcodeAtTheEnd);
             badURLs.put(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItHasSingleShortcodeAtTheEnd, page.getUrlWithNewLineFeed());
@@ -168,10 +183,11 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
     @ConcurrentTest
     @PageTypes(SitePage.Type.ARTICLE)
     @LogOnce(GlobalConstants.givenAllArticles_whenAnalyzingImages_thenImagesDoNotHaveEmptyAltAttribute)
+    @CheckGroups(GlobalConstants.TAG_TECHNICAL)
     public final void givenAllArticles_whenAnalyzingImages_thenImagesDoNotHaveEmptyAltAttribute(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticles_whenAnalyzingImages_thenImagesDoNotHaveEmptyAltAttribute);
 
-        final List<WebElement> imgTags = page.findImagesWithEmptyAltAttribute();
+        final List<String> imgTags = page.findImagesWithEmptyAltAttribute();
         if (shouldSkipUrl(page, GlobalConstants.givenAllArticles_whenAnalyzingImages_thenImagesDoNotHaveEmptyAltAttribute)) {
             return;
         }
@@ -179,7 +195,7 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
             recordMetrics(imgTags.size(), TestMetricTypes.FAILED);
             recordFailure(GlobalConstants.givenAllArticles_whenAnalyzingImages_thenImagesDoNotHaveEmptyAltAttribute, imgTags.size());
             badURLs.put(GlobalConstants.givenAllArticles_whenAnalyzingImages_thenImagesDoNotHaveEmptyAltAttribute, page.getUrlWithNewLineFeed() + " ( " + imgTags.stream()
-                .map(webElement -> webElement.getAttribute("src") + " , ")
+                .map(src -> src + " , ")
                 .collect(Collectors.joining()) + ")\n");
         }
     }
@@ -187,6 +203,7 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
     @ConcurrentTest
     @PageTypes(SitePage.Type.ARTICLE)
     @LogOnce(GlobalConstants.givenAllArticles_whenAnalyzingExcerpt_thenItShouldNotBeEmptyAndShouldMatchDescription)
+    @CheckGroups(GlobalConstants.TAG_TECHNICAL)
     public void givenAllArticles_whenAnalyzingExcerpt_thenItShouldNotBeEmptyAndShouldMatchDescription(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticles_whenAnalyzingExcerpt_thenItShouldNotBeEmptyAndShouldMatchDescription);
 
@@ -210,6 +227,7 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
     @ConcurrentTest
     @PageTypes(SitePage.Type.ARTICLE)
     @LogOnce(GlobalConstants.givenAllArticles_whenAnalyzingCodeBlocks_thenCodeBlocksAreRenderedProperly)
+    @CheckGroups(GlobalConstants.TAG_TECHNICAL)
     public final void givenAllArticles_whenAnalyzingCodeBlocks_thenCodeBlocksAreRenderedProperly(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticles_whenAnalyzingCodeBlocks_thenCodeBlocksAreRenderedProperly);
 
@@ -226,6 +244,8 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
     @ConcurrentTest
     @PageTypes(SitePage.Type.ARTICLE)
     @LogOnce(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItIsHasASingleOptinInTheSidebar)
+    @CheckGroups(GlobalConstants.TAG_TECHNICAL)
+    @RequiresJavaScript
     public final void givenAllArticles_whenAnArticleLoads_thenItIsHasASingleOptinInTheSidebar(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItIsHasASingleOptinInTheSidebar);
 
@@ -247,6 +267,8 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
     @ConcurrentTest
     @PageTypes(SitePage.Type.ARTICLE)
     @LogOnce(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItIsHasASingleOptinInTheAfterPostContent)
+    @CheckGroups(GlobalConstants.TAG_TECHNICAL)
+    @RequiresJavaScript
     public final void givenAllArticles_whenAnArticleLoads_thenItIsHasASingleOptinInTheAfterPostContent(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItIsHasASingleOptinInTheAfterPostContent);
 
@@ -304,6 +326,7 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
             return;
         }
         Multimap<Integer, String> notFoundUrls = TestUtils.checkLocalRepoFiles(GlobalConstants.tutorialsRepos, gitHubModulesLinkedOntheArticle);
+        notFoundUrls.putAll(TestUtils.checkRemoteLinks(TestUtils.findUrlsNotInLocalRepositories(GlobalConstants.tutorialsRepos, gitHubModulesLinkedOntheArticle)));
         if (notFoundUrls.size() > 0) {
             recordMetrics(notFoundUrls.size(), TestMetricTypes.FAILED);
             recordFailure(GlobalConstants.givenAllArticlesLinkingToGitHubModule_whenAnArticleLoads_thenLinkedGitHubModulesReturns200OK, notFoundUrls.size());
@@ -336,6 +359,7 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
     @ConcurrentTest
     @PageTypes(SitePage.Type.ARTICLE)
     @LogOnce(GlobalConstants.givenAllArticles_whenWeCheckTheAuthor_thenTheyAreNotOnTheInternalTeam)
+    @CheckGroups(GlobalConstants.TAG_EDITORIAL)
     public final void givenAllArticles_whenWeCheckTheAuthor_thenTheyAreNotOnTheInternalTeam(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticles_whenWeCheckTheAuthor_thenTheyAreNotOnTheInternalTeam);
 
@@ -354,6 +378,7 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
     @ConcurrentTest
     @PageTypes(SitePage.Type.ARTICLE)
     @LogOnce(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenTheArticleDoesNotCotainWrongQuotations)
+    @CheckGroups(GlobalConstants.TAG_EDITORIAL)
     public final void givenAllArticles_whenAnArticleLoads_thenTheArticleDoesNotCotainWrongQuotations(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenTheArticleDoesNotCotainWrongQuotations);
 
@@ -374,6 +399,7 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
         GlobalConstants.givenAllArticles_whenAnArticleLoads_thenTheArticleHasProperTitleCapitalization,
         GlobalConstants.givenAllArticles_whenAnArticleLoads_thenTheArticleHasProperDotsInTitle
     })
+    @CheckGroups(GlobalConstants.TAG_EDITORIAL)
     public final void givenAllArticles_whenAnArticleLoads_thenTheArticleHasProperTitleCapitalization(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenTheArticleHasProperTitleCapitalization);
         recordExecution(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenTheArticleHasProperDotsInTitle);
@@ -409,6 +435,7 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
     @ConcurrentTest
     @PageTypes(SitePage.Type.ARTICLE)
     @LogOnce(GlobalConstants.givenAllArticles_whenAnalyzingCategories_thenTheArticleDoesNotContainUnnecessaryCategory)
+    @CheckGroups(GlobalConstants.TAG_EDITORIAL)
     public final void givenAllArticles_whenAnalyzingCategories_thenTheArticleDoesNotContainUnnecessaryCategory(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticles_whenAnalyzingCategories_thenTheArticleDoesNotContainUnnecessaryCategory);
 
@@ -428,6 +455,7 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
     @ConcurrentTest
     @PageTypes(SitePage.Type.ARTICLE)
     @LogOnce(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItDoesNotLinkToOldJavaDocs)
+    @CheckGroups(GlobalConstants.TAG_EDITORIAL)
     public final void givenAllArticles_whenAnArticleLoads_thenItDoesNotLinkToOldJavaDocs(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItDoesNotLinkToOldJavaDocs);
 
@@ -435,12 +463,12 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
             return;
         }
 
-        List<WebElement> webElementsLinkingToOldJavaDocs = page.findElementsLinkingToOldJavaDocs(Double.valueOf(minJavDocsAcceptedVersion), level2ExceptionsForJavaDocTest);
+        List<LinkVO> linksToOldJavaDocs = page.findElementsLinkingToOldJavaDocs(Double.valueOf(minJavDocsAcceptedVersion), level2ExceptionsForJavaDocTest);
 
-        if (webElementsLinkingToOldJavaDocs.size() > 0) {
+        if (linksToOldJavaDocs.size() > 0) {
             recordMetrics(1, TestMetricTypes.FAILED);
             recordFailure(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItDoesNotLinkToOldJavaDocs);
-            badURLs.put(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItDoesNotLinkToOldJavaDocs,Utils.formatResultsForOldJavaDocs(badURLs,webElementsLinkingToOldJavaDocs, page.getUrl() ));
+            badURLs.put(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItDoesNotLinkToOldJavaDocs,Utils.formatResultsForOldJavaDocs(badURLs, linksToOldJavaDocs, page.getUrl() ));
 
         }
     }
@@ -448,6 +476,7 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
     @ConcurrentTest
     @PageTypes({ SitePage.Type.PAGE, SitePage.Type.ARTICLE })
     @LogOnce(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenTheMetaDescriptionExists)
+    @CheckGroups(GlobalConstants.TAG_EDITORIAL)
     public final void givenAllArticlesAndPages_whenAPageLoads_thenTheMetaDescriptionExists(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenTheMetaDescriptionExists);
 
@@ -473,6 +502,7 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
     @ConcurrentTest
     @PageTypes({ SitePage.Type.PAGE, SitePage.Type.ARTICLE })
     @LogOnce(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItDoesNotContainNoindexTag)
+    @CheckGroups(GlobalConstants.TAG_TECHNICAL)
     public final void givenAllArticlesAndPages_whenAPageLoads_thenItDoesNotContainNoindexTag(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItDoesNotContainNoindexTag);
 
@@ -487,53 +517,28 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
         }
     }
 
+    /**
+     * Runs all the {@link CheckGroups} editorial checks, loading each url once.
+     */
     @ConcurrentTest
     @Tag(GlobalConstants.TAG_EDITORIAL)
     @PageTypes({ SitePage.Type.PAGE, SitePage.Type.ARTICLE })
     @LogOnce(GlobalConstants.givenAllEditorialTests_whenHittingAllArticles_thenOK)
+    @FusedChecks(GlobalConstants.TAG_EDITORIAL)
     public final void givenAllEditorialTests_whenHittingAllArticles_thenOK(SitePage page) {
-        try {
-            givenAllArticlesAndPages_whenAPageLoads_thenTheMetaDescriptionExists(page);
-            // below tests are only for articles
-            if (AllUrlsConcurrentExtension.ensureTag(page, SitePage.Type.ARTICLE)) {
-                givenAllArticles_whenWeCheckTheAuthor_thenTheyAreNotOnTheInternalTeam(page);
-                givenAllArticles_whenAnArticleLoads_thenTheArticleDoesNotCotainWrongQuotations(page);
-                givenAllArticles_whenAnArticleLoads_thenTheArticleHasProperTitleCapitalization(page);
-                givenAllArticles_whenAnalyzingCategories_thenTheArticleDoesNotContainUnnecessaryCategory(page);
-                givenAllArticles_whenAnArticleLoads_thenItDoesNotLinkToOldJavaDocs(page);
-            }
-        } catch (Exception e) {
-            logger.error("Error occurred while processing: {}, error message: {}",
-                page.getUrl(), StringUtils.substring(e.getMessage(), 0, 100));
-        }
+        // checks are run by AllUrlsConcurrentExtension
     }
 
+    /**
+     * Runs all the {@link CheckGroups} technical checks, loading each url once.
+     */
     @ConcurrentTest
     @Tag(GlobalConstants.TAG_NON_TECHNICAL)
     @PageTypes({ SitePage.Type.PAGE, SitePage.Type.ARTICLE })
     @LogOnce(GlobalConstants.givenAllTestsRelatedTechnicalArea_whenHittingAllUrls_thenOK)
+    @FusedChecks(GlobalConstants.TAG_TECHNICAL)
     public final void givenAllTestsRelatedTechnicalArea_whenHittingAllUrls_thenOK(SitePage page) {
-        try {
-            givenAllArticlesAndPages_whenAnalysingImages_thenImagesDoNotPoinToTheDraftsSite(page);
-            givenAllArticlesAndPages_whenAPageLoads_thenMetaOGImageAndTwitterImagePointToTheAbsolutePath(page);
-            givenAllArticlesAndPages_whenAPageLoads_thenItDoesNotContainOverlappingText(page);
-            givenAllArticlesAndPages_whenAPageLoads_thenItHasAFeaturedImage(page);
-            givenAllArticlesAndPages_whenAPageLoads_thenItDoesNotContainNoindexTag(page);
-            // below tests are only for articles
-            if (AllUrlsConcurrentExtension.ensureTag(page, SitePage.Type.ARTICLE)) {
-                givenAllArticles_whenAnArticleLoads_thenArticleHasNoEmptyCodeBlock(page);
-                givenAllArticles_whenAnArticleLoads_thenItHasSingleShortcodeAtTheTop(page);
-                givenAllArticles_whenAnArticleLoads_thenItIsHasASingleOptinInTheSidebar(page);
-                givenAllArticles_whenAnArticleLoads_thenItIsHasASingleOptinInTheAfterPostContent(page);
-                givenAllArticles_whenAnArticleLoads_thenItHasSingleShortcodeAtTheEnd(page);
-                givenAllArticles_whenAnalyzingCodeBlocks_thenCodeBlocksAreRenderedProperly(page);
-                givenAllArticles_whenAnalyzingImages_thenImagesDoNotHaveEmptyAltAttribute(page);
-                givenAllArticles_whenAnalyzingExcerpt_thenItShouldNotBeEmptyAndShouldMatchDescription(page);                
-            }
-        } catch (Exception e) {
-            logger.error("Error occurred while processing: {}, error message: {}",
-                page.getUrl(), StringUtils.substring(e.getMessage(), 0, 100));
-        }
+        // checks are run by AllUrlsConcurrentExtension
     }
 
 }
@@ -13,6 +13,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import com.baeldung.common.BaseTest;
 import com.baeldung.common.GlobalConstants.TestMetricTypes;
+import com.baeldung.common.HostThrottle;
 import com.baeldung.common.Utils;
 import com.baeldung.common.YAMLProperties;
 import com.baeldung.common.config.CommonConfig;
@@ -22,7 +23,6 @@ import com.baeldung.crawler4j.controller.TutorialsRepoCrawlerController;
 import com.baeldung.selenium.config.SeleniumContextConfiguration;
 import com.baeldung.site.SitePage;
 import com.google.common.collect.Multimap;
-import com.google.common.util.concurrent.RateLimiter;
 
 @ContextConfiguration(classes = { CommonConfig.class, SeleniumContextConfiguration.class, Crawler4jMainCofig.class }, initializers = MyApplicationContextInitializer.class)
 @ExtendWith(SpringExtension.class)
@@ -35,7 +35,7 @@ public class BaseUISeleniumTest extends BaseTest {
     protected TutorialsRepoCrawlerController tutorialsRepoCrawlerController;
 
     @Autowired
-    protected RateLimiter rateLimiter;
+    protected HostThrottle hostThrottle;
 
     @BeforeEach
     public void loadNewWindow() throws IOException {
@@ -4,9 +4,13 @@ import static com.baeldung.common.GlobalConstants.TestMetricTypes.FAILED;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,14 +23,13 @@ import com.baeldung.common.GlobalConstants;
 import com.baeldung.common.UrlIterator;
 import com.baeldung.common.Utils;
 import com.baeldung.common.config.MyApplicationContextInitializer;
-import com.baeldung.utility.TestUtils;
+import com.baeldung.utility.HttpStatusChecker;
 import com.github.rholder.retry.Retryer;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
 
 import dev.yavuztas.junit.ConcurrentTest;
-import io.restassured.config.RestAssuredConfig;
 
 @ContextConfiguration(initializers = MyApplicationContextInitializer.class)
 @ExtendWith(SpringExtension.class)
@@ -44,12 +47,18 @@ public class CommonConcurrentUITest extends ConcurrentBaseTest {
     @Value("#{'${givenAListOfUrls_whenAUrlLoads_thenItReturns200OK.site-status-check-url-file-names:course-pages.txt}'.split(',')}")
     private List<String> pageStausCheckUrlFileNames;
 
+    @Value("${givenAListOfUrls_whenAUrlLoads_thenItReturns200OK.max-requests-in-flight:200}")
+    private int maxRequestsInFlight;
+
+    @Value("${givenAListOfUrls_whenAUrlLoads_thenItReturns200OK.max-requests-per-host:16}")
+    private int maxRequestsPerHost;
+
     @Value("${base.url}")
     private String baseUrl;
 
     private UrlIterator urlIterator;
     private Multimap<String, Integer> badURLs;
-    private RestAssuredConfig restAssuredConfig;
+    private HttpStatusChecker httpStatusChecker;
     private Retryer<Boolean> retryer;
 
     @BeforeEach
@@ -59,16 +68,13 @@ public class CommonConcurrentUITest extends ConcurrentBaseTest {
         final Stream<String> urlStream = Utils.fetchFilesAsList(pageStausCheckUrlFileNames);
         urlIterator.append("", urlStream.iterator());
         badURLs = Multimaps.synchronizedListMultimap(ArrayListMultimap.create());
-        restAssuredConfig = TestUtils.getRestAssuredCustomConfig(timeOutFor200OKTest);
+        httpStatusChecker = new HttpStatusChecker(timeOutFor200OKTest, maxRequestsInFlight, maxRequestsPerHost);
         retryer = Utils.getGuavaRetryer(retriesFor200OKTest);
     }
 
-    private synchronized String getNextUrl() {
-        if (!urlIterator.hasNext()) {
-            return null;
-        }
-        final UrlIterator.UrlElement element = urlIterator.next();
-        return element.url();
+    @AfterEach
+    public void tearDown() {
+        httpStatusChecker.close();
     }
 
     @ConcurrentTest
@@ -78,16 +84,20 @@ public class CommonConcurrentUITest extends ConcurrentBaseTest {
         recordExecution(GlobalConstants.givenAListOfUrls_whenAUrlLoads_thenItReturns200OK);
 
         logger.info("Configured retires: {}", retriesFor200OKTest);
-        logger.info("configure timeout for REST Assured: {}", timeOutFor200OKTest);
+        logger.info("configure timeout for HTTP client: {}", timeOutFor200OKTest);
+        logger.info("Max requests in flight: {}, per host: {}", maxRequestsInFlight, maxRequestsPerHost);
         logger.info("Input files:{}", pageStausCheckUrlFileNames);
         logger.info("Mode: {}", modeFor200OKTest);
 
-        String url;
-        while ((url = getNextUrl()) != null) {
-            String fullURL = baseUrl + url;
+        // every concurrent invocation feeds the shared checker until the urls run out, then waits for its own checks
+        final List<CompletableFuture<Void>> checks = new ArrayList<>();
+        Optional<UrlIterator.UrlElement> element;
+        while ((element = urlIterator.getNext()).isPresent()) {
+            String fullURL = baseUrl + element.get().url();
             logger.info("Verifying 200OK on: {}", fullURL);
-            TestUtils.hitURLUsingGuavaRetryer(restAssuredConfig, fullURL, badURLs, retryer, modeFor200OKTest);
+            checks.add(httpStatusChecker.check(fullURL, badURLs, retryer, modeFor200OKTest));
         }
+        CompletableFuture.allOf(checks.toArray(CompletableFuture[]::new)).join();
 
         if (badURLs.size() > 0) {
             recordMetrics(badURLs.keySet().size(), FAILED);
@@ -10,9 +10,6 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
@@ -49,8 +46,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 
 import com.baeldung.common.ConsoleColors;
+import com.baeldung.common.GitRepoSync;
 import com.baeldung.common.GlobalConstants;
 import com.baeldung.common.GlobalConstants.TestMetricTypes;
+import com.baeldung.common.LinkVerifier;
 import com.baeldung.common.TestMetricsExtension;
 import com.baeldung.common.Utils;
 import com.baeldung.common.YAMLProperties;
@@ -60,10 +59,7 @@ import com.baeldung.common.vo.FooterLinksDataVO;
 import com.baeldung.common.vo.FooterLinksDataVO.FooterLinkCategory;
 import com.baeldung.common.vo.GitHubRepoVO;
 import com.baeldung.common.vo.LinkVO;
-import com.baeldung.filevisitor.EmptyReadmeFileVisitor;
-import com.baeldung.filevisitor.MissingReadmeFileVisitor;
-import com.baeldung.filevisitor.ModuleAlignmentValidatorFileVisitor;
-import com.baeldung.filevisitor.TutorialsParentModuleFinderFileVisitor;
+import com.baeldung.filevisitor.RepositoryIndex;
 import com.baeldung.utility.TestUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -138,9 +134,8 @@ public class CommonUITest extends BaseUISeleniumTest {
 
         assertTrue(images.size() > 0, "Couldn't find any images in the after-post-banner-widget on /hibernate-spatial" );
 
-        images.forEach(image -> {
-            assertEquals(200, RestAssured.given().head(image.getAttribute("src")).getStatusCode());
-        });
+        List<String> srcs = images.stream().map(image -> image.getAttribute("src")).toList();
+        assertEquals(Map.of(), LinkVerifier.shared().findBrokenLinks(srcs));
 
     }
 
@@ -263,6 +258,7 @@ public class CommonUITest extends BaseUISeleniumTest {
         Multimap<String, LinkVO> badURLs = ArrayListMultimap.create();
         Map<GitHubRepoVO, List<String>> reposReadmes = Utils.getRepoWiseListOfReadmesFromAllTutorialsRepos(false);
         reposReadmes.forEach((repo, readmePaths) -> {
+            RepositoryIndex repositoryIndex = RepositoryIndex.of(repo.repoLocalPath());
 
             readmePaths.forEach(readmePath -> {
                 try {
@@ -271,7 +267,7 @@ public class CommonUITest extends BaseUISeleniumTest {
                     }
 
                     String reamdmeParentPath = Utils.getTheParentOfReadme(readmePath);
-                    List<LinkVO> urlsInReadmeFile = Utils.extractBaeldungLinksFromReadmeFile(Path.of(readmePath)); // get all the articles linked in this README
+                    List<LinkVO> urlsInReadmeFile = repositoryIndex.getBaeldungLinks(readmePath); // get all the articles linked in this README
                     urlsInReadmeFile.forEach(link -> {
                         String staging8Url = Utils.changeLiveUrlWithStaging8(link.getLink());
                         String readmeParentURL = Utils.replaceTutorialLocalPathWithHttpUrl(repo.repoLocalPath(), repo.repoMasterHttpPath())
@@ -375,13 +371,9 @@ public class CommonUITest extends BaseUISeleniumTest {
 
     @Test
     @Tag(GlobalConstants.TAG_DAILY)
-    public final void givenTheBaeldungMediaKitURL_whenPageLoads_thenItReturns200OK() throws IOException {
-
-        URL url = new URL(GlobalConstants.BAELDUNG_MEDIA_KIT_URL);
-        HttpURLConnection httpURLConnection = (HttpURLConnection) url.openConnection();
-        httpURLConnection.setRequestMethod("GET");
+    public final void givenTheBaeldungMediaKitURL_whenPageLoads_thenItReturns200OK() {
 
-        assertEquals(200, httpURLConnection.getResponseCode());
+        assertEquals(200, LinkVerifier.shared().verify(GlobalConstants.BAELDUNG_MEDIA_KIT_URL).join().statusCode());
 
     }
 
@@ -528,9 +520,7 @@ public class CommonUITest extends BaseUISeleniumTest {
         Path repoDirectoryPath = Paths.get(repoLocalDirectory);
         Utils.fetchGitRepo(this.redownloadTutorialsRepo, repoDirectoryPath, GlobalConstants.tutorialsRepoGitUrl);
 
-        TutorialsParentModuleFinderFileVisitor tutorialsParentModuleFinderFileVisitor = new TutorialsParentModuleFinderFileVisitor(parentArtifactId);
-        Files.walkFileTree(repoDirectoryPath, tutorialsParentModuleFinderFileVisitor);
-        Utils.logChildModulesResults(tutorialsParentModuleFinderFileVisitor);
+        Utils.logChildModulesResults(parentArtifactId, RepositoryIndex.of(repoDirectoryPath).findChildModules(parentArtifactId));
 
         logger.info(ConsoleColors.magentaColordMessage("finished"));
     }
@@ -545,14 +535,15 @@ public class CommonUITest extends BaseUISeleniumTest {
         Path repoDirectoryPath = Paths.get(repoLocalDirectory);
         Utils.fetchGitRepo(this.redownloadTutorialsRepo, repoDirectoryPath, GlobalConstants.tutorialsRepoGitUrl);
 
-        ModuleAlignmentValidatorFileVisitor moduleAlignmentValidatorFileVisitor = new ModuleAlignmentValidatorFileVisitor();
-        Files.walkFileTree(repoDirectoryPath, moduleAlignmentValidatorFileVisitor);
+        List<String> testExceptions = YAMLProperties.exceptionsForTests.get(GlobalConstants.givenTutorialsRepo_whenAllModulesAnalysed_thenFolderNameAndArtifiactIdAndModuleNameMatch);
+        RepositoryIndex repositoryIndex = RepositoryIndex.of(repoDirectoryPath);
+        List<String> invalidModules = repositoryIndex.findUnalignedModules(testExceptions);
 
-        Utils.logUnAlignedModulesResults(moduleAlignmentValidatorFileVisitor);
-        Utils.logUnparsableModulesResults(moduleAlignmentValidatorFileVisitor);
-        if (moduleAlignmentValidatorFileVisitor.getInvalidModules().size() > 0) {
-            recordMetrics(moduleAlignmentValidatorFileVisitor.getInvalidModules().size(), FAILED);
-            recordFailure(GlobalConstants.givenTutorialsRepo_whenAllModulesAnalysed_thenFolderNameAndArtifiactIdAndModuleNameMatch, moduleAlignmentValidatorFileVisitor.getInvalidModules().size());
+        Utils.logUnAlignedModulesResults(invalidModules);
+        Utils.logUnparsableModulesResults(repositoryIndex.findUnparsableModules(testExceptions));
+        if (invalidModules.size() > 0) {
+            recordMetrics(invalidModules.size(), FAILED);
+            recordFailure(GlobalConstants.givenTutorialsRepo_whenAllModulesAnalysed_thenFolderNameAndArtifiactIdAndModuleNameMatch, invalidModules.size());
             fail("Unaligned modules found. Please refer to the console log for details");
         }
 
@@ -567,22 +558,16 @@ public class CommonUITest extends BaseUISeleniumTest {
         recordExecution(GlobalConstants.givenAGitHubModule_whenAnalysingTheModule_thenTheModuleHasANonEmptyReadme);
         List<String> modulesWithNoneOrEmptyReadme = new ArrayList<>();
 
+        GitRepoSync.shared().syncAll(GlobalConstants.tutorialsRepos);
         for (GitHubRepoVO gitHubRepoVO : GlobalConstants.tutorialsRepos) {
-            Path repoDirectoryPath =  Paths.get(gitHubRepoVO.repoLocalPath()); // Paths.get("E:\\repos_temp_dir");
-
-            Utils.fetchGitRepo(GlobalConstants.YES, repoDirectoryPath, gitHubRepoVO.repoUrl());
-
-            EmptyReadmeFileVisitor emptyReadmeFileVisitor = new EmptyReadmeFileVisitor(gitHubRepoVO.repoLocalPath());
-            Files.walkFileTree(repoDirectoryPath, emptyReadmeFileVisitor);
+            RepositoryIndex repositoryIndex = RepositoryIndex.of(gitHubRepoVO.repoLocalPath());
 
-            modulesWithNoneOrEmptyReadme.addAll(emptyReadmeFileVisitor.getEmptyReadmeList()
+            modulesWithNoneOrEmptyReadme.addAll(repositoryIndex.findEmptyReadmes()
                 .stream()
                 .map(Utils.replaceTutorialLocalPathWithHttpUrl(gitHubRepoVO.repoLocalPath(), gitHubRepoVO.repoMasterHttpPath()))
                 .collect(toList()));
 
-            MissingReadmeFileVisitor missingReadmeFileVisitor = new MissingReadmeFileVisitor(gitHubRepoVO.repoLocalPath());
-            Files.walkFileTree(repoDirectoryPath, missingReadmeFileVisitor);
-            modulesWithNoneOrEmptyReadme.addAll(missingReadmeFileVisitor.getMissingReadmeList()
+            modulesWithNoneOrEmptyReadme.addAll(repositoryIndex.findModulesWithMissingReadme()
                 .stream()
                 .map(Utils.replaceTutorialLocalPathWithHttpUrl(gitHubRepoVO.repoLocalPath(), gitHubRepoVO.repoMasterHttpPath()))
                 .collect(toList()));
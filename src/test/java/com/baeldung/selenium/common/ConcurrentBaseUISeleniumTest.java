@@ -25,11 +25,13 @@ import com.baeldung.common.config.CommonConfig;
 import com.baeldung.common.config.MyApplicationContextInitializer;
 import com.baeldung.crawler4j.config.Crawler4jMainCofig;
 import com.baeldung.selenium.config.SeleniumContextConfiguration;
+import com.baeldung.selenium.config.WebDriverPool;
 import com.baeldung.selenium.config.headlessBrowserConfig;
 import com.baeldung.site.SitePage;
 
 /**
  * A base class to supply prototype-scoped {@link SitePage} bean for thread-safe concurrent executions.
+ * Browser sessions of the supplied pages are borrowed from the shared {@link WebDriverPool}.
  */
 @ContextConfiguration(classes = {
     CommonConfig.class,
@@ -46,6 +48,9 @@ public class ConcurrentBaseUISeleniumTest extends ConcurrentBaseTest implements
     @Configuration
     static class SitePageConfiguration {
 
+        @Autowired
+        WebDriverPool webDriverPool;
+
         @Bean("onDemandSitePage")
         @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
         SitePage sitePage() {
@@ -56,7 +61,9 @@ public class ConcurrentBaseUISeleniumTest extends ConcurrentBaseTest implements
         @Profile("headless-browser")
         @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
         public headlessBrowserConfig seleniumHeadlessBrowserConfig() {
-            return new headlessBrowserConfig();
+            headlessBrowserConfig browserConfig = new headlessBrowserConfig();
+            browserConfig.setWebDriverPool(webDriverPool);
+            return browserConfig;
         }
 
     }
@@ -3,6 +3,7 @@ package com.baeldung.selenium.page;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -11,12 +12,11 @@ import org.openqa.selenium.WebElement;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.baeldung.common.GlobalConstants;
+import com.baeldung.common.LinkVerifier;
 import com.baeldung.common.TestMetricsExtension;
 import com.baeldung.selenium.common.BaseUISeleniumTest;
 import com.baeldung.site.SpringMicroservicesGuidePage;
 
-import io.restassured.RestAssured;
-
 @ExtendWith(TestMetricsExtension.class)
 public final class SpringMicroservicesGuideUITest extends BaseUISeleniumTest {
 
@@ -32,9 +32,8 @@ public final class SpringMicroservicesGuideUITest extends BaseUISeleniumTest {
         springMicroservicesGuidePage.clickAccessTheGuideButton();
 
         List<WebElement> elements = springMicroservicesGuidePage.findImages();
-        elements.forEach(element -> {
-            assertEquals(200, RestAssured.given().head(element.getAttribute("src")).getStatusCode());
-        });
+        List<String> srcs = elements.stream().map(element -> element.getAttribute("src")).toList();
+        assertEquals(Map.of(), LinkVerifier.shared().findBrokenLinks(srcs));
 
     }
 
@@ -8,7 +8,6 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -20,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.baeldung.common.GitRepoSync;
 import com.baeldung.common.GlobalConstants;
 import com.baeldung.common.Utils;
 import com.baeldung.common.vo.GitHubRepoVO;
@@ -36,12 +36,10 @@ public class CommonUnitTest {
     @BeforeAll
     static void loadGitHubRepositories() {
         logger.info("Loading Github repositories into local");
-        for (GitHubRepoVO gitHubRepo : GlobalConstants.tutorialsRepos) {
-            try {
-                Utils.fetchGitRepo(GlobalConstants.NO, Paths.get(gitHubRepo.repoLocalPath()), gitHubRepo.repoUrl());
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
+        try {
+            GitRepoSync.shared().syncAll(GlobalConstants.tutorialsRepos);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
         }
     }
 
@@ -1,14 +1,37 @@
 package com.baeldung.selenium.unittest;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 
+import com.baeldung.common.HttpPageFetcher;
+import com.baeldung.common.vo.FooterLinksDataVO;
 import com.baeldung.selenium.config.browserConfig;
+import com.baeldung.site.PageQuery;
+import com.baeldung.site.PageSnapshot;
 import com.baeldung.site.SitePage;
 
 public class SitePageUnitTest {
@@ -35,4 +58,213 @@ public class SitePageUnitTest {
         assertTrue(page.containsGithubModuleLink("https://github.com/baeldung/spring-security-registration/tree/master"));
     }
 
+    @Test
+    void givenCapturedSnapshot_whenRunningStaticDomChecks_thenWebDriverIsNotQueried() {
+        final WebDriver webDriver = mock(WebDriver.class);
+        final SitePage page = new SitePage(mock(browserConfig.class));
+        when(page.getWebDriver()).thenReturn(webDriver);
+        when(webDriver.getPageSource()).thenReturn("""
+            <html><head>
+            <meta name="description" content="An article">
+            <meta property="og:description" content="An article">
+            <meta name="twitter:description" content="An article">
+            <meta property="og:image" content="https://www.baeldung.com/og.png">
+            <meta name="twitter:image" content="https://www.baeldung.com/twitter.png">
+            <meta name="excerpt" content="An article">
+            </head><body>
+            <section>
+              <img src="https://drafts.baeldung.com/a.png" alt="">
+              <pre class="brush: java">broken</pre>
+              <code> </code>
+            </section>
+            </body></html>
+            """);
+
+        page.setUrl("https://www.baeldung.com/an-article");
+        page.setType(SitePage.Type.ARTICLE);
+        page.captureSnapshot();
+
+        assertTrue(page.metaDescriptionTagsAvailable());
+        assertTrue(page.findMetaTagWithOGImagePointingToTheAbsolutePath());
+        assertTrue(page.findMetaTagWithTwitterImage());
+        assertFalse(page.hasNoindexMetaTag());
+        assertTrue(page.hasBrokenCodeBlock());
+        assertEquals(1, page.getCountOfEmptyCodeBlocks());
+        assertEquals("An article", page.getMetaExcerptContent());
+        assertEquals(List.of("https://drafts.baeldung.com/a.png"), page.findImagesPointingToDraftSite());
+        assertEquals(List.of("https://drafts.baeldung.com/a.png"), page.findImagesWithEmptyAltAttribute());
+
+        verify(webDriver, never()).findElement(any(By.class));
+        verify(webDriver, never()).findElements(any(By.class));
+    }
+
+    @Test
+    void givenNoSnapshot_whenCheckingTheMetaDescriptions_thenTheyAreFoundWithASingleQuery() {
+        final WebDriver webDriver = mock(WebDriver.class);
+        final SitePage page = new SitePage(mock(browserConfig.class));
+        when(page.getWebDriver()).thenReturn(webDriver);
+        final List<WebElement> metaElements = List.of(metaElement("name", "description"), metaElement("property", "og:description"), metaElement("name", "twitter:description"));
+        when(webDriver.findElements(any(By.class))).thenReturn(metaElements);
+
+        assertTrue(page.metaDescriptionTagsAvailable());
+        verify(webDriver, times(1)).findElements(any(By.class));
+    }
+
+    private static WebElement metaElement(String tagAttribute, String tag) {
+        final WebElement element = mock(WebElement.class);
+        when(element.getAttribute(tagAttribute)).thenReturn(tag);
+        when(element.getAttribute("content")).thenReturn("An article");
+        return element;
+    }
+
+    @Test
+    void givenCapturedSnapshot_whenCheckingFooterLinks_thenTheyAreFoundWithoutTheWebDriver() {
+        final WebDriver webDriver = mock(WebDriver.class);
+        final SitePage page = new SitePage(mock(browserConfig.class));
+        when(page.getWebDriver()).thenReturn(webDriver);
+        when(webDriver.getPageSource()).thenReturn("""
+            <html><body>
+            <section><a href="/java-8-streams">Streams</a></section>
+            <section><a href="/contact"><span>Contact</span></a></section>
+            </body></html>
+            """);
+        final FooterLinksDataVO.Link link = new FooterLinksDataVO.Link();
+        link.setAnchorLink("/contact");
+        link.setAnchorTest("contact");
+
+        page.setUrl("https://www.baeldung.com/an-article");
+        page.captureSnapshot();
+
+        assertTrue(page.anchorAndAnchorLinkAvailable(null, link));
+        assertFalse(page.anchorAndAnchorLinkAvailable("footer", link));
+        verify(webDriver, never()).findElements(any(By.class));
+    }
+
+    @Test
+    void givenCapturedProbe_whenRunningBrowserChecks_thenASingleScriptIsExecuted() {
+        final WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        final JavascriptExecutor javascriptExecutor = (JavascriptExecutor) webDriver;
+        final SitePage page = new SitePage(mock(browserConfig.class));
+        when(page.getWebDriver()).thenReturn(webDriver);
+        when(javascriptExecutor.executeScript(anyString(), any(), any())).thenReturn("""
+            {
+              "queries": {
+                "//div[contains(@class, 'short_box short_start')]": [
+                  { "displayed": true, "attributes": {} },
+                  { "displayed": false, "attributes": {} }
+                ],
+                "//div[contains(@class, 'short_box short_end')]": [],
+                "//a[contains(@rel, 'category tag')]": [
+                  { "displayed": true, "text": "Java", "innerHtml": "Java", "attributes": { "href": "https://www.baeldung.com/category/java" } }
+                ],
+                "//meta[@name = 'excerpt']": [
+                  { "displayed": false, "attributes": { "name": "excerpt", "content": "An article" } }
+                ]
+              },
+              "wpTags": ["java", "streams"]
+            }
+            """);
+
+        page.setUrl("https://www.baeldung.com/an-article");
+        page.captureProbe();
+        page.setWpTags();
+
+        assertEquals(1, page.getCountOfShortCodesAtTheTopOfThePage());
+        assertEquals(0, page.getCountOfShortCodesAtTheEndOfThePage());
+        assertTrue(page.hasCategory(List.of("java")));
+        assertEquals("An article", page.getMetaExcerptContent());
+        assertEquals(Set.of("java", "streams"), page.getWpTags());
+        verify(javascriptExecutor, times(1)).executeScript(anyString(), any(), any());
+        verify(webDriver, never()).findElement(any(By.class));
+        verify(webDriver, never()).findElements(any(By.class));
+    }
+
+    @Test
+    void givenAPageLoadedOverHttp_whenRunningStaticDomChecks_thenTheBrowserIsNotUsed() throws IOException {
+        final browserConfig browserConfig = mock(browserConfig.class);
+        final HttpPageFetcher httpPageFetcher = mock(HttpPageFetcher.class);
+        final SitePage page = new SitePage(browserConfig);
+        when(httpPageFetcher.fetch("https://www.baeldung.com/an-article")).thenReturn(new HttpPageFetcher.FetchedPage("https://www.baeldung.com/an-article", 200, """
+            <html><head>
+            <meta name="excerpt" content="An article">
+            <meta property="article:published_time" content="2016-09-18T12:52:36+00:00">
+            <script>var ba_tags = ["java","streams"];</script>
+            </head><body>
+            <section><pre class="brush: java">broken</pre></section>
+            <a rel="category tag" href="https://www.baeldung.com/category/java">Java</a>
+            </body></html>
+            """));
+
+        page.setUrl("https://www.baeldung.com/an-article");
+        page.loadUrlOverHttp(httpPageFetcher);
+        page.setWpTags();
+
+        assertTrue(page.isHttpOnly());
+        assertFalse(page.isNewerThan(4));
+        assertTrue(page.hasBrokenCodeBlock());
+        assertTrue(page.hasCategory(List.of("java")));
+        assertEquals("An article", page.getMetaExcerptContent());
+        assertEquals(Set.of("java", "streams"), page.getWpTags());
+        verifyNoInteractions(browserConfig);
+    }
+
+    @Test
+    void givenEntityEncodedHtmlLoadedOverHttp_whenLookingForWrongQuotationsAndRawTags_thenTheyAreFoundAsInTheBrowser() throws IOException {
+        final HttpPageFetcher httpPageFetcher = mock(HttpPageFetcher.class);
+        final SitePage page = new SitePage(mock(browserConfig.class));
+        when(httpPageFetcher.fetch("https://www.baeldung.com/an-article")).thenReturn(new HttpPageFetcher.FetchedPage("https://www.baeldung.com/an-article", 200, """
+            <html><body><section>
+            <p>See <a href="https://www.baeldung.com/java-streams&#8221;&gt;">the article</a>.</p>
+            <p>&#91;raw&#93;String name;&#91;/raw&#93;</p>
+            </section></body></html>
+            """));
+
+        page.setUrl("https://www.baeldung.com/an-article");
+        page.loadUrlOverHttp(httpPageFetcher);
+
+        assertTrue(page.findInvalidCharactersInTheArticle());
+        assertTrue(page.containsRawTag());
+    }
+
+    @Test
+    void givenADetachedPage_whenRunningChecks_thenTheyAreAnsweredFromTheSnapshotWithoutTheBrowser() {
+        final WebDriver webDriver = mock(WebDriver.class);
+        final SitePage page = new SitePage(mock(browserConfig.class));
+        when(page.getWebDriver()).thenReturn(webDriver);
+        when(webDriver.getPageSource()).thenReturn("<html><body><section><pre class=\"brush: java\">broken</pre></section></body></html>");
+        page.setUrl("https://www.baeldung.com/an-article");
+        page.setType(SitePage.Type.ARTICLE);
+        page.captureSnapshot();
+
+        final SitePage detached = page.detach();
+        page.setUrl("https://www.baeldung.com/the-next-article");
+        page.clearSnapshot();
+
+        assertEquals("https://www.baeldung.com/an-article", detached.getUrl());
+        assertEquals(SitePage.Type.ARTICLE, detached.getType());
+        assertTrue(detached.hasBrokenCodeBlock());
+        assertThrows(IllegalStateException.class, detached::getWebDriver);
+        assertFalse(page.isDetachable());
+    }
+
+    @Test
+    void givenATemplate_whenBoundTwiceToTheSameParameters_thenTheSameCompiledQueryIsReturned() {
+        final PageQuery.Template template = PageQuery.template("//%s//img[contains(@src, '%s')]");
+
+        final PageQuery query = template.bind("section", "drafts.baeldung.com");
+
+        assertSame(query, template.bind("section", "drafts.baeldung.com"));
+        assertEquals("//section//img[contains(@src, 'drafts.baeldung.com')]", query.getXpath());
+        assertEquals(By.xpath(query.getXpath()), query.getBy());
+    }
+
+    @Test
+    void givenASnapshot_whenTheSameQueryIsSelectedTwice_thenItIsEvaluatedOnce() {
+        final PageSnapshot snapshot = PageSnapshot.of("https://www.baeldung.com/an-article", "<html><body><section><h2>One</h2><h3>Two</h3></section></body></html>");
+        final PageQuery titles = PageQuery.xpath("(//section//h2) | (//section//h3)");
+
+        assertEquals(List.of("One", "Two"), snapshot.select(titles).eachText());
+        assertSame(snapshot.select(titles), snapshot.select(PageQuery.xpath("(//section//h2) | (//section//h3)")));
+    }
+
 }
@@ -0,0 +1,89 @@
+package com.baeldung.selenium.unittest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import com.baeldung.selenium.config.WebDriverPool;
+
+public class WebDriverPoolUnitTest {
+
+    private static final WebDriverPool.SessionKey CHROME = WebDriverPool.SessionKey.of("chrome");
+
+    @Test
+    void givenAReleasedSession_whenBorrowingAgain_thenTheSameDriverIsReused() {
+        final WebDriverPool pool = new WebDriverPool(1, 10);
+        final WebDriver driver = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+
+        WebDriverPool.Session session = pool.borrow(CHROME, () -> driver);
+        pool.release(session);
+
+        assertEquals(1, pool.getIdleSessionCount());
+        assertSame(driver, pool.borrow(CHROME, () -> mock(WebDriver.class)).getDriver());
+        verify(driver, never()).quit();
+    }
+
+    @Test
+    void givenASessionThatServedMaxPages_whenReleased_thenItIsRecycled() {
+        final WebDriverPool pool = new WebDriverPool(1, 2);
+        final WebDriver driver = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+
+        WebDriverPool.Session session = pool.borrow(CHROME, () -> driver);
+        session.recordPageLoad();
+        session.recordPageLoad();
+        pool.release(session);
+
+        verify(driver).quit();
+        assertEquals(0, pool.getIdleSessionCount());
+        assertNotSame(driver, pool.borrow(CHROME, () -> mock(WebDriver.class)).getDriver());
+    }
+
+    @Test
+    void givenABorrowedSessionThatServedMaxPages_whenLoadingAnotherPage_thenTheDriverIsSwapped() {
+        final WebDriverPool pool = new WebDriverPool(1, 2);
+        final WebDriver driver = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+        final WebDriver freshDriver = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+        final Iterator<WebDriver> drivers = List.of(driver, freshDriver)
+            .iterator();
+
+        WebDriverPool.Session session = pool.borrow(CHROME, drivers::next);
+        session.recordPageLoad();
+        session.recordPageLoad();
+        assertSame(driver, session.getDriver());
+
+        session.recordPageLoad();
+
+        verify(driver).quit();
+        assertSame(freshDriver, session.getDriver());
+        assertEquals(1, session.getPagesLoaded());
+        pool.release(session);
+        verify(freshDriver, never()).quit();
+        assertEquals(1, pool.getIdleSessionCount());
+    }
+
+    @Test
+    void givenAnUnhealthyIdleSession_whenBorrowing_thenANewDriverIsCreated() {
+        final WebDriverPool pool = new WebDriverPool(1, 10);
+        final WebDriver driver = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+        final WebDriver freshDriver = mock(WebDriver.class);
+
+        pool.release(pool.borrow(CHROME, () -> driver));
+        when(driver.getWindowHandle()).thenThrow(new WebDriverException("session deleted"));
+
+        assertSame(freshDriver, pool.borrow(CHROME, () -> freshDriver).getDriver());
+        verify(driver).quit();
+    }
+
+}
@@ -5,12 +5,8 @@ import static com.baeldung.common.ConsoleColors.*;
 import com.baeldung.common.config.CommonConfig;
 import com.baeldung.common.config.MyApplicationContextInitializer;
 import com.baeldung.common.vo.MavenProjectVO;
-import com.baeldung.filevisitor.MavenModulesDetailsFileVisitor;
+import com.baeldung.filevisitor.RepositoryIndex;
 import com.baeldung.utility.TestUtils;
-import org.apache.maven.model.Model;
-import org.apache.maven.model.Profile;
-import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
-import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -19,10 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
-import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
@@ -39,23 +32,20 @@ public class TutorialsTest extends BaseTest {
 
     @Test
     @Tag(GlobalConstants.TAG_SKIP_METRICS)
-    public void givenTheTutorialsRepository_listAllTheModulesThatAreNotBuildInBothDefautlAndIntegrationTests(TestInfo testInfo) throws IOException, GitAPIException, XmlPullParserException {
+    public void givenTheTutorialsRepository_listAllTheModulesThatAreNotBuildInBothDefautlAndIntegrationTests(TestInfo testInfo) throws IOException, GitAPIException {
         recordExecution(GlobalConstants.givenTheTutorialsRepository_listAllTheModulesThatAreNotBuildInBothDefautlAndIntegrationTests);
 
         List<String> testExceptions = getTestExceptions(testInfo);
 
         Path repoLocalPath = Paths.get(tutorialsRepoLocalPath);
-        Utils.fetchGitRepo(GlobalConstants.YES, repoLocalPath, tutorialsRepoGitUrl);
+        GitRepoSync.shared().sync(repoLocalPath, tutorialsRepoGitUrl);
 
-        MavenModulesDetailsFileVisitor modulesFileVisitor = new MavenModulesDetailsFileVisitor(GlobalConstants.tutorialsRepoLocalPath);
-        Files.walkFileTree(repoLocalPath, modulesFileVisitor);
-
-        Map<String, MavenProjectVO> modules = modulesFileVisitor.getModules();
+        RepositoryIndex repositoryIndex = RepositoryIndex.of(repoLocalPath);
+        Map<String, MavenProjectVO> modules = repositoryIndex.getMavenProjects();
         buildParentChildRelation(modules);
 
-        HashMap<String, List<String>> defaultProfiles = new HashMap<>();
-        HashMap<String, List<String>> integrationProfiles = new HashMap<>();
-        extractModulesForProfile(defaultProfiles, integrationProfiles, tutorialsRepoLocalPath);
+        Map<String, List<String>> defaultProfiles = repositoryIndex.getRootProfileModules("default-");
+        Map<String, List<String>> integrationProfiles = repositoryIndex.getRootProfileModules("integration-");
 
         markBuiltModules(modules, defaultProfiles, true);
         markBuiltModules(modules, integrationProfiles, false);
@@ -93,7 +83,7 @@ public class TutorialsTest extends BaseTest {
         return testExceptions;
     }
 
-    private void markBuiltModules(Map<String, MavenProjectVO> allModules, HashMap<String, List<String>> modulesForProfiles, boolean defaultProfiles) {
+    private void markBuiltModules(Map<String, MavenProjectVO> allModules, Map<String, List<String>> modulesForProfiles, boolean defaultProfiles) {
         for (Map.Entry<String, List<String>> modulesForProfile : modulesForProfiles.entrySet()) {
             for (String module : modulesForProfile.getValue()) {
                 logger.info(magentaColordMessage("Processing moduele: {}"), module);
@@ -158,19 +148,4 @@ public class TutorialsTest extends BaseTest {
 
         return null;
     }
-
-    private void extractModulesForProfile(Map<String, List<String>> defaultProfiles, Map<String, List<String>> integrationProfiles, String repoLocalPath) throws IOException, XmlPullParserException {
-        File parentPom = new File(repoLocalPath + "/" + POM_FILE_NAME_LOWERCASE);
-
-        MavenXpp3Reader reader = new MavenXpp3Reader();
-        Model pomModel = reader.read(new FileReader(parentPom));
-        for (Profile profile : pomModel.getProfiles()) {
-            String id = profile.getId();
-            if (id.startsWith("default-")) {
-                defaultProfiles.put(id, profile.getModules());
-            } else if (id.startsWith("integration-")) {
-                integrationProfiles.put(id, profile.getModules());
-            }
-        }
-    }
 }
@@ -0,0 +1,120 @@
+package com.baeldung.utility;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.rholder.retry.RetryException;
+import com.github.rholder.retry.Retryer;
+import com.google.common.collect.Multimap;
+
+/**
+ * Checks the HTTP status of many urls concurrently using {@link HttpClient}.
+ * <br/>
+ * Up to {@code maxRequestsInFlight} urls are checked at once, with at most {@code maxRequestsPerHost}
+ * of them hitting the same host. Each url goes through the given {@link Retryer} and its status is
+ * recorded the same way as {@link TestUtils#inspectURLHttpStatusCode}, honouring the STRICT/RELAXED mode.
+ */
+@ThreadSafe
+public class HttpStatusChecker implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpStatusChecker.class);
+
+    private final Duration timeout;
+    private final int maxRequestsPerHost;
+    private final HttpClient httpClient;
+    private final ExecutorService executor;
+    private final ConcurrentMap<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+    public HttpStatusChecker(int timeoutInMillis, int maxRequestsInFlight, int maxRequestsPerHost) {
+        if (maxRequestsInFlight < 1 || maxRequestsPerHost < 1) {
+            throw new IllegalArgumentException("Requests in flight and requests per host must be positive");
+        }
+        this.timeout = Duration.ofMillis(timeoutInMillis);
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        // @formatter:off
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        // @formatter:on
+        this.executor = Executors.newFixedThreadPool(maxRequestsInFlight, daemonThreads());
+    }
+
+    /**
+     * Schedules the check of the given url. The returned future completes once the url got a final verdict
+     * or the retryer gave up on it; it never completes exceptionally.
+     */
+    public CompletableFuture<Void> check(String fullURL, Multimap<String, Integer> badURLs, Retryer<Boolean> retryer, String modeFor200OKTest) {
+        return CompletableFuture.runAsync(() -> {
+            final Semaphore permits = hostPermits.computeIfAbsent(hostOf(fullURL), host -> new Semaphore(maxRequestsPerHost));
+            permits.acquireUninterruptibly();
+            try {
+                retryer.call(() -> inspectURLHttpStatusCode(fullURL, badURLs, modeFor200OKTest));
+            } catch (RetryException e) {
+                logger.info("Giving up on {} after {} attempts", fullURL, e.getNumberOfFailedAttempts());
+            } catch (ExecutionException e) {
+                logger.error("Error while checking {}: {}", fullURL, e.getMessage());
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+
+    Boolean inspectURLHttpStatusCode(String fullURL, Multimap<String, Integer> badURLs, String modeFor200OKTest) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(fullURL)).timeout(timeout).GET().build();
+            int httpStatusCode = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+
+            return TestUtils.evaluateHttpStatusCode(fullURL, httpStatusCode, badURLs, modeFor200OKTest);
+
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            logger.error("Error while checking {}: {}", fullURL, e.getMessage());
+            badURLs.put(fullURL, -1);
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private static String hostOf(String fullURL) {
+        try {
+            String host = URI.create(fullURL).getHost();
+            return host == null ? "" : host.toLowerCase();
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        final AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "http-status-checker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+}
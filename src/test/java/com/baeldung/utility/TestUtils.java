@@ -3,11 +3,10 @@ package com.baeldung.utility;
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Method;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +33,7 @@ import org.slf4j.LoggerFactory;
 
 import com.baeldung.common.ConsoleColors;
 import com.baeldung.common.GlobalConstants;
+import com.baeldung.common.LinkVerifier;
 import com.baeldung.common.Utils;
 import com.baeldung.common.YAMLProperties;
 import com.baeldung.common.vo.AdSlotsVO;
@@ -76,24 +76,7 @@ public class TestUtils {
         try {
             int httpStatusCode = RestAssured.given().config(restAssuredConfig).get(fullURL).getStatusCode();
 
-            if (HttpStatus.SC_OK == httpStatusCode) {
-                if (!badURLs.get(fullURL).isEmpty()) {
-                    if (GlobalConstants.MODE_RELAXED.equalsIgnoreCase(modeFor200OKTest)) {
-                        badURLs.removeAll(fullURL);
-                    } else {
-                        badURLs.put(fullURL, httpStatusCode);
-                    }
-                }
-                return true;
-            } else if (HttpStatus.SC_FORBIDDEN == httpStatusCode) {
-                logger.info("{} return by {}", httpStatusCode, fullURL);
-                badURLs.put(fullURL, httpStatusCode);
-                return true;
-            } else {
-                logger.info(httpStatusCode + " Status code received from: " + fullURL);
-                badURLs.put(fullURL, httpStatusCode);
-                return null;
-            }
+            return evaluateHttpStatusCode(fullURL, httpStatusCode, badURLs, modeFor200OKTest);
 
         } catch (Exception e) {
             logger.error("Got error while retrieving HTTP status code for:" + fullURL);
@@ -106,32 +89,29 @@ public class TestUtils {
         }
     }
 
-    public static Boolean inspectURLHttpStatusCode(RestAssuredConfig restAssuredConfig, String fullURL) {
-        try {
-            int httpStatusCode = RestAssured.given().header("cache-control", "no-cache").config(restAssuredConfig).head(fullURL).getStatusCode();
-
-            if (HttpStatus.SC_OK == httpStatusCode) {
-                return true;
+    /**
+     * Records the received status in badURLs according to the STRICT/RELAXED mode of the 200OK test.
+     *
+     * @return true when done with the url, null when the retryer should try again
+     */
+    public static Boolean evaluateHttpStatusCode(String fullURL, int httpStatusCode, Multimap<String, Integer> badURLs, String modeFor200OKTest) {
+        if (HttpStatus.SC_OK == httpStatusCode) {
+            if (!badURLs.get(fullURL).isEmpty()) {
+                if (GlobalConstants.MODE_RELAXED.equalsIgnoreCase(modeFor200OKTest)) {
+                    badURLs.removeAll(fullURL);
+                } else {
+                    badURLs.put(fullURL, httpStatusCode);
+                }
             }
-            logger.error(httpStatusCode + " received from: {} ", fullURL);
-            return false;
-        } catch (Exception e) {
-            logger.error("Got error while retrieving HTTP status code for:" + fullURL);
-            logger.error("Error Message: " + e.getMessage());
             return true;
-        }
-    }
-
-    public static int getHttpStatusCode(String URL) {
-        try {
-            URL pageURL = new URL(URL);
-            HttpURLConnection httpURLConnection = (HttpURLConnection) pageURL.openConnection();
-            httpURLConnection.setRequestMethod("GET");
-            return httpURLConnection.getResponseCode();
-        } catch (Exception e) {
-            logger.error("Got error while retrieving HTTP status code for:" + URL);
-            logger.error("Error Message: " + e.getMessage());
-            return -1;
+        } else if (HttpStatus.SC_FORBIDDEN == httpStatusCode) {
+            logger.info("{} return by {}", httpStatusCode, fullURL);
+            badURLs.put(fullURL, httpStatusCode);
+            return true;
+        } else {
+            logger.info(httpStatusCode + " Status code received from: " + fullURL);
+            badURLs.put(fullURL, httpStatusCode);
+            return null;
         }
     }
 
@@ -274,6 +254,28 @@ public class TestUtils {
         return errors;
     }
 
+    /**
+     * @return the Github urls which none of the local repositories can handle
+     */
+    public static List<String> findUrlsNotInLocalRepositories(List<GitHubRepoVO> repositories, List<String> gitHubModuleLinks) {
+        return gitHubModuleLinks.stream()
+            .filter(url -> repositories.stream()
+                .noneMatch(repo -> repo.canHandle(url)))
+            .toList();
+    }
+
+    /**
+     * Verifies the links with the run-wide {@link LinkVerifier}, links failing without a response are reported under -1
+     * and links the host kept throttling aren't reported.
+     */
+    public static Multimap<Integer, String> checkRemoteLinks(Collection<String> links) {
+        Multimap<Integer, String> errors = ArrayListMultimap.create();
+        LinkVerifier.shared()
+            .findBrokenLinks(links)
+            .forEach((url, verdict) -> errors.put(verdict.statusCode(), url));
+        return errors;
+    }
+
     public static Stream<Arguments> redirectsTestDataProvider() {
         return YAMLProperties.redirectsTestData.entrySet().stream().map(entry -> Arguments.of(entry.getKey(), entry.getValue()));
 
@@ -0,0 +1,101 @@
+package com.baeldung.utility.unittest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import com.baeldung.common.GitRepoSync;
+import com.baeldung.common.GitRepoSync.CloneMode;
+
+public class GitRepoSyncUnitTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path origin;
+    private Path local;
+    private String originUrl;
+
+    @BeforeEach
+    void createOrigin() throws GitAPIException, IOException {
+        origin = tempDir.resolve("origin");
+        local = tempDir.resolve("repos").resolve("local");
+        originUrl = origin.toUri().toString();
+        Git.init().setDirectory(origin.toFile()).call().close();
+        commitReadme("v1");
+    }
+
+    @ParameterizedTest
+    @EnumSource(CloneMode.class)
+    void givenAClonedRepo_whenTheOriginChanges_thenTheNextJvmFetchesAndResetsWithoutCloning(CloneMode cloneMode) throws Exception {
+        new GitRepoSync(cloneMode, 2).sync(local, originUrl);
+        assertEquals("v1", Files.readString(local.resolve("README.md")));
+
+        commitReadme("v2");
+        Files.writeString(local.resolve("untracked.txt"), "leftover");
+        Files.writeString(local.resolve(".git").resolve("marker"), "survives when not cloned again");
+
+        new GitRepoSync(cloneMode, 2).sync(local, originUrl);
+
+        assertEquals("v2", Files.readString(local.resolve("README.md")));
+        assertFalse(Files.exists(local.resolve("untracked.txt")));
+        assertTrue(Files.exists(local.resolve(".git").resolve("marker")));
+    }
+
+    @Test
+    void givenAClonedRepo_whenSyncedWithReclone_thenItIsClonedAgain() throws Exception {
+        new GitRepoSync(CloneMode.FULL, 2).sync(local, originUrl);
+        Files.writeString(local.resolve(".git").resolve("marker"), "dropped when cloned again");
+
+        commitReadme("v2");
+        new GitRepoSync(CloneMode.FULL, 2).sync(local, originUrl, true);
+
+        assertEquals("v2", Files.readString(local.resolve("README.md")));
+        assertFalse(Files.exists(local.resolve(".git").resolve("marker")));
+    }
+
+    @Test
+    void givenARepoSyncedInThisJvm_whenSyncedWithReclone_thenItIsClonedAgain() throws Exception {
+        GitRepoSync gitRepoSync = new GitRepoSync(CloneMode.FULL, 2);
+        gitRepoSync.sync(local, originUrl);
+        Files.writeString(local.resolve(".git").resolve("marker"), "dropped when cloned again");
+
+        commitReadme("v2");
+        gitRepoSync.sync(local, originUrl, true);
+
+        assertEquals("v2", Files.readString(local.resolve("README.md")));
+        assertFalse(Files.exists(local.resolve(".git").resolve("marker")));
+    }
+
+    @Test
+    void givenARepoSyncedInThisJvm_whenSyncedAgain_thenItIsNotFetchedAgain() throws Exception {
+        GitRepoSync gitRepoSync = new GitRepoSync(CloneMode.FULL, 2);
+        gitRepoSync.sync(local, originUrl);
+
+        commitReadme("v2");
+        gitRepoSync.sync(local, originUrl);
+
+        assertEquals("v1", Files.readString(local.resolve("README.md")));
+    }
+
+    private void commitReadme(String content) throws GitAPIException, IOException {
+        Files.writeString(origin.resolve("README.md"), content);
+        try (Git git = Git.open(origin.toFile())) {
+            git.add().addFilepattern("README.md").call();
+            git.commit().setMessage(content).setAuthor("test", "test@baeldung.com").setCommitter("test", "test@baeldung.com").call();
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.baeldung.utility.unittest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.baeldung.common.EmbeddedHttpServer;
+import com.baeldung.common.GlobalConstants;
+import com.baeldung.common.Utils;
+import com.baeldung.utility.HttpStatusChecker;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.Multimaps;
+
+public class HttpStatusCheckerUnitTest {
+
+    private EmbeddedHttpServer server;
+    private String baseUrl;
+    private final AtomicInteger flakyHits = new AtomicInteger();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = EmbeddedHttpServer.start()
+            .handle("/ok", exchange -> EmbeddedHttpServer.respond(exchange, 200))
+            .handle("/forbidden", exchange -> EmbeddedHttpServer.respond(exchange, 403))
+            // fails on the first hit only
+            .handle("/flaky", exchange -> EmbeddedHttpServer.respond(exchange, flakyHits.getAndIncrement() == 0 ? 500 : 200));
+        baseUrl = server.getBaseUrl();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    void givenAUrlFailingOnce_whenCheckedInRelaxedMode_thenItIsNotReported() {
+        Multimap<String, Integer> badURLs = check(GlobalConstants.MODE_RELAXED, "/flaky");
+
+        assertTrue(badURLs.isEmpty());
+    }
+
+    @Test
+    void givenAUrlFailingOnce_whenCheckedInStrictMode_thenAllReceivedStatusesAreReported() {
+        Multimap<String, Integer> badURLs = check(GlobalConstants.MODE_STRICT, "/flaky");
+
+        assertEquals(List.of(500, 200), badURLs.get(baseUrl + "/flaky"));
+    }
+
+    @Test
+    void givenManyUrls_whenCheckedConcurrently_thenOnlyTheForbiddenOneIsReportedOnce() {
+        String[] paths = IntStream.range(0, 50).mapToObj(i -> i == 25 ? "/forbidden" : "/ok?page=" + i).toArray(String[]::new);
+
+        Multimap<String, Integer> badURLs = check(GlobalConstants.MODE_STRICT, paths);
+
+        assertEquals(1, badURLs.size());
+        assertEquals(List.of(403), badURLs.get(baseUrl + "/forbidden"));
+    }
+
+    private Multimap<String, Integer> check(String mode, String... paths) {
+        Multimap<String, Integer> badURLs = Multimaps.synchronizedListMultimap(ArrayListMultimap.create());
+        try (HttpStatusChecker checker = new HttpStatusChecker(5000, 8, 4)) {
+            CompletableFuture.allOf(IntStream.range(0, paths.length)
+                .mapToObj(i -> checker.check(baseUrl + paths[i], badURLs, Utils.getGuavaRetryer(3), mode))
+                .toArray(CompletableFuture[]::new))
+                .join();
+        }
+        return badURLs;
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.baeldung.utility.unittest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.baeldung.common.GlobalConstants;
+import com.baeldung.common.JavaConstructExtractor;
+import com.baeldung.common.JavaConstructSet;
+import com.baeldung.common.vo.JavaConstruct;
+
+public class JavaConstructExtractorUnitTest {
+
+    private static final String CLASS_CODE = "public class Greeter { public String greet() { return \"hi\"; } void wave() {} }";
+    private static final String METHODS_CODE = "public String greet() { return \"hi\"; }";
+
+    private final JavaConstructExtractor extractor = new JavaConstructExtractor(2, 100);
+
+    @Test
+    void givenACompilationUnit_whenExtracted_thenClassesAndMethodsAreFound() {
+        List<JavaConstruct> javaConstructs = extractor.extract(List.of(CLASS_CODE));
+
+        assertEquals(List.of("ClassOrInterface , ,Greeter", "Method , Greeter,greet", "Method , Greeter,wave"), javaConstructs.stream().map(JavaConstruct::toString).toList());
+    }
+
+    @Test
+    void givenASnippetWithOnlyMethods_whenExtracted_thenTheMethodsBelongToTheDummyClass() {
+        List<JavaConstruct> javaConstructs = extractor.extract(List.of(METHODS_CODE));
+
+        assertEquals(2, javaConstructs.size());
+        assertEquals(GlobalConstants.CONSTRUCT_DUMMY_CLASS_NAME, javaConstructs.get(1).getConstructParentTypeName());
+        assertEquals("greet", javaConstructs.get(1).getConstructName());
+    }
+
+    @Test
+    void givenTheSameCodeTwice_whenExtracted_thenConstructsAreListedOnceAndNotSharedBetweenCalls() {
+        List<JavaConstruct> first = extractor.extract(List.of(CLASS_CODE, CLASS_CODE));
+        first.forEach(javaConstruct -> javaConstruct.setFoundOnGitHub(true));
+
+        List<JavaConstruct> second = extractor.extract(List.of(CLASS_CODE));
+
+        assertEquals(3, first.size());
+        assertEquals(3, second.size());
+        assertTrue(second.stream().noneMatch(JavaConstruct::isFoundOnGitHub));
+    }
+
+    @Test
+    void givenSeveralSources_whenExtractedInParallel_thenResultsFollowTheSourcesAndFailingSourcesAreLeftOut() {
+        Map<String, List<JavaConstruct>> javaConstructs = extractor.extractAll(List.of("first", "failing", "second"), source -> {
+            if (source.equals("failing")) {
+                throw new IOException("not found");
+            }
+            return List.of(source.equals("first") ? CLASS_CODE : METHODS_CODE);
+        });
+
+        assertEquals(List.of("first", "second"), List.copyOf(javaConstructs.keySet()));
+        assertEquals(3, javaConstructs.get("first").size());
+        assertEquals(2, javaConstructs.get("second").size());
+    }
+
+    @Test
+    void givenConstructsOnGitHub_whenLookedUp_thenTheyMatchLikeEqualsTo() {
+        JavaConstructSet javaConstructsOnGitHub = new JavaConstructSet(extractor.extract(List.of(CLASS_CODE)));
+
+        assertTrue(javaConstructsOnGitHub.contains(new JavaConstruct(GlobalConstants.CONSTRUCT_TYPE_METHOD, "Greeter", "greet")));
+        assertTrue(javaConstructsOnGitHub.contains(new JavaConstruct(GlobalConstants.CONSTRUCT_TYPE_METHOD, GlobalConstants.CONSTRUCT_DUMMY_CLASS_NAME, "wave")));
+        assertFalse(javaConstructsOnGitHub.contains(new JavaConstruct(GlobalConstants.CONSTRUCT_TYPE_METHOD, "Other", "greet")));
+        assertFalse(javaConstructsOnGitHub.contains(new JavaConstruct(GlobalConstants.CONSTRUCT_TYPE_CLASS_OR_INTERFACE, null, "greet")));
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.baeldung.utility.unittest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.baeldung.common.GlobalConstants;
+import com.baeldung.common.JavaConstructExtractor;
+import com.baeldung.common.JavaConstructIndex;
+import com.baeldung.common.JavaConstructSet;
+import com.baeldung.common.vo.GitHubRepoVO;
+import com.baeldung.common.vo.JavaConstruct;
+
+public class JavaConstructIndexUnitTest {
+
+    private static final String MODULE_URL = "https://github.com/baeldung/repo/tree/master/module";
+
+    @TempDir
+    Path tempDir;
+
+    private Path repo;
+    private Path indexFile;
+    private List<GitHubRepoVO> repos;
+    private final JavaConstructExtractor extractor = new JavaConstructExtractor(2, 100);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        repo = tempDir.resolve("repo");
+        indexFile = tempDir.resolve("index/java-constructs-index.json");
+        repos = List.of(new GitHubRepoVO("repo", "https://github.com/baeldung/repo.git", repo.toString(), "https://github.com/baeldung/repo/tree/master"));
+
+        Path sources = repo.resolve("module/src/main/java/com/baeldung");
+        Files.createDirectories(sources);
+        Files.writeString(sources.resolve("Greeter.java"), "package com.baeldung; public class Greeter { public String greet() { return \"hi\"; } }");
+        Files.writeString(sources.resolve("Waver.java"), "package com.baeldung; class Waver { void wave() {} }");
+        Files.writeString(repo.resolve("module/README.md"), "class NotJava {}");
+        Files.createDirectories(repo.resolve("module-other"));
+        Files.writeString(repo.resolve("module-other/Other.java"), "class Other { void greet() {} }");
+    }
+
+    @Test
+    void givenAModuleInALocalCheckout_whenConstructsAreRequested_thenOnlyTheJavaFilesUnderTheModuleAreIncluded() throws IOException {
+        JavaConstructIndex index = JavaConstructIndex.load(indexFile, repos, extractor);
+
+        JavaConstructSet javaConstructs = index.getModuleConstructs(MODULE_URL).orElseThrow();
+
+        assertEquals(4, javaConstructs.size());
+        assertTrue(javaConstructs.contains(method("Greeter", "greet")));
+        assertTrue(javaConstructs.contains(method("Waver", "wave")));
+        assertFalse(javaConstructs.contains(method("Other", "greet")));
+        assertEquals(6, index.getModuleConstructs("https://github.com/baeldung/repo/tree/master").orElseThrow().size());
+        assertTrue(index.getModuleConstructs("https://github.com/baeldung/repo/tree/master/missing-module").isEmpty());
+        assertTrue(index.getModuleConstructs("https://github.com/baeldung/another-repo/tree/master/module").isEmpty());
+    }
+
+    @Test
+    void givenAStoredIndex_whenHeadMoves_thenTheChangedJavaFilesAreParsedAgain() throws GitAPIException, IOException {
+        try (Git git = Git.init().setDirectory(repo.toFile()).call()) {
+            commitAll(git, "v1");
+            JavaConstructIndex first = JavaConstructIndex.load(indexFile, repos, extractor);
+            assertEquals(3, first.getFileCount());
+
+            Path sources = repo.resolve("module/src/main/java/com/baeldung");
+            Files.writeString(sources.resolve("Greeter.java"), "package com.baeldung; public class Greeter { public String greetAgain() { return \"hi\"; } }");
+            Files.delete(sources.resolve("Waver.java"));
+            commitAll(git, "v2");
+            // never committed, so only a full walk of the repository would index it
+            Files.writeString(sources.resolve("Untracked.java"), "class Untracked {}");
+
+            JavaConstructIndex second = JavaConstructIndex.load(indexFile, repos, extractor);
+            JavaConstructSet javaConstructs = second.getModuleConstructs(MODULE_URL).orElseThrow();
+
+            assertEquals(2, second.getFileCount());
+            assertEquals(2, javaConstructs.size());
+            assertTrue(javaConstructs.contains(method("Greeter", "greetAgain")));
+            assertFalse(javaConstructs.contains(method("Greeter", "greet")));
+            assertFalse(javaConstructs.contains(method("Waver", "wave")));
+
+            JavaConstructIndex third = JavaConstructIndex.load(indexFile, repos, extractor);
+            assertEquals(2, third.getFileCount());
+            assertTrue(third.getModuleConstructs(MODULE_URL).orElseThrow().contains(method("Greeter", "greetAgain")));
+        }
+    }
+
+    private static JavaConstruct method(String parentTypeName, String name) {
+        return new JavaConstruct(GlobalConstants.CONSTRUCT_TYPE_METHOD, parentTypeName, name);
+    }
+
+    private static void commitAll(Git git, String message) throws GitAPIException {
+        git.add().addFilepattern(".").call();
+        git.add().addFilepattern(".").setUpdate(true).call();
+        git.commit().setMessage(message).setAuthor("test", "test@baeldung.com").setCommitter("test", "test@baeldung.com").call();
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.baeldung.utility.unittest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.baeldung.common.vo.LinkVO;
+import com.baeldung.common.vo.MavenProjectVO;
+import com.baeldung.filevisitor.RepositoryIndex;
+
+public class RepositoryIndexUnitTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path repo;
+
+    @BeforeEach
+    void createRepo() throws IOException {
+        repo = tempDir.resolve("tutorials");
+        writePom(repo, "parent-modules", null, "<modules><module>core-java</module><module>spring-web</module></modules>"
+            + "<profiles><profile><id>default-first</id><modules><module>core-java</module></modules></profile>"
+            + "<profile><id>integration-lite-first</id><modules><module>spring-web</module></modules></profile></profiles>");
+        writePom(repo.resolve("core-java"), "core-java", "parent-modules", "");
+        Files.writeString(repo.resolve("core-java").resolve("README.md"), "### Relevant Articles:\n- [Java Streams](https://www.baeldung.com/java-streams)\n");
+        writePom(repo.resolve("spring-web"), "spring-mvc", "parent-modules", "");
+        Files.writeString(repo.resolve("spring-web").resolve("README.md"), "## Spring Web\n");
+        writePom(repo.resolve("no-readme"), "no-readme", "core-java", "");
+        Files.createDirectories(repo.resolve("broken"));
+        Files.writeString(repo.resolve("broken").resolve("pom.xml"), "<project><artifactId>broken");
+        Files.createDirectories(repo.resolve(".git"));
+        Files.writeString(repo.resolve(".git").resolve("pom.xml"), "<project/>");
+    }
+
+    @AfterEach
+    void dropIndex() {
+        RepositoryIndex.invalidate(repo);
+    }
+
+    @Test
+    void givenARepository_whenIndexed_thenModulesAndReadmesCanBeQueried() {
+        RepositoryIndex index = RepositoryIndex.of(repo);
+
+        assertEquals(5, index.getModules().size());
+        assertEquals(List.of(repo.resolve("core-java/README.md").toString(), repo.resolve("spring-web/README.md").toString()), index.getReadmePaths());
+        assertEquals(List.of("https://www.baeldung.com/java-streams"),
+            index.getBaeldungLinks(repo.resolve("core-java/README.md").toString()).stream().map(LinkVO::getLink).toList());
+        assertEquals(List.of(repo.resolve("spring-web/README.md").toString()), index.findEmptyReadmes());
+        assertEquals(List.of(repo.resolve("broken").toString(), repo.resolve("no-readme").toString(), repo.toString()), index.findModulesWithMissingReadme());
+        assertEquals(List.of(repo.resolve("spring-web/pom.xml").toString()), index.findUnalignedModules(List.of()));
+        assertEquals(List.of(), index.findUnalignedModules(List.of("/spring-web")));
+        assertEquals(List.of(repo.resolve("broken/pom.xml").toString()), index.findUnparsableModules(List.of()));
+        assertEquals(List.of(repo.resolve("core-java/pom.xml").toString(), repo.resolve("spring-web/pom.xml").toString()),
+            index.findChildModules("parent-modules"));
+    }
+
+    @Test
+    void givenARepository_whenMavenProjectsAreRequested_thenTheRootIsSkippedAndProfilesComeFromTheRootPom() {
+        RepositoryIndex index = RepositoryIndex.of(repo);
+
+        Map<String, MavenProjectVO> projects = index.getMavenProjects();
+
+        assertEquals(3, projects.size());
+        assertTrue(projects.containsKey("spring-mvc"));
+        assertNotSame(projects.get("core-java"), index.getMavenProjects().get("core-java"));
+        assertEquals(Map.of("default-first", List.of("core-java")), index.getRootProfileModules("default-"));
+        assertEquals(Map.of("integration-lite-first", List.of("spring-web")), index.getRootProfileModules("integration-"));
+    }
+
+    @Test
+    void givenAnIndexedRepository_whenIndexedAgain_thenTheCachedIndexIsReturnedUntilInvalidated() {
+        RepositoryIndex index = RepositoryIndex.of(repo);
+
+        assertSame(index, RepositoryIndex.of(repo.toString()));
+
+        RepositoryIndex.invalidate(repo);
+
+        assertNotSame(index, RepositoryIndex.of(repo));
+    }
+
+    @Test
+    void givenAStoredIndex_whenHeadMoves_thenOnlyTheFilesChangedSinceTheStoredCommitAreParsedAgain() throws GitAPIException, IOException {
+        Path indexDirectory = tempDir.resolve("index");
+        Files.delete(repo.resolve(".git").resolve("pom.xml"));
+        Files.delete(repo.resolve(".git"));
+        try (Git git = Git.init().setDirectory(repo.toFile()).call()) {
+            commitAll(git, "v1");
+            RepositoryIndex first = RepositoryIndex.load(repo, indexDirectory);
+            assertEquals(List.of(repo.resolve("spring-web/README.md").toString()), first.findEmptyReadmes());
+
+            Files.writeString(repo.resolve("spring-web").resolve("README.md"), "- [Spring MVC](https://www.baeldung.com/spring-mvc)\n");
+            String head = commitAll(git, "v2");
+            // never committed, so only a full walk of the repository would index it
+            writePom(repo.resolve("untracked"), "untracked", "parent-modules", "");
+
+            RepositoryIndex second = RepositoryIndex.load(repo, indexDirectory);
+            assertEquals(head, second.getHeadCommit().orElseThrow());
+            assertEquals(List.of(), second.findEmptyReadmes());
+            assertEquals(5, second.getModules().size());
+
+            RepositoryIndex third = RepositoryIndex.load(repo, indexDirectory);
+            assertEquals(head, third.getHeadCommit().orElseThrow());
+            assertEquals(List.of(), third.findEmptyReadmes());
+            assertEquals(second.findModulesWithMissingReadme(), third.findModulesWithMissingReadme());
+            assertEquals(second.findUnparsableModules(List.of()), third.findUnparsableModules(List.of()));
+            assertEquals(second.getRootProfileModules("default-"), third.getRootProfileModules("default-"));
+        }
+    }
+
+    private static String commitAll(Git git, String message) throws GitAPIException {
+        git.add().addFilepattern(".").call();
+        return git.commit().setMessage(message).setAuthor("test", "test@baeldung.com").setCommitter("test", "test@baeldung.com").call().name();
+    }
+
+    private static void writePom(Path directory, String artifactId, String parentArtifactId, String body) throws IOException {
+        Files.createDirectories(directory);
+        String parent = parentArtifactId == null ? "" : "<parent><groupId>com.baeldung</groupId><artifactId>" + parentArtifactId + "</artifactId><version>1.0.0</version></parent>";
+        Files.writeString(directory.resolve("pom.xml"), "<project><modelVersion>4.0.0</modelVersion>" + parent
+            + "<groupId>com.baeldung</groupId><artifactId>" + artifactId + "</artifactId><version>1.0.0</version>" + body + "</project>");
+    }
+
+}